@@ -66,6 +66,8 @@ delete_crd_instances() {
     info "Deleting CRD instances in namespace '$NAMESPACE'..."
 
     local crds=(
+        "gatewaypolicies.messaging.example.com"
+        "scopes.messaging.example.com"
         "topics.messaging.example.com"
         "acls.messaging.example.com"
         "consumergroups.messaging.example.com"
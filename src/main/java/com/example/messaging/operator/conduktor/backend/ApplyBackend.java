@@ -0,0 +1,24 @@
+package com.example.messaging.operator.conduktor.backend;
+
+import com.example.messaging.operator.conduktor.cli.CliResult;
+import com.example.messaging.operator.conduktor.model.ConduktorResource;
+import java.util.List;
+
+/**
+ * Applies Conduktor resources to Console and Gateway. Implementations report outcomes as {@link CliResult}s: exit code 0 on success, non-zero otherwise.
+ */
+public interface ApplyBackend extends AutoCloseable {
+
+    CliResult apply(ConduktorResource<?> resource);
+
+    /**
+     * Apply several resources. Results are returned in input order.
+     */
+    default List<CliResult> applyBatch(List<? extends ConduktorResource<?>> resources) {
+        return resources.stream().<CliResult>map(this::apply).toList();
+    }
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.messaging.operator.conduktor.backend;
+
+import com.example.messaging.operator.conduktor.cli.ConduktorCli;
+import com.example.messaging.operator.conduktor.cli.ConduktorCliCredentials;
+import java.util.Arrays;
+
+/**
+ * Selects how reconciled resources reach Conduktor, configured with {@code CONDUKTOR_APPLY_BACKEND}.
+ */
+public enum ApplyBackendType {
+    /** Fork the conduktor CLI per batch. */
+    CLI,
+    /** Call the Console and Gateway HTTP APIs in-process, falling back to the CLI when the API is unreachable. */
+    HTTP;
+
+    public ApplyBackend create(ConduktorCliCredentials credentials) {
+        ConduktorCli cli = new ConduktorCli(credentials);
+        return switch (this) {
+            case CLI -> cli;
+            case HTTP -> new ConduktorHttpBackend(credentials, cli);
+        };
+    }
+
+    public static ApplyBackendType fromEnvironment() {
+        return fromValue(System.getenv().getOrDefault("CONDUKTOR_APPLY_BACKEND", "cli"));
+    }
+
+    public static ApplyBackendType fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(type -> type.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown apply backend: " + value));
+    }
+}
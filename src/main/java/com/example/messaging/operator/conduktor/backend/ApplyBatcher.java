@@ -0,0 +1,152 @@
+package com.example.messaging.operator.conduktor.backend;
+
+import com.example.messaging.operator.conduktor.cli.CliResult;
+import com.example.messaging.operator.conduktor.model.ConduktorResource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces individual apply requests into micro-batches.
+ *
+ * <p>
+ * The first submission opens a window of {@code windowMs}; everything submitted until the window closes, or until {@code maxBatchSize} resources are pending, is applied
+ * with a single batch call. Each submission gets a future completed with its own per-resource result. Configured from {@code CONDUKTOR_BATCH_WINDOW_MS} (default 50)
+ * and {@code CONDUKTOR_BATCH_MAX_SIZE} (default 50).
+ */
+public class ApplyBatcher implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ApplyBatcher.class);
+
+    private final Function<List<ConduktorResource<?>>, List<CliResult>> batchApply;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final List<PendingApply> pending = new ArrayList<>();
+    private final Thread flusher;
+    private long windowOpenedAt;
+    private boolean closed;
+
+    public ApplyBatcher(Function<List<ConduktorResource<?>>, List<CliResult>> batchApply, long windowMs, int maxBatchSize) {
+        if (windowMs < 0 || maxBatchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch settings: window=%dms, maxSize=%d".formatted(windowMs, maxBatchSize));
+        }
+        this.batchApply = batchApply;
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.flusher = new Thread(this::runFlusher, "conduktor-apply-batcher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    public static ApplyBatcher fromEnvironment(ApplyBackend backend) {
+        long windowMs = Long.parseLong(System.getenv().getOrDefault("CONDUKTOR_BATCH_WINDOW_MS", "50"));
+        int maxBatchSize = Integer.parseInt(System.getenv().getOrDefault("CONDUKTOR_BATCH_MAX_SIZE", "50"));
+        return new ApplyBatcher(backend::applyBatch, windowMs, maxBatchSize);
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public CompletableFuture<CliResult> submit(ConduktorResource<?> resource) {
+        CompletableFuture<CliResult> future = new CompletableFuture<>();
+        lock.lock();
+        try {
+            if (closed) {
+                future.complete(new CliResult(-1, "", "Apply batcher is closed"));
+                return future;
+            }
+            if (pending.isEmpty()) {
+                windowOpenedAt = System.nanoTime();
+            }
+            pending.add(new PendingApply(resource, future));
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+        return future;
+    }
+
+    private void runFlusher() {
+        while (true) {
+            List<PendingApply> batch;
+            try {
+                batch = nextBatch();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (batch == null) {
+                return;
+            }
+            flush(batch);
+        }
+    }
+
+    private List<PendingApply> nextBatch() throws InterruptedException {
+        lock.lock();
+        try {
+            while (pending.isEmpty() && !closed) {
+                changed.await();
+            }
+            while (!closed && pending.size() < maxBatchSize) {
+                long remaining = windowMs - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - windowOpenedAt);
+                if (remaining <= 0) {
+                    break;
+                }
+                changed.await(remaining, TimeUnit.MILLISECONDS);
+            }
+            if (pending.isEmpty()) {
+                return null;
+            }
+            List<PendingApply> batch = new ArrayList<>(pending.subList(0, Math.min(pending.size(), maxBatchSize)));
+            pending.subList(0, batch.size()).clear();
+            windowOpenedAt = System.nanoTime();
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flush(List<PendingApply> batch) {
+        log.debug("Flushing apply batch of {} resources", batch.size());
+        try {
+            List<CliResult> results = batchApply.apply(batch.stream().<ConduktorResource<?>>map(PendingApply::resource).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.error("Batch apply failed: {}", e.getMessage(), e);
+            batch.forEach(apply -> apply.future().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Stops accepting submissions and flushes whatever is still pending.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record PendingApply(ConduktorResource<?> resource, CompletableFuture<CliResult> future) {
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.messaging.operator.conduktor.backend;
+
+import com.example.messaging.operator.conduktor.cli.CliResult;
+import com.example.messaging.operator.conduktor.cli.ConduktorCliCredentials;
+import com.example.messaging.operator.conduktor.model.ConduktorInterceptor;
+import com.example.messaging.operator.conduktor.model.ConduktorResource;
+import com.example.messaging.operator.conduktor.model.ConduktorTopic;
+import com.example.messaging.operator.conduktor.model.GatewayServiceAccount;
+import com.example.messaging.operator.conduktor.model.VirtualCluster;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Credentials;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process apply backend that upserts resources through the Console and Gateway REST APIs.
+ *
+ * <p>
+ * One pooled OkHttp client keeps connections alive across reconciles, and {@link #applyBatch} issues its requests concurrently. When the API cannot be reached at all
+ * (connection refused, DNS, timeout) the resource is handed to the optional fallback backend, normally the CLI. Batched fallbacks run on a small dedicated pool since
+ * each may block on a CLI process, and every batched request completes with a result even if reading the response or the fallback itself throws.
+ */
+public class ConduktorHttpBackend implements ApplyBackend {
+    private static final Logger log = LoggerFactory.getLogger(ConduktorHttpBackend.class);
+    private static final MediaType JSON = MediaType.parse("application/json");
+    private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 16;
+    private static final int FALLBACK_THREADS = 4;
+
+    private final ConduktorCliCredentials credentials;
+    private final ApplyBackend fallback;
+    private final OkHttpClient httpClient;
+    private final ExecutorService fallbackExecutor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public ConduktorHttpBackend(ConduktorCliCredentials credentials, ApplyBackend fallback) {
+        this(credentials, fallback, Integer.parseInt(System.getenv().getOrDefault("CONDUKTOR_HTTP_MAX_CONCURRENT", String.valueOf(DEFAULT_MAX_CONCURRENT_REQUESTS))));
+    }
+
+    public ConduktorHttpBackend(ConduktorCliCredentials credentials, ApplyBackend fallback, int maxConcurrentRequests) {
+        this.credentials = credentials;
+        this.fallback = fallback;
+
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxConcurrentRequests);
+        dispatcher.setMaxRequestsPerHost(maxConcurrentRequests);
+        this.httpClient = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(maxConcurrentRequests, 5, TimeUnit.MINUTES))
+                .connectTimeout(5, TimeUnit.SECONDS)
+                .readTimeout(30, TimeUnit.SECONDS)
+                .build();
+        this.fallbackExecutor = Executors.newFixedThreadPool(FALLBACK_THREADS, r -> {
+            Thread thread = new Thread(r, "conduktor-http-fallback");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public CliResult apply(ConduktorResource<?> resource) {
+        Request request;
+        try {
+            request = buildRequest(resource);
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            return new CliResult(-1, "", "Cannot build request for %s/%s: %s".formatted(resource.getKind(), nameOf(resource), e.getMessage()));
+        }
+
+        try (Response response = httpClient.newCall(request).execute()) {
+            return toResult(resource, response);
+        } catch (IOException e) {
+            return fallback(resource, e);
+        }
+    }
+
+    @Override
+    public List<CliResult> applyBatch(List<? extends ConduktorResource<?>> resources) {
+        List<CompletableFuture<CliResult>> futures = new ArrayList<>(resources.size());
+        for (ConduktorResource<?> resource : resources) {
+            futures.add(enqueue(resource));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private CompletableFuture<CliResult> enqueue(ConduktorResource<?> resource) {
+        CompletableFuture<CliResult> future = new CompletableFuture<>();
+        Request request;
+        try {
+            request = buildRequest(resource);
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            future.complete(new CliResult(-1, "", "Cannot build request for %s/%s: %s".formatted(resource.getKind(), nameOf(resource), e.getMessage())));
+            return future;
+        }
+
+        httpClient.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    future.complete(toResult(resource, response));
+                } catch (IOException | RuntimeException e) {
+                    future.complete(new CliResult(-1, "", "Failed to read response: %s".formatted(e.getMessage())));
+                }
+            }
+
+            @Override
+            public void onFailure(Call call, IOException e) {
+                // Fallback may fork a process; keep it off the OkHttp dispatcher threads
+                try {
+                    fallbackExecutor.execute(() -> {
+                        try {
+                            future.complete(fallback(resource, e));
+                        } catch (Throwable t) {
+                            future.complete(new CliResult(-1, "", "Fallback apply failed: %s".formatted(t.getMessage())));
+                        }
+                    });
+                } catch (RejectedExecutionException rejected) {
+                    future.complete(new CliResult(-1, "", "HTTP apply failed and backend is closed: %s".formatted(e.getMessage())));
+                }
+            }
+        });
+        return future;
+    }
+
+    Request buildRequest(ConduktorResource<?> resource) throws JsonProcessingException {
+        if (resource.getKind() == null) {
+            throw new IllegalArgumentException("Resource kind is required");
+        }
+        RequestBody body = RequestBody.create(objectMapper.writeValueAsString(resource), JSON);
+        return switch (resource.getKind()) {
+            case ConduktorTopic.KIND -> new Request.Builder()
+                    .url(consoleUrl("public", "kafka", "v2", "cluster", resource.getMetadata().getCluster(), "topic"))
+                    .header("Authorization", "Bearer " + credentials.getConsoleToken())
+                    .put(body)
+                    .build();
+            case VirtualCluster.KIND -> gatewayRequest("virtual-cluster", body);
+            case GatewayServiceAccount.KIND -> gatewayRequest("service-account", body);
+            case ConduktorInterceptor.KIND -> gatewayRequest("interceptor", body);
+            default -> throw new IllegalArgumentException("Unsupported resource kind: " + resource.getKind());
+        };
+    }
+
+    private Request gatewayRequest(String resourcePath, RequestBody body) {
+        return new Request.Builder()
+                .url(url(credentials.getGatewayUrl(), "gateway", "v2", resourcePath))
+                .header("Authorization", Credentials.basic(credentials.getGatewayUser(), credentials.getGatewayPassword()))
+                .put(body)
+                .build();
+    }
+
+    private HttpUrl consoleUrl(String... segments) {
+        return url(credentials.getConsoleUrl(), segments);
+    }
+
+    private static HttpUrl url(String baseUrl, String... segments) {
+        HttpUrl base = HttpUrl.parse(baseUrl);
+        if (base == null) {
+            throw new IllegalArgumentException("Invalid base URL: " + baseUrl);
+        }
+        HttpUrl.Builder builder = base.newBuilder();
+        for (String segment : segments) {
+            builder.addPathSegment(segment);
+        }
+        return builder.build();
+    }
+
+    private CliResult toResult(ConduktorResource<?> resource, Response response) throws IOException {
+        String body = response.body() != null ? response.body().string() : "";
+        if (response.isSuccessful()) {
+            log.debug("Applied {}/{} via HTTP: {}", resource.getKind(), nameOf(resource), response.code());
+            return new CliResult(0, body, "");
+        }
+        return new CliResult(response.code(), "", "HTTP %d applying %s/%s: %s".formatted(response.code(), resource.getKind(), nameOf(resource), body));
+    }
+
+    private CliResult fallback(ConduktorResource<?> resource, IOException e) {
+        if (fallback == null) {
+            return new CliResult(-1, "", "HTTP apply failed: %s".formatted(e.getMessage()));
+        }
+        log.warn("HTTP apply of {}/{} failed ({}), falling back", resource.getKind(), nameOf(resource), e.getMessage());
+        return fallback.apply(resource);
+    }
+
+    private static String nameOf(ConduktorResource<?> resource) {
+        return resource.getMetadata() != null ? resource.getMetadata().getName() : null;
+    }
+
+    @Override
+    public void close() {
+        httpClient.dispatcher().executorService().shutdown();
+        httpClient.connectionPool().evictAll();
+        fallbackExecutor.shutdown();
+        if (fallback != null) {
+            fallback.close();
+        }
+    }
+}
@@ -1,6 +1,15 @@
 package com.example.messaging.operator.conduktor.cli;
 
-public record CliResult(int exitCode, String stdout, String stderr) {
+import java.time.Duration;
+
+/**
+ * Outcome of one apply: exit code, captured output and how long the invocation took.
+ */
+public record CliResult(int exitCode, String stdout, String stderr, Duration duration) {
+
+    public CliResult(int exitCode, String stdout, String stderr) {
+        this(exitCode, stdout, stderr, Duration.ZERO);
+    }
 
     public boolean isSuccess() {
         return exitCode == 0;
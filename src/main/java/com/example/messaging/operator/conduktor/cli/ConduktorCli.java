@@ -1,18 +1,22 @@
 package com.example.messaging.operator.conduktor.cli;
 
+import com.example.messaging.operator.conduktor.backend.ApplyBackend;
+import com.example.messaging.operator.conduktor.model.ConduktorMetadata;
 import com.example.messaging.operator.conduktor.model.ConduktorResource;
 import com.example.messaging.operator.conduktor.yaml.ConduktorYamlWriter;
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,12 +31,24 @@ import org.slf4j.LoggerFactory;
  * </ul>
  *
  * <p>
+ * {@link #applyBatch} applies many resources with one CLI process per target (Gateway per vCluster, Console per cluster) by rendering each group as a multi-document
+ * YAML stream, then maps the CLI's {@code Kind/name} output lines back to per-resource results.
+ *
+ * <p>
+ * YAML is piped to the CLI's stdin rather than written to temp files, and every result records how long its invocation took.
+ *
+ * <p>
  * Credentials are loaded from environment variables or mounted Kubernetes Secrets via {@link ConduktorCliCredentials}.
  */
-public class ConduktorCli {
+public class ConduktorCli implements ApplyBackend {
 
     private static final Logger log = LoggerFactory.getLogger(ConduktorCli.class);
 
+    private static final String STDIN_PATH = "/dev/stdin";
+    private static final int MAX_CAPTURE_BYTES = 1024 * 1024;
+    /** What the CLI prints after {@code Kind/name:} for a resource it applied or deleted. */
+    private static final Set<String> SUCCESS_OUTCOMES = Set.of("Created", "Updated", "NotChanged", "Deleted");
+
     private final String cliPath;
     private final int timeoutSeconds;
     private final ConduktorYamlWriter yamlWriter;
@@ -69,6 +85,7 @@ public class ConduktorCli {
     /**
      * Apply a Conduktor resource to Console/Gateway. Requires credentials to be configured.
      */
+    @Override
     public CliResult apply(ConduktorResource<?> resource) {
         if (credentials == null) {
             return new CliResult(-1, "", "Credentials not configured. Use ConduktorCli(credentials) constructor.");
@@ -77,21 +94,111 @@ public class ConduktorCli {
     }
 
     private CliResult executeApply(ConduktorResource<?> resource, boolean dryRun) {
-        Path yamlFile = null;
-        try {
-            yamlFile = yamlWriter.writeToTempFile(resource);
-            log.debug("Wrote Conduktor YAML to {}", yamlFile);
-
-            return executeCommand(yamlFile, dryRun);
-        } finally {
-            if (yamlFile != null) {
-                try {
-                    Files.deleteIfExists(yamlFile);
-                } catch (IOException e) {
-                    log.warn("Failed to delete temp file: {}", yamlFile, e);
-                }
+        return executeCommand(yamlWriter.toYaml(resource), dryRun);
+    }
+
+    /**
+     * Apply many Conduktor resources, one CLI invocation per target group. Results are returned in input order.
+     */
+    @Override
+    public List<CliResult> applyBatch(List<? extends ConduktorResource<?>> resources) {
+        if (credentials == null) {
+            CliResult noCredentials = new CliResult(-1, "", "Credentials not configured. Use ConduktorCli(credentials) constructor.");
+            return resources.stream().map(resource -> noCredentials).toList();
+        }
+        return executeBatch(resources, false);
+    }
+
+    /**
+     * Validate many Conduktor resources in dry-run mode, one CLI invocation per target group.
+     */
+    public List<CliResult> applyBatchDryRun(List<? extends ConduktorResource<?>> resources) {
+        return executeBatch(resources, true);
+    }
+
+    private List<CliResult> executeBatch(List<? extends ConduktorResource<?>> resources, boolean dryRun) {
+        // Gateway groups first: Console topics live on the virtual clusters they create
+        Map<BatchTarget, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < resources.size(); i++) {
+            groups.computeIfAbsent(targetOf(resources.get(i)), target -> new ArrayList<>()).add(i);
+        }
+
+        CliResult[] results = new CliResult[resources.size()];
+        groups.entrySet().stream()
+                .sorted((a, b) -> Boolean.compare(b.getKey().gateway(), a.getKey().gateway()))
+                .forEach(group -> {
+                    List<ConduktorResource<?>> batch = group.getValue().stream().<ConduktorResource<?>>map(resources::get).toList();
+                    log.debug("Applying batch of {} resources to {}", batch.size(), group.getKey());
+
+                    CliResult batchResult = applyYaml(yamlWriter.toMultiDocumentYaml(batch), dryRun);
+                    List<CliResult> mapped = mapBatchResults(batch, batchResult);
+                    for (int i = 0; i < batch.size(); i++) {
+                        results[group.getValue().get(i)] = mapped.get(i);
+                    }
+                });
+
+        return Arrays.asList(results);
+    }
+
+    static BatchTarget targetOf(ConduktorResource<?> resource) {
+        boolean gateway = resource.getApiVersion() != null && resource.getApiVersion().startsWith("gateway/");
+        ConduktorMetadata metadata = resource.getMetadata();
+        String scope = metadata == null ? null : gateway ? metadata.getVCluster() : metadata.getCluster();
+        return new BatchTarget(gateway, scope);
+    }
+
+    /**
+     * Split the output of one batched CLI run into per-resource results. The CLI reports {@code Kind/name: Created} (or Updated, NotChanged, Deleted) for each document
+     * it applied and {@code Could not apply resource Kind/name: reason} for each one it rejected; a resource is successful when the run succeeded, or when its own line
+     * reports one of those success outcomes. Only the outcome token is checked, so neither a resource named e.g. {@code orders-errors} nor trailing text such as
+     * {@code (0 errors)} changes the result.
+     */
+    static List<CliResult> mapBatchResults(List<? extends ConduktorResource<?>> batch, CliResult batchResult) {
+        String output = batchResult.stdout() + "\n" + batchResult.stderr();
+        List<CliResult> results = new ArrayList<>(batch.size());
+
+        for (ConduktorResource<?> resource : batch) {
+            String reference = resource.getKind() + "/" + resource.getMetadata().getName();
+            String line = findResultLine(output, reference);
+
+            if (batchResult.isSuccess() || (line != null && isSuccessLine(line, reference))) {
+                results.add(new CliResult(0, line != null ? line : batchResult.stdout(), "", batchResult.duration()));
+            } else {
+                int exitCode = batchResult.isSuccess() ? 1 : batchResult.exitCode();
+                results.add(new CliResult(exitCode, batchResult.stdout(), line != null ? line : batchResult.getErrorMessage(), batchResult.duration()));
             }
         }
+        return results;
+    }
+
+    private static String findResultLine(String output, String reference) {
+        for (String line : output.split("\n")) {
+            int index = line.indexOf(reference);
+            if (index < 0) {
+                continue;
+            }
+            int end = index + reference.length();
+            // Avoid matching "Topic/orders" inside "Topic/orders-dlq"
+            if (end == line.length() || line.charAt(end) == ':' || Character.isWhitespace(line.charAt(end))) {
+                return line.strip();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isSuccessLine(String line, String reference) {
+        if (!line.startsWith(reference + ":")) {
+            return false;
+        }
+        String outcome = line.substring(reference.length() + 1).strip();
+        int end = 0;
+        while (end < outcome.length() && Character.isLetter(outcome.charAt(end))) {
+            end++;
+        }
+        return SUCCESS_OUTCOMES.contains(outcome.substring(0, end));
+    }
+
+    record BatchTarget(boolean gateway, String scope) {
     }
 
     /**
@@ -101,31 +208,19 @@ public class ConduktorCli {
         if (!dryRun && credentials == null) {
             return new CliResult(-1, "", "Credentials not configured for apply mode.");
         }
-
-        Path yamlFile = null;
-        try {
-            yamlFile = Files.createTempFile("conduktor-", ".yaml");
-            Files.writeString(yamlFile, yamlContent);
-            log.debug("Wrote YAML to {}", yamlFile);
-
-            return executeCommand(yamlFile, dryRun);
-        } catch (IOException e) {
-            log.error("Failed to write YAML to temp file", e);
-            return new CliResult(-1, "", "Failed to write YAML: %s".formatted(e.getMessage()));
-        } finally {
-            if (yamlFile != null) {
-                try {
-                    Files.deleteIfExists(yamlFile);
-                } catch (IOException e) {
-                    log.warn("Failed to delete temp file: {}", yamlFile, e);
-                }
-            }
-        }
+        return executeCommand(yamlContent, dryRun);
     }
 
-    private CliResult executeCommand(Path yamlFile, boolean dryRun) {
+    /**
+     * Run the CLI with the YAML piped to its stdin. Both output streams are drained concurrently into bounded buffers so a chatty child cannot block on a full pipe,
+     * and a single deadline covers writing, running and draining.
+     */
+    private CliResult executeCommand(String yamlContent, boolean dryRun) {
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        Process process = null;
         try {
-            List<String> command = buildCommand(yamlFile, dryRun);
+            List<String> command = buildCommand(dryRun);
 
             ProcessBuilder pb = new ProcessBuilder(command);
             pb.redirectErrorStream(false);
@@ -142,41 +237,74 @@ public class ConduktorCli {
 
             log.info("Executing: {}", String.join(" ", command));
 
-            Process process = pb.start();
+            process = pb.start();
 
-            String stdout = readStream(process.getInputStream());
-            String stderr = readStream(process.getErrorStream());
+            BoundedCapture stdout = BoundedCapture.start(process.getInputStream(), "stdout");
+            BoundedCapture stderr = BoundedCapture.start(process.getErrorStream(), "stderr");
 
-            boolean completed = process.waitFor(timeoutSeconds, TimeUnit.SECONDS);
+            // Written on its own thread: a child that never reads stdin must not block us on a full pipe past the deadline
+            OutputStream stdin = process.getOutputStream();
+            Thread.ofVirtual().name("conduktor-cli-stdin").start(() -> writeStdin(stdin, yamlContent));
+
+            boolean completed = process.waitFor(remainingNanos(deadline), TimeUnit.NANOSECONDS);
             if (!completed) {
-                process.destroyForcibly();
-                return new CliResult(-1, "", "Command timed out after %d seconds".formatted(timeoutSeconds));
+                destroyTree(process);
+                Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+                return new CliResult(-1, stdout.await(0), "Command timed out after %d seconds".formatted(timeoutSeconds), duration);
             }
 
             int exitCode = process.exitValue();
-            log.info("CLI exited with code {}", exitCode);
+            String out = stdout.await(remainingNanos(deadline));
+            String err = stderr.await(remainingNanos(deadline));
+            Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+            log.info("CLI exited with code {} in {} ms", exitCode, duration.toMillis());
 
             if (exitCode != 0) {
-                log.warn("CLI stderr: {}", stderr);
+                log.warn("CLI stderr: {}", err);
             }
 
-            return new CliResult(exitCode, stdout, stderr);
+            return new CliResult(exitCode, out, err, duration);
 
         } catch (IOException e) {
             log.error("Failed to execute Conduktor CLI", e);
-            return new CliResult(-1, "", "Failed to execute CLI: %s".formatted(e.getMessage()));
+            return new CliResult(-1, "", "Failed to execute CLI: %s".formatted(e.getMessage()), Duration.ofNanos(System.nanoTime() - startNanos));
         } catch (InterruptedException e) {
+            if (process != null) {
+                destroyTree(process);
+            }
             Thread.currentThread().interrupt();
-            return new CliResult(-1, "", "CLI execution interrupted");
+            return new CliResult(-1, "", "CLI execution interrupted", Duration.ofNanos(System.nanoTime() - startNanos));
+        }
+    }
+
+    private static void writeStdin(OutputStream stdin, String yamlContent) {
+        try (stdin) {
+            stdin.write(yamlContent.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // The child may exit without reading its input; its exit code and stderr tell the story
+            log.debug("CLI closed stdin early: {}", e.getMessage());
         }
     }
 
-    private List<String> buildCommand(Path yamlFile, boolean dryRun) {
+    /**
+     * Kills the CLI and anything it spawned. Destroying the process also closes our end of stdin, which only fails a blocked write once no process is left holding
+     * the pipe's read end.
+     */
+    private static void destroyTree(Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+
+    private static long remainingNanos(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    private List<String> buildCommand(boolean dryRun) {
         List<String> command = new ArrayList<>();
         command.add(cliPath);
         command.add("apply");
         command.add("-f");
-        command.add(yamlFile.toString());
+        command.add(STDIN_PATH);
 
         if (dryRun) {
             command.add("--dry-run");
@@ -185,9 +313,46 @@ public class ConduktorCli {
         return command;
     }
 
-    private String readStream(InputStream stream) throws IOException {
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream))) {
-            return reader.lines().collect(Collectors.joining("\n"));
+    /**
+     * Drains a process stream on a virtual thread, keeping at most {@link #MAX_CAPTURE_BYTES} and discarding the rest so the child never blocks on a full pipe.
+     */
+    private static final class BoundedCapture {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final Thread reader;
+        private boolean truncated;
+
+        private BoundedCapture(InputStream stream, String name) {
+            this.reader = Thread.ofVirtual().name("conduktor-cli-" + name).start(() -> drain(stream));
+        }
+
+        static BoundedCapture start(InputStream stream, String name) {
+            return new BoundedCapture(stream, name);
+        }
+
+        private void drain(InputStream stream) {
+            byte[] chunk = new byte[8192];
+            try (stream) {
+                int read;
+                while ((read = stream.read(chunk)) != -1) {
+                    synchronized (buffer) {
+                        int keep = Math.min(read, MAX_CAPTURE_BYTES - buffer.size());
+                        if (keep > 0) {
+                            buffer.write(chunk, 0, keep);
+                        }
+                        truncated |= keep < read;
+                    }
+                }
+            } catch (IOException e) {
+                log.debug("Stopped reading CLI output: {}", e.getMessage());
+            }
+        }
+
+        String await(long timeoutNanos) throws InterruptedException {
+            reader.join(Duration.ofNanos(timeoutNanos));
+            synchronized (buffer) {
+                String captured = buffer.toString(StandardCharsets.UTF_8).stripTrailing();
+                return truncated ? captured + "\n... [output truncated]" : captured;
+            }
         }
     }
 }
@@ -2,24 +2,26 @@ package com.example.messaging.operator.conduktor.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
 
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
+@EqualsAndHashCode(callSuper = true)
+@SuperBuilder
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({"apiVersion", "kind", "metadata", "spec"})
-public class ConduktorInterceptor {
+public class ConduktorInterceptor extends ConduktorResource<ConduktorInterceptorSpec> {
 
     public static final String API_VERSION = "gateway/v2";
     public static final String KIND = "Interceptor";
 
-    private String apiVersion;
-    private String kind;
-    private ConduktorInterceptorMetadata metadata;
     private ConduktorInterceptorSpec spec;
+
+    @Override
+    public ConduktorInterceptorSpec getSpec() {
+        return spec;
+    }
 }
@@ -1,19 +0,0 @@
-package com.example.messaging.operator.conduktor.model;
-
-import com.fasterxml.jackson.annotation.JsonInclude;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
-@JsonInclude(JsonInclude.Include.NON_NULL)
-public class ConduktorInterceptorMetadata {
-
-    private String name;
-
-    private InterceptorScope scope;
-}
@@ -17,4 +17,6 @@ public class ConduktorMetadata {
     @JsonProperty("vCluster")
     private String vCluster;
     private String cluster;
+    /** Interceptors only: the gateway scope they apply to. */
+    private InterceptorScope scope;
 }
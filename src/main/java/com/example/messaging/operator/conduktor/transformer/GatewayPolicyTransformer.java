@@ -1,7 +1,7 @@
 package com.example.messaging.operator.conduktor.transformer;
 
 import com.example.messaging.operator.conduktor.model.ConduktorInterceptor;
-import com.example.messaging.operator.conduktor.model.ConduktorInterceptorMetadata;
+import com.example.messaging.operator.conduktor.model.ConduktorMetadata;
 import com.example.messaging.operator.conduktor.model.ConduktorInterceptorSpec;
 import com.example.messaging.operator.conduktor.model.InterceptorScope;
 import com.example.messaging.operator.crd.GatewayPolicy;
@@ -14,7 +14,7 @@ import com.example.messaging.operator.store.CRDKind;
 import com.example.messaging.operator.store.CRDStore;
 import java.util.Objects;
 
-public class GatewayPolicyTransformer {
+public class GatewayPolicyTransformer implements CrdTransformer<GatewayPolicy, ConduktorInterceptor> {
 
     private final CRDStore store;
 
@@ -22,17 +22,18 @@ public class GatewayPolicyTransformer {
         this.store = Objects.requireNonNull(store, "store must not be null");
     }
 
+    @Override
     public ConduktorInterceptor transform(GatewayPolicy source) {
         GatewayPolicySpec spec = source.getSpec();
         String namespace = source.getMetadata().getNamespace();
 
-        String interceptorName = buildInterceptorName(namespace, source.getMetadata().getName());
+        String interceptorName = interceptorName(namespace, source.getMetadata().getName());
         InterceptorScope scope = buildScope(spec, namespace);
 
         return ConduktorInterceptor.builder()
                 .apiVersion(ConduktorInterceptor.API_VERSION)
                 .kind(ConduktorInterceptor.KIND)
-                .metadata(ConduktorInterceptorMetadata.builder()
+                .metadata(ConduktorMetadata.builder()
                         .name(interceptorName)
                         .scope(scope)
                         .build())
@@ -44,7 +45,7 @@ public class GatewayPolicyTransformer {
                 .build();
     }
 
-    private String buildInterceptorName(String namespace, String name) {
+    public static String interceptorName(String namespace, String name) {
         return namespace + "--" + name;
     }
 
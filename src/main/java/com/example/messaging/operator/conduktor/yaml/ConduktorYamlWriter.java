@@ -7,6 +7,7 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 public class ConduktorYamlWriter {
 
@@ -27,6 +28,20 @@ public class ConduktorYamlWriter {
         return toYamlObject(resource);
     }
 
+    /**
+     * Render several resources as one multi-document YAML stream separated by {@code ---}.
+     */
+    public String toMultiDocumentYaml(List<? extends ConduktorResource<?>> resources) {
+        StringBuilder yaml = new StringBuilder();
+        for (ConduktorResource<?> resource : resources) {
+            if (!yaml.isEmpty()) {
+                yaml.append("---\n");
+            }
+            yaml.append(toYaml(resource));
+        }
+        return yaml.toString();
+    }
+
     private String toYamlObject(Object resource) {
         try {
             return yamlMapper.writeValueAsString(resource);
@@ -0,0 +1,110 @@
+package com.example.messaging.operator.events;
+
+import com.example.messaging.operator.events.ReconciliationEventPublisher.Subscription;
+import com.example.messaging.operator.store.CRDKind;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable routing table from (kind, phase, namespace) to the subscriptions whose filter selects it. Rebuilt on every subscribe/unsubscribe, so routing an event costs
+ * two enum lookups and one hash lookup plus the residual checks of the candidate subscriptions, independent of how many narrow subscriptions exist.
+ */
+final class ReconciliationDispatchTable {
+
+    static final ReconciliationDispatchTable EMPTY = new ReconciliationDispatchTable(new EnumMap<>(CRDKind.class), 0);
+
+    private final EnumMap<CRDKind, EnumMap<ReconciliationEvent.Phase, Route>> routes;
+    private final int size;
+
+    private ReconciliationDispatchTable(EnumMap<CRDKind, EnumMap<ReconciliationEvent.Phase, Route>> routes, int size) {
+        this.routes = routes;
+        this.size = size;
+    }
+
+    static ReconciliationDispatchTable of(Collection<Subscription> subscriptions) {
+        EnumMap<CRDKind, EnumMap<ReconciliationEvent.Phase, Route>> routes = new EnumMap<>(CRDKind.class);
+        for (Subscription subscription : subscriptions) {
+            ReconciliationEventFilter filter = subscription.getFilter();
+            for (CRDKind kind : orAll(filter.getKinds(), CRDKind.values())) {
+                for (ReconciliationEvent.Phase phase : orAll(filter.getPhases(), ReconciliationEvent.Phase.values())) {
+                    routes.computeIfAbsent(kind, k -> new EnumMap<>(ReconciliationEvent.Phase.class))
+                            .computeIfAbsent(phase, p -> new Route())
+                            .add(filter.getNamespaces(), subscription);
+                }
+            }
+        }
+        return new ReconciliationDispatchTable(routes, subscriptions.size());
+    }
+
+    private static <T> Collection<T> orAll(Set<T> selected, T[] all) {
+        return selected.isEmpty() ? List.of(all) : selected;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Whether any subscription could receive an event for this kind and namespace, in either phase.
+     */
+    boolean routes(CRDKind kind, String namespace) {
+        EnumMap<ReconciliationEvent.Phase, Route> byPhase = routes.get(kind);
+        if (byPhase == null) {
+            return false;
+        }
+        for (Route route : byPhase.values()) {
+            if (!route.anyNamespace.isEmpty() || route.byNamespace.containsKey(namespace)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Add to {@code matched} every subscription whose filter accepts the event.
+     */
+    void collect(ReconciliationEvent event, List<Subscription> matched) {
+        EnumMap<ReconciliationEvent.Phase, Route> byPhase = routes.get(event.getResourceKind());
+        if (byPhase == null) {
+            return;
+        }
+        Route route = byPhase.get(event.getPhase());
+        if (route == null) {
+            return;
+        }
+        collect(route.anyNamespace, event, matched);
+        List<Subscription> namespaced = route.byNamespace.get(event.getResourceNamespace());
+        if (namespaced != null) {
+            collect(namespaced, event, matched);
+        }
+    }
+
+    private static void collect(List<Subscription> candidates, ReconciliationEvent event, List<Subscription> matched) {
+        for (Subscription candidate : candidates) {
+            if (candidate.getFilter().matchesResidual(event)) {
+                matched.add(candidate);
+            }
+        }
+    }
+
+    private static final class Route {
+
+        private final List<Subscription> anyNamespace = new ArrayList<>();
+        private final Map<String, List<Subscription>> byNamespace = new HashMap<>();
+
+        void add(Set<String> namespaces, Subscription subscription) {
+            if (namespaces.isEmpty()) {
+                anyNamespace.add(subscription);
+                return;
+            }
+            for (String namespace : namespaces) {
+                byNamespace.computeIfAbsent(namespace, n -> new ArrayList<>()).add(subscription);
+            }
+        }
+    }
+}
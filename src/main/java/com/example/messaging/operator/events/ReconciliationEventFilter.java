@@ -0,0 +1,51 @@
+package com.example.messaging.operator.events;
+
+import com.example.messaging.operator.store.CRDKind;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import lombok.*;
+
+/**
+ * Selects the reconciliation events a subscriber receives. Every set left empty matches anything; a non-empty {@code results} set never matches BEFORE events,
+ * which carry no result. Kind, phase and namespace are resolved by the publisher's dispatch table; owners, results and the optional predicate are checked only for
+ * the subscriptions that survive that lookup.
+ */
+@Getter
+@Builder
+public class ReconciliationEventFilter {
+
+    private static final ReconciliationEventFilter ALL = builder().build();
+
+    @Singular
+    private final Set<CRDKind> kinds;
+    @Singular
+    private final Set<String> namespaces;
+    @Singular
+    private final Set<String> applicationServices;
+    @Singular
+    private final Set<ReconciliationEvent.Phase> phases;
+    @Singular
+    private final Set<ReconciliationEvent.Result> results;
+    private final Predicate<ReconciliationEvent> predicate;
+
+    public static ReconciliationEventFilter all() {
+        return ALL;
+    }
+
+    public boolean matches(ReconciliationEvent event) {
+        return (kinds.isEmpty() || kinds.contains(event.getResourceKind()))
+                && (phases.isEmpty() || phases.contains(event.getPhase()))
+                && (namespaces.isEmpty() || namespaces.contains(event.getResourceNamespace()))
+                && matchesResidual(event);
+    }
+
+    /**
+     * The part of {@link #matches} that the dispatch table does not index.
+     */
+    boolean matchesResidual(ReconciliationEvent event) {
+        return (applicationServices.isEmpty() || applicationServices.contains(event.getApplicationService()))
+                && (results.isEmpty() || results.contains(event.getResult()))
+                && (predicate == null || predicate.test(event));
+    }
+}
@@ -1,20 +1,117 @@
 package com.example.messaging.operator.events;
 
+import com.example.messaging.operator.store.CRDKind;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Publisher for reconciliation events following observer pattern. Allows multiple listeners to observe CRD reconciliation lifecycle events.
+ *
+ * <p>
+ * By default events are logged and delivered synchronously on the publishing thread. An {@link #async asynchronous} publisher instead appends to a bounded ring
+ * buffer and a dedicated dispatcher thread logs and delivers them to listeners in batches, in publish order, so slow listeners no longer add latency to store writes.
+ * When the buffer is full the {@link OverflowPolicy} decides whether the publisher blocks, evicts the oldest event, or keeps only a sample of the overflow; dropped
+ * and lagging events are counted.
+ *
+ * <p>
+ * Besides plain listeners, which receive every event, consumers can {@link #subscribe} with a {@link ReconciliationEventFilter}. Filtered subscriptions are routed
+ * through a {@link ReconciliationDispatchTable} rebuilt on (un)subscribe, so many narrow subscribers do not cost O(subscribers) per event.
  */
-public class ReconciliationEventPublisher {
+public class ReconciliationEventPublisher implements AutoCloseable {
 
     private static final Logger logger = LoggerFactory.getLogger(ReconciliationEventPublisher.class);
 
     private final List<ReconciliationEventListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private volatile ReconciliationDispatchTable dispatchTable = ReconciliationDispatchTable.EMPTY;
+
+    private final boolean async;
+    private final int capacity;
+    private final int batchSize;
+    private final int sampleRate;
+    private final OverflowPolicy overflowPolicy;
+    private final Deque<ReconciliationEvent> buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition drained = lock.newCondition();
+    private final Thread dispatcher;
+    private int inFlight;
+    private long overflowCount;
+    private boolean closed;
+
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private volatile boolean logEvents = logger.isInfoEnabled();
 
     public ReconciliationEventPublisher() {
+        this.async = false;
+        this.capacity = 0;
+        this.batchSize = 1;
+        this.sampleRate = 1;
+        this.overflowPolicy = OverflowPolicy.BLOCK;
+        this.buffer = null;
+        this.dispatcher = null;
+    }
+
+    private ReconciliationEventPublisher(int capacity, OverflowPolicy overflowPolicy, int batchSize, int sampleRate) {
+        if (capacity < 1 || batchSize < 1 || sampleRate < 1) {
+            throw new IllegalArgumentException("Invalid async publisher settings: capacity=%d, batchSize=%d, sampleRate=%d".formatted(capacity, batchSize, sampleRate));
+        }
+        this.async = true;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.sampleRate = sampleRate;
+        this.overflowPolicy = overflowPolicy;
+        this.buffer = new ArrayDeque<>(capacity);
+        this.dispatcher = new Thread(this::runDispatcher, "reconciliation-event-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * Create a publisher that dispatches on a dedicated thread through a bounded buffer.
+     *
+     * @param sampleRate
+     *            for {@link OverflowPolicy#SAMPLE}, keep one of every {@code sampleRate} events that arrive while the buffer is full
+     */
+    public static ReconciliationEventPublisher async(int capacity, OverflowPolicy overflowPolicy, int batchSize, int sampleRate) {
+        return new ReconciliationEventPublisher(capacity, overflowPolicy, batchSize, sampleRate);
+    }
+
+    /**
+     * Create a publisher from {@code EVENT_DISPATCH_MODE} (sync|async, default sync), {@code EVENT_BUFFER_CAPACITY} (8192), {@code EVENT_OVERFLOW_POLICY} (drop_oldest),
+     * {@code EVENT_BATCH_SIZE} (256) and {@code EVENT_SAMPLE_RATE} (10). {@code EVENT_LOG_ENABLED=false} turns off the per-event INFO log.
+     */
+    public static ReconciliationEventPublisher fromEnvironment() {
+        ReconciliationEventPublisher publisher;
+        if (!"async".equalsIgnoreCase(System.getenv().getOrDefault("EVENT_DISPATCH_MODE", "sync"))) {
+            publisher = new ReconciliationEventPublisher();
+        } else {
+            publisher = async(
+                    Integer.parseInt(System.getenv().getOrDefault("EVENT_BUFFER_CAPACITY", "8192")),
+                    OverflowPolicy.fromValue(System.getenv().getOrDefault("EVENT_OVERFLOW_POLICY", "drop_oldest")),
+                    Integer.parseInt(System.getenv().getOrDefault("EVENT_BATCH_SIZE", "256")),
+                    Integer.parseInt(System.getenv().getOrDefault("EVENT_SAMPLE_RATE", "10")));
+        }
+        if (!Boolean.parseBoolean(System.getenv().getOrDefault("EVENT_LOG_ENABLED", "true"))) {
+            publisher.setLogEvents(false);
+        }
+        return publisher;
     }
 
     public void addListener(ReconciliationEventListener listener) {
@@ -27,7 +124,234 @@ public class ReconciliationEventPublisher {
         logger.info("Removed reconciliation event listener: {}", listener.getClass().getSimpleName());
     }
 
+    /**
+     * Deliver the events selected by {@code filter} to {@code listener}. Close the returned subscription to stop delivery.
+     */
+    public Subscription subscribe(ReconciliationEventFilter filter, ReconciliationEventListener listener) {
+        Subscription subscription = new Subscription(filter, listener);
+        synchronized (subscriptions) {
+            subscriptions.add(subscription);
+            dispatchTable = ReconciliationDispatchTable.of(subscriptions);
+        }
+        logger.info("Registered filtered reconciliation event listener: {}", listener.getClass().getSimpleName());
+        return subscription;
+    }
+
+    public void unsubscribe(Subscription subscription) {
+        synchronized (subscriptions) {
+            if (!subscriptions.remove(subscription)) {
+                return;
+            }
+            dispatchTable = ReconciliationDispatchTable.of(subscriptions);
+        }
+        logger.info("Removed filtered reconciliation event listener: {}", subscription.getListener().getClass().getSimpleName());
+    }
+
+    /**
+     * Whether a published event would be observed by anyone: a registered listener, a subscription or the INFO event log. Publishers on hot paths check this before
+     * building an event so nothing is allocated when no one is listening.
+     */
+    public boolean hasInterest() {
+        return logEvents || !listeners.isEmpty() || !dispatchTable.isEmpty();
+    }
+
+    /**
+     * Like {@link #hasInterest()}, but subscriptions only count when their kind and namespace selection routes events for this resource.
+     */
+    public boolean hasInterest(CRDKind kind, String namespace) {
+        return logEvents || !listeners.isEmpty() || dispatchTable.routes(kind, namespace);
+    }
+
+    /**
+     * Enable or disable the per-event RECONCILIATION_START/END log lines. Defaults to whether INFO is enabled for this logger.
+     */
+    public void setLogEvents(boolean logEvents) {
+        this.logEvents = logEvents && logger.isInfoEnabled();
+    }
+
     public void publish(ReconciliationEvent event) {
+        publishedCount.incrementAndGet();
+        if (!async) {
+            dispatch(List.of(event));
+            return;
+        }
+        lock.lock();
+        try {
+            if (!wouldBlockDispatcher(1)) {
+                enqueue(event);
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        dispatch(List.of(event));
+    }
+
+    /**
+     * Publish events that belong together, e.g. the resources of one store transaction. Listeners receive them as a single batch (async publishers keep them
+     * contiguous in the buffer and deliver them in as few batches as the batch size allows).
+     */
+    public void publishAll(List<ReconciliationEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        publishedCount.addAndGet(events.size());
+        if (!async) {
+            dispatch(events);
+            return;
+        }
+        lock.lock();
+        try {
+            if (!wouldBlockDispatcher(events.size())) {
+                events.forEach(this::enqueue);
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        dispatch(events);
+    }
+
+    /**
+     * Whether enqueueing would make the dispatcher wait for space only it can free, e.g. when a listener writes back to the store. The dispatcher then delivers
+     * its own events inline, as a synchronous publisher would, ahead of the events still buffered. Called holding {@code lock}.
+     */
+    private boolean wouldBlockDispatcher(int count) {
+        return overflowPolicy == OverflowPolicy.BLOCK && Thread.currentThread() == dispatcher && !closed && buffer.size() + count > capacity;
+    }
+
+    private void enqueue(ReconciliationEvent event) {
+        lock.lock();
+        try {
+            if (closed) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+            if (buffer.size() >= capacity) {
+                switch (overflowPolicy) {
+                    case BLOCK -> {
+                        while (buffer.size() >= capacity && !closed) {
+                            notFull.awaitUninterruptibly();
+                        }
+                        if (closed) {
+                            droppedCount.incrementAndGet();
+                            return;
+                        }
+                    }
+                    case DROP_OLDEST -> {
+                        buffer.pollFirst();
+                        droppedCount.incrementAndGet();
+                    }
+                    case SAMPLE -> {
+                        if (overflowCount++ % sampleRate != 0) {
+                            droppedCount.incrementAndGet();
+                            return;
+                        }
+                        buffer.pollFirst();
+                        droppedCount.incrementAndGet();
+                    }
+                }
+            } else {
+                overflowCount = 0;
+            }
+            buffer.addLast(event);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runDispatcher() {
+        while (true) {
+            List<ReconciliationEvent> batch = new ArrayList<>(batchSize);
+            lock.lock();
+            try {
+                while (buffer.isEmpty() && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (buffer.isEmpty()) {
+                    drained.signalAll();
+                    return;
+                }
+                while (batch.size() < batchSize && !buffer.isEmpty()) {
+                    batch.add(buffer.pollFirst());
+                }
+                inFlight = batch.size();
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            dispatch(batch);
+
+            lock.lock();
+            try {
+                inFlight = 0;
+                if (buffer.isEmpty()) {
+                    drained.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void dispatch(List<ReconciliationEvent> events) {
+        if (logEvents) {
+            for (ReconciliationEvent event : events) {
+                log(event);
+            }
+        }
+
+        for (ReconciliationEventListener listener : listeners) {
+            try {
+                listener.onEvents(events);
+            } catch (Exception e) {
+                logger.error("Error in reconciliation event listener {}: {}", listener.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+
+        ReconciliationDispatchTable table = dispatchTable;
+        if (!table.isEmpty()) {
+            dispatchToSubscriptions(table, events);
+        }
+        deliveredCount.addAndGet(events.size());
+    }
+
+    private void dispatchToSubscriptions(ReconciliationDispatchTable table, List<ReconciliationEvent> events) {
+        List<Subscription> matched = new ArrayList<>();
+        if (events.size() == 1) {
+            ReconciliationEvent event = events.get(0);
+            table.collect(event, matched);
+            for (Subscription subscription : matched) {
+                deliver(subscription, events);
+            }
+            return;
+        }
+
+        Map<Subscription, List<ReconciliationEvent>> perSubscription = new LinkedHashMap<>();
+        for (ReconciliationEvent event : events) {
+            matched.clear();
+            table.collect(event, matched);
+            for (Subscription subscription : matched) {
+                perSubscription.computeIfAbsent(subscription, s -> new ArrayList<>()).add(event);
+            }
+        }
+        perSubscription.forEach(this::deliver);
+    }
+
+    private void deliver(Subscription subscription, List<ReconciliationEvent> events) {
+        if (subscription.closed) {
+            return;
+        }
+        try {
+            subscription.getListener().onEvents(events);
+        } catch (Exception e) {
+            logger.error("Error in reconciliation event listener {}: {}", subscription.getListener().getClass().getSimpleName(), e.getMessage(), e);
+        }
+    }
+
+    private void log(ReconciliationEvent event) {
         if (event.getPhase() == ReconciliationEvent.Phase.BEFORE) {
             logger.info("RECONCILIATION_START: {} {} {}/{}", event.getOperation(), event.getResourceKind(), event.getResourceNamespace(), event.getResourceName());
         } else {
@@ -35,13 +359,60 @@ public class ReconciliationEventPublisher {
             logger.info("RECONCILIATION_END: {} {} {}/{} - {} {}", event.getOperation(), event.getResourceKind(), event.getResourceNamespace(),
                     event.getResourceName(), resultIndicator, event.getMessage() != null ? event.getMessage() : "");
         }
+    }
 
-        for (ReconciliationEventListener listener : listeners) {
-            try {
-                listener.onEvent(event);
-            } catch (Exception e) {
-                logger.error("Error in reconciliation event listener {}: {}", listener.getClass().getSimpleName(), e.getMessage(), e);
+    /**
+     * Wait until every event accepted so far has been delivered. Returns immediately for a synchronous publisher.
+     *
+     * @return false if the timeout elapsed first
+     */
+    public boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+        if (!async) {
+            return true;
+        }
+        long remaining = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (!buffer.isEmpty() || inFlight > 0) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = drained.awaitNanos(remaining);
             }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Events accepted but not yet delivered to listeners (buffered or in the batch being dispatched).
+     */
+    public long getLag() {
+        if (!async) {
+            return 0;
+        }
+        lock.lock();
+        try {
+            return buffer.size() + inFlight;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -49,13 +420,102 @@ public class ReconciliationEventPublisher {
         return listeners.size();
     }
 
+    public int getSubscriptionCount() {
+        synchronized (subscriptions) {
+            return subscriptions.size();
+        }
+    }
+
     public void clearListeners() {
         listeners.clear();
+        synchronized (subscriptions) {
+            subscriptions.forEach(subscription -> subscription.closed = true);
+            subscriptions.clear();
+            dispatchTable = ReconciliationDispatchTable.EMPTY;
+        }
         logger.info("Cleared all reconciliation event listeners");
     }
 
+    /**
+     * Stop accepting events; buffered events are still delivered before the dispatcher exits.
+     */
+    @Override
+    public void close() {
+        if (!async) {
+            return;
+        }
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            dispatcher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @FunctionalInterface
     public interface ReconciliationEventListener {
         void onEvent(ReconciliationEvent event);
+
+        /**
+         * Receive a batch of events in publish order. Synchronous publishers pass single-event batches.
+         */
+        default void onEvents(List<ReconciliationEvent> events) {
+            events.forEach(this::onEvent);
+        }
+    }
+
+    /**
+     * A filtered listener registration returned by {@link #subscribe}. Closing it unsubscribes; events already being dispatched are no longer delivered.
+     */
+    public final class Subscription implements AutoCloseable {
+
+        private final ReconciliationEventFilter filter;
+        private final ReconciliationEventListener listener;
+        private volatile boolean closed;
+
+        private Subscription(ReconciliationEventFilter filter, ReconciliationEventListener listener) {
+            this.filter = filter;
+            this.listener = listener;
+        }
+
+        public ReconciliationEventFilter getFilter() {
+            return filter;
+        }
+
+        public ReconciliationEventListener getListener() {
+            return listener;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            unsubscribe(this);
+        }
+    }
+
+    /**
+     * What an asynchronous publisher does when its buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Block the publishing thread until the dispatcher frees space. Lossless. Events published by listeners on the dispatcher are delivered inline instead. */
+        BLOCK,
+        /** Evict the oldest buffered event to make room for the new one. */
+        DROP_OLDEST,
+        /** Keep one of every {@code sampleRate} overflowing events (evicting the oldest), drop the rest. */
+        SAMPLE;
+
+        public static OverflowPolicy fromValue(String value) {
+            return Arrays.stream(values())
+                    .filter(policy -> policy.name().equalsIgnoreCase(value))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown overflow policy: " + value));
+        }
     }
 }
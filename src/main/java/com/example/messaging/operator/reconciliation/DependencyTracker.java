@@ -0,0 +1,115 @@
+package com.example.messaging.operator.reconciliation;
+
+import com.example.messaging.operator.crd.ACL;
+import com.example.messaging.operator.crd.ConsumerGroup;
+import com.example.messaging.operator.crd.GatewayPolicy;
+import com.example.messaging.operator.crd.KafkaCluster;
+import com.example.messaging.operator.crd.Scope;
+import com.example.messaging.operator.crd.ServiceAccount;
+import com.example.messaging.operator.crd.Topic;
+import com.example.messaging.operator.store.CRDKind;
+import com.example.messaging.operator.store.ResourceKey;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Orders reconciles along the ownership chain enforced by {@code OwnershipValidator}: KafkaCluster → ServiceAccount → Topic/ConsumerGroup/ACL, plus Scope →
+ * GatewayPolicy.
+ *
+ * <p>
+ * A key whose parents have not been applied yet is parked on them instead of failing and waiting for backoff or resync. When a parent applies successfully its parked
+ * dependents are released for immediate reconciliation. Keys in unrelated branches never wait on each other, so independent ApplicationServices converge in parallel.
+ */
+public class DependencyTracker {
+    private final Set<ResourceKey> applied = new HashSet<>();
+    private final Map<ResourceKey, Set<ResourceKey>> parked = new HashMap<>();
+
+    /**
+     * Keys of the resources a resource references and that must exist in Conduktor before it can be applied.
+     */
+    public static List<ResourceKey> parentsOf(HasMetadata resource) {
+        String namespace = resource.getMetadata().getNamespace();
+        List<ResourceKey> parents = new ArrayList<>();
+        switch (resource) {
+            case KafkaCluster ignored -> {
+                // Root of the Conduktor-side chain; ApplicationService is not applied
+            }
+            case ServiceAccount sa -> addParent(parents, CRDKind.KAFKA_CLUSTER, namespace, sa.getSpec().getClusterRef());
+            case Topic topic -> addParent(parents, CRDKind.SERVICE_ACCOUNT, namespace, topic.getSpec().getServiceRef());
+            case ConsumerGroup cg -> addParent(parents, CRDKind.SERVICE_ACCOUNT, namespace, cg.getSpec().getServiceRef());
+            case ACL acl -> {
+                addParent(parents, CRDKind.SERVICE_ACCOUNT, namespace, acl.getSpec().getServiceRef());
+                addParent(parents, CRDKind.TOPIC, namespace, acl.getSpec().getTopicRef());
+                addParent(parents, CRDKind.CONSUMER_GROUP, namespace, acl.getSpec().getConsumerGroupRef());
+            }
+            case Scope scope -> {
+                addParent(parents, CRDKind.KAFKA_CLUSTER, namespace, scope.getSpec().getClusterRef());
+                addParent(parents, CRDKind.SERVICE_ACCOUNT, namespace, scope.getSpec().getServiceAccountRef());
+            }
+            case GatewayPolicy policy -> addParent(parents, CRDKind.SCOPE, namespace, policy.getSpec().getScopeRef());
+            default -> {
+            }
+        }
+        return parents;
+    }
+
+    private static void addParent(List<ResourceKey> parents, CRDKind kind, String namespace, String name) {
+        if (name != null && !name.isBlank()) {
+            parents.add(ResourceKey.of(kind, namespace, name));
+        }
+    }
+
+    /**
+     * Parks the key on every parent that has not been applied yet.
+     *
+     * @return true if the key is blocked and must not be applied now
+     */
+    public synchronized boolean parkIfBlocked(ResourceKey key, List<ResourceKey> parents) {
+        boolean blocked = false;
+        for (ResourceKey parent : parents) {
+            if (!applied.contains(parent)) {
+                parked.computeIfAbsent(parent, p -> new HashSet<>()).add(key);
+                blocked = true;
+            }
+        }
+        return blocked;
+    }
+
+    /**
+     * Records a successful apply and returns the dependents that were waiting on it.
+     */
+    public synchronized Set<ResourceKey> markApplied(ResourceKey key) {
+        applied.add(key);
+        Set<ResourceKey> released = parked.remove(key);
+        return released != null ? released : Set.of();
+    }
+
+    /**
+     * Forgets a deleted key: dependents reconciled afterwards wait for it again, while dependents already applied stay as they are. A failed apply does not remove a
+     * key, which keeps the applied state of its last success. The key is also unparked from its own parents, so dependents deleted while waiting do not pile up.
+     */
+    public synchronized void markRemoved(ResourceKey key) {
+        applied.remove(key);
+        Iterator<Set<ResourceKey>> waiting = parked.values().iterator();
+        while (waiting.hasNext()) {
+            Set<ResourceKey> dependents = waiting.next();
+            if (dependents.remove(key) && dependents.isEmpty()) {
+                waiting.remove();
+            }
+        }
+    }
+
+    public synchronized boolean isApplied(ResourceKey key) {
+        return applied.contains(key);
+    }
+
+    public synchronized int parkedCount() {
+        return parked.values().stream().mapToInt(Set::size).sum();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.messaging.operator.reconciliation;
+
+import com.example.messaging.operator.store.ResourceKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers a SHA-256 digest of the desired state last applied successfully for each key, so reconciles whose transformed output is unchanged can skip the apply.
+ */
+public class FingerprintCache {
+    private final Map<ResourceKey, String> fingerprints = new ConcurrentHashMap<>();
+
+    public static String digest(String desiredState) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(desiredState.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public boolean matches(ResourceKey key, String fingerprint) {
+        return fingerprint.equals(fingerprints.get(key));
+    }
+
+    public void record(ResourceKey key, String fingerprint) {
+        fingerprints.put(key, fingerprint);
+    }
+
+    public void forget(ResourceKey key) {
+        fingerprints.remove(key);
+    }
+
+    public Map<ResourceKey, String> snapshot() {
+        return Map.copyOf(fingerprints);
+    }
+
+    public void restore(Map<ResourceKey, String> restored) {
+        fingerprints.putAll(restored);
+    }
+
+    public int size() {
+        return fingerprints.size();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.messaging.operator.reconciliation;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.extended.leaderelection.LeaderCallbacks;
+import io.fabric8.kubernetes.client.extended.leaderelection.LeaderElectionConfigBuilder;
+import io.fabric8.kubernetes.client.extended.leaderelection.resourcelock.LeaseLock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lease-based leader election so only one replica runs reconcile workers while every replica keeps serving admissions and keeps its informer caches warm.
+ *
+ * <p>
+ * Uses a {@code coordination.k8s.io/v1} Lease named {@code leaseName} in {@code namespace}, with the pod name as holder identity. fabric8's elector returns once
+ * leadership is lost; this class then re-enters the election so a demoted replica can become leader again later.
+ */
+public class LeaderElection implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(LeaderElection.class);
+
+    public static final String DEFAULT_LEASE_NAME = "messaging-operator-reconciler";
+    private static final Duration DEFAULT_LEASE_DURATION = Duration.ofSeconds(15);
+    private static final Duration DEFAULT_RENEW_DEADLINE = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_RETRY_PERIOD = Duration.ofSeconds(2);
+
+    private final KubernetesClient client;
+    private final String namespace;
+    private final String leaseName;
+    private final String identity;
+    private final Duration leaseDuration;
+    private final Duration renewDeadline;
+    private final Duration retryPeriod;
+    private final Runnable onStartLeading;
+    private final Runnable onStopLeading;
+    private final ScheduledExecutorService restarter = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "leader-election");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile CompletableFuture<?> election;
+    private volatile boolean leader;
+    private volatile String currentLeader;
+    private volatile boolean closed;
+
+    public LeaderElection(KubernetesClient client, String namespace, String identity, Runnable onStartLeading, Runnable onStopLeading) {
+        this(client, namespace, DEFAULT_LEASE_NAME, identity, DEFAULT_LEASE_DURATION, DEFAULT_RENEW_DEADLINE, DEFAULT_RETRY_PERIOD, onStartLeading, onStopLeading);
+    }
+
+    public LeaderElection(KubernetesClient client, String namespace, String leaseName, String identity, Duration leaseDuration, Duration renewDeadline,
+            Duration retryPeriod, Runnable onStartLeading, Runnable onStopLeading) {
+        this.client = client;
+        this.namespace = namespace;
+        this.leaseName = leaseName;
+        this.identity = identity;
+        this.leaseDuration = leaseDuration;
+        this.renewDeadline = renewDeadline;
+        this.retryPeriod = retryPeriod;
+        this.onStartLeading = onStartLeading;
+        this.onStopLeading = onStopLeading;
+    }
+
+    public synchronized void start() {
+        if (closed || election != null && !election.isDone()) {
+            return;
+        }
+        log.info("Joining leader election for lease {}/{} as {}", namespace, leaseName, identity);
+
+        election = client.leaderElector()
+                .withConfig(new LeaderElectionConfigBuilder()
+                        .withName(leaseName)
+                        .withLock(new LeaseLock(namespace, leaseName, identity))
+                        .withLeaseDuration(leaseDuration)
+                        .withRenewDeadline(renewDeadline)
+                        .withRetryPeriod(retryPeriod)
+                        .withReleaseOnCancel(true)
+                        .withLeaderCallbacks(new LeaderCallbacks(this::startedLeading, this::stoppedLeading, this::newLeader))
+                        .build())
+                .build()
+                .start();
+
+        election.whenComplete((ignored, error) -> {
+            if (error != null && !closed) {
+                log.warn("Leader election for {} ended: {}", leaseName, error.getMessage());
+            }
+            if (!closed) {
+                restarter.schedule(this::start, retryPeriod.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    private void startedLeading() {
+        leader = true;
+        log.info("{} became leader - starting reconciliation", identity);
+        onStartLeading.run();
+    }
+
+    private void stoppedLeading() {
+        if (!leader) {
+            return;
+        }
+        leader = false;
+        log.info("{} lost leadership - pausing reconciliation", identity);
+        onStopLeading.run();
+    }
+
+    private void newLeader(String newLeader) {
+        currentLeader = newLeader;
+        log.info("Reconciliation leader is now {}", newLeader);
+    }
+
+    public boolean isLeader() {
+        return leader;
+    }
+
+    public String getCurrentLeader() {
+        return currentLeader;
+    }
+
+    public String getIdentity() {
+        return identity;
+    }
+
+    /**
+     * Leaves the election and releases the lease if held, so a standby can take over without waiting for it to expire.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        restarter.shutdownNow();
+        CompletableFuture<?> current = election;
+        if (current != null) {
+            current.cancel(true);
+        }
+    }
+}
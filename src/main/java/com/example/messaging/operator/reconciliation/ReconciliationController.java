@@ -1,68 +1,138 @@
 package com.example.messaging.operator.reconciliation;
 
-import com.example.messaging.operator.conduktor.cli.CliResult;
-import com.example.messaging.operator.conduktor.cli.ConduktorCli;
+import com.example.messaging.operator.conduktor.backend.ApplyBackend;
+import com.example.messaging.operator.conduktor.backend.ApplyBackendType;
+import com.example.messaging.operator.conduktor.backend.ApplyBatcher;
 import com.example.messaging.operator.conduktor.cli.ConduktorCliCredentials;
 import com.example.messaging.operator.conduktor.model.ConduktorResource;
+import com.example.messaging.operator.conduktor.transformer.GatewayPolicyTransformer;
 import com.example.messaging.operator.conduktor.transformer.KafkaClusterTransformer;
 import com.example.messaging.operator.conduktor.transformer.ServiceAccountTransformer;
 import com.example.messaging.operator.conduktor.transformer.TopicTransformer;
+import com.example.messaging.operator.conduktor.yaml.ConduktorYamlWriter;
+import com.example.messaging.operator.crd.GatewayPolicy;
 import com.example.messaging.operator.crd.KafkaCluster;
 import com.example.messaging.operator.crd.ServiceAccount;
 import com.example.messaging.operator.crd.Topic;
+import com.example.messaging.operator.store.CRDKind;
 import com.example.messaging.operator.store.CRDStore;
+import com.example.messaging.operator.store.ResourceKey;
+import com.example.messaging.operator.validation.InformerResourceLookup;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
-import io.fabric8.kubernetes.client.informers.SharedInformerFactory;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
-
+import java.util.function.Predicate;
+
+/**
+ * Watches CRDs through shared informers and applies their Conduktor representation.
+ *
+ * <p>
+ * The informers are the ones the admission webhook answers lookups from, so every CRD kind is listed, watched and cached once per process. Kinds without a
+ * Conduktor resource of their own (ApplicationService, ConsumerGroup, ACL, Scope) are still reconciled so that dependents, such as a GatewayPolicy on its Scope,
+ * wait for them in order.
+ *
+ * <p>
+ * Informer callbacks mirror the kinds transformers resolve references to (KafkaCluster, ServiceAccount, Scope) into the {@link CRDStore} and enqueue the
+ * object's {@link ResourceKey}; reconciles never call the API server. Other kinds are only read from the informer cache, so the store does not duplicate it. A
+ * fixed set of workers drains the {@link WorkQueue} and reconciles each key against the latest object in the informer cache. Bursts for the same key collapse into one reconcile, a key is never processed by two workers at once, and failures are retried with exponential
+ * backoff. Worker parallelism is read from {@code RECONCILE_WORKERS} (default 4).
+ *
+ * <p>
+ * Updates that leave {@code metadata.generation} unchanged (status or metadata-only writes) are not enqueued, and an apply is skipped when the transformed resource
+ * matches the fingerprint of the last successful apply, so periodic resyncs do not spawn a CLI process per object.
+ *
+ * <p>
+ * After {@link #warmStart(WarmStartSnapshot) a warm start} the informers begin from the snapshot's objects and fingerprints instead of an empty cache. Their
+ * initial relist then only raises events for objects whose resourceVersion differs from the snapshot, so only changes made while the operator was down are
+ * reconciled.
+ */
 public class ReconciliationController implements AutoCloseable {
 
     private static final Logger log = LoggerFactory.getLogger(ReconciliationController.class);
-    private static final long RESYNC_PERIOD_MS = 30_000;
+    private static final int DEFAULT_WORKERS = 4;
+
+    /** Kinds the transformers look up in the store; nothing else is mirrored. */
+    private static final Set<CRDKind> REFERENCED_KINDS = EnumSet.of(CRDKind.KAFKA_CLUSTER, CRDKind.SERVICE_ACCOUNT, CRDKind.SCOPE);
 
-    private final KubernetesClient client;
-    private final ConduktorCli cli;
+    private final ApplyBackend backend;
+    private final ApplyBatcher applyBatcher;
+    private final Semaphore inFlight;
     private final CRDStore store;
-    private final SharedInformerFactory informerFactory;
-    private final ExecutorService reconcileExecutor;
+    private final InformerResourceLookup informerSource;
+    private final WorkQueue<ResourceKey> workQueue = new WorkQueue<>();
+    private final int workerCount;
+    private final List<Thread> workers = new ArrayList<>();
     private final List<SharedIndexInformer<?>> informers = new ArrayList<>();
+    private final Map<CRDKind, KindHandler<?>> handlers = new EnumMap<>(CRDKind.class);
+    private final Map<ResourceKey, HasMetadata> tombstones = new ConcurrentHashMap<>();
+    private final FingerprintCache fingerprints = new FingerprintCache();
+    private final DependencyTracker dependencies = new DependencyTracker();
+    private volatile Predicate<String> ownsNamespace = namespace -> true;
+    private volatile WarmStartSnapshot warmStart;
+    private final ConduktorYamlWriter yamlWriter = new ConduktorYamlWriter();
 
     private final KafkaClusterTransformer kafkaClusterTransformer;
     private final ServiceAccountTransformer serviceAccountTransformer;
     private final TopicTransformer topicTransformer;
+    private final GatewayPolicyTransformer gatewayPolicyTransformer;
+
+    public ReconciliationController(InformerResourceLookup informerSource, CRDStore store) {
+        this(informerSource, store, Integer.parseInt(System.getenv().getOrDefault("RECONCILE_WORKERS", String.valueOf(DEFAULT_WORKERS))));
+    }
 
-    public ReconciliationController(KubernetesClient client, CRDStore store) {
-        this.client = client;
+    public ReconciliationController(InformerResourceLookup informerSource, CRDStore store, int workerCount) {
+        this(informerSource, store, workerCount, createBackend());
+    }
+
+    ReconciliationController(InformerResourceLookup informerSource, CRDStore store, int workerCount, ApplyBackend backend) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("Reconcile worker count must be positive: " + workerCount);
+        }
         this.store = store;
-        this.informerFactory = client.informers();
-        this.reconcileExecutor = Executors.newFixedThreadPool(4);
+        this.informerSource = informerSource;
+        this.workerCount = workerCount;
 
         // Initialize transformers
         this.kafkaClusterTransformer = new KafkaClusterTransformer();
         this.serviceAccountTransformer = new ServiceAccountTransformer(store);
         this.topicTransformer = new TopicTransformer(store);
+        this.gatewayPolicyTransformer = new GatewayPolicyTransformer(store);
 
-        // Initialize CLI with credentials
-        ConduktorCliCredentials credentials = loadCredentials();
-        this.cli = credentials != null ? new ConduktorCli(credentials) : null;
+        this.backend = backend;
+        this.applyBatcher = backend != null ? ApplyBatcher.fromEnvironment(backend) : null;
+        this.inFlight = new Semaphore(applyBatcher != null ? Math.max(workerCount, applyBatcher.getMaxBatchSize()) : workerCount);
 
-        if (cli == null) {
+        if (backend == null) {
             log.warn("Conduktor CLI credentials not configured - reconciliation will be disabled");
         }
     }
 
-    private ConduktorCliCredentials loadCredentials() {
+    /**
+     * Creates the apply backend (CLI or HTTP) from the configured credentials, or null when there are none.
+     */
+    private static ApplyBackend createBackend() {
+        ConduktorCliCredentials credentials = loadCredentials();
+        return credentials != null ? ApplyBackendType.fromEnvironment().create(credentials) : null;
+    }
+
+    private static ConduktorCliCredentials loadCredentials() {
         try {
             return ConduktorCliCredentials.load();
         } catch (Exception e) {
@@ -72,84 +142,102 @@ public class ReconciliationController implements AutoCloseable {
     }
 
     public void start() {
-        if (cli == null) {
+        startInformers();
+        startWorkers();
+    }
+
+    /**
+     * Registers event handlers on the shared informers and starts them if the webhook has not already. Events are queued from then on, but nothing is applied until
+     * {@link #startWorkers()}; a leader-election standby keeps its caches and queue warm this way.
+     */
+    public void startInformers() {
+        if (backend == null) {
             log.error("Cannot start reconciliation - CLI credentials not configured");
             return;
         }
 
         log.info("Starting reconciliation controller...");
 
-        // Register informers for each CRD type
-        registerKafkaClusterInformer();
-        registerServiceAccountInformer();
-        registerTopicInformer();
+        // Register handlers for each CRD type
+        register(CRDKind.KAFKA_CLUSTER, kafkaClusterTransformer::transform, this::getKafkaClusterDeleteName);
+        register(CRDKind.SERVICE_ACCOUNT, serviceAccountTransformer::transform, this::getServiceAccountDeleteName);
+        register(CRDKind.TOPIC, topicTransformer::transform, this::getTopicDeleteName);
+        register(CRDKind.GATEWAY_POLICY, gatewayPolicyTransformer::transform, this::getGatewayPolicyDeleteName);
+        registerReference(CRDKind.APPLICATION_SERVICE);
+        registerReference(CRDKind.CONSUMER_GROUP);
+        registerReference(CRDKind.ACL);
+        registerReference(CRDKind.SCOPE);
 
-        // Start all informers
-        informerFactory.startAllRegisteredInformers();
+        // Start the shared informers; a no-op when the webhook lookup already started them
+        informerSource.start();
 
         log.info("Reconciliation controller started - watching {} CRD types", informers.size());
     }
 
-    private void registerKafkaClusterInformer() {
-        SharedIndexInformer<KafkaCluster> informer = informerFactory
-                .sharedIndexInformerFor(KafkaCluster.class, RESYNC_PERIOD_MS);
-
-        informer.addEventHandler(createHandler(
-                "KafkaCluster",
-                kafkaClusterTransformer::transform,
-                this::getKafkaClusterDeleteName
-        ));
-
-        informers.add(informer);
-        log.info("Registered KafkaCluster informer");
-    }
-
-    private void registerServiceAccountInformer() {
-        SharedIndexInformer<ServiceAccount> informer = informerFactory
-                .sharedIndexInformerFor(ServiceAccount.class, RESYNC_PERIOD_MS);
-
-        informer.addEventHandler(createHandler(
-                "ServiceAccount",
-                serviceAccountTransformer::transform,
-                this::getServiceAccountDeleteName
-        ));
-
-        informers.add(informer);
-        log.info("Registered ServiceAccount informer");
+    public synchronized void startWorkers() {
+        if (backend == null || !workers.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "reconcile-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("Started {} reconcile workers", workerCount);
     }
 
-    private void registerTopicInformer() {
-        SharedIndexInformer<Topic> informer = informerFactory
-                .sharedIndexInformerFor(Topic.class, RESYNC_PERIOD_MS);
-
-        informer.addEventHandler(createHandler(
-                "Topic",
-                this::transformTopic,
-                this::getTopicDeleteName
-        ));
-
-        informers.add(informer);
-        log.info("Registered Topic informer");
+    /**
+     * Stops the workers without touching informers or the queue, e.g. when this replica loses leadership. Applies already handed to the batcher still complete.
+     */
+    public synchronized void stopWorkers() {
+        workers.forEach(Thread::interrupt);
+        try {
+            for (Thread worker : workers) {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers.clear();
+        log.info("Stopped reconcile workers - {} keys queued", workQueue.size());
     }
 
-    private ConduktorResource<?> transformTopic(Topic topic) {
-        // Store the topic first so transformer can resolve references
-        storeResource(topic);
-        return topicTransformer.transform(topic);
+    public synchronized boolean isReconciling() {
+        return !workers.isEmpty();
     }
 
-    private void storeResource(Topic topic) {
-        // Ensure ServiceAccount is in store for reference resolution
-        String namespace = topic.getMetadata().getNamespace();
-        String saRef = topic.getSpec().getServiceRef();
-
-        ServiceAccount sa = client.resources(ServiceAccount.class)
-                .inNamespace(namespace)
-                .withName(saRef)
-                .get();
-
-        if (sa != null) {
-            store.create(com.example.messaging.operator.store.CRDKind.SERVICE_ACCOUNT, namespace, sa);
+    private void runWorker() {
+        while (!Thread.currentThread().isInterrupted()) {
+            ResourceKey key;
+            try {
+                key = workQueue.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (key == null) {
+                return;
+            }
+            // Take the apply slot only once there is work, so a worker stopped while idle holds none
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                // Stopped while waiting for a slot: hand the key back for whoever reconciles next
+                workQueue.add(key);
+                workQueue.done(key);
+                Thread.currentThread().interrupt();
+                return;
+            }
+            reconcile(key).whenComplete((success, error) -> {
+                if (error == null && success) {
+                    workQueue.forget(key);
+                } else {
+                    workQueue.addRateLimited(key);
+                }
+                workQueue.done(key);
+                inFlight.release();
+            });
         }
     }
 
@@ -165,84 +253,317 @@ public class ReconciliationController implements AutoCloseable {
         return topic.getSpec().getName();
     }
 
-    private <T extends HasMetadata> ResourceEventHandler<T> createHandler(
-            String resourceType,
+    private String getGatewayPolicyDeleteName(GatewayPolicy policy) {
+        return GatewayPolicyTransformer.interceptorName(policy.getMetadata().getNamespace(), policy.getMetadata().getName());
+    }
+
+    /**
+     * Registers a kind that has no Conduktor resource of its own: it is applied as soon as its parents are, only to release its dependents.
+     */
+    private void registerReference(CRDKind kind) {
+        register(kind, null, null);
+    }
+
+    private <T extends HasMetadata> void register(
+            CRDKind kind,
             Function<T, ConduktorResource<?>> transformer,
             Function<T, String> deleteNameExtractor) {
 
+        SharedIndexInformer<T> informer = informerSource.getInformer(kind);
+        if (warmStart != null) {
+            // The lookup seeded the shared cache, and the relist raises no event for unchanged objects: mirror them now, and queue those never applied
+            List<T> restored = warmStart.resources(kind);
+            restored.forEach(resource -> mirror(kind, resource));
+            restored.stream()
+                    .map(resource -> keyOf(kind, resource))
+                    .filter(key -> !warmStart.fingerprints().containsKey(key))
+                    .forEach(this::enqueue);
+        }
+        handlers.put(kind, new KindHandler<>(informer, transformer, deleteNameExtractor));
+        informer.addEventHandler(createHandler(kind));
+        informers.add(informer);
+        log.info("Registered {} handler", kind);
+    }
+
+    private <T extends HasMetadata> ResourceEventHandler<T> createHandler(CRDKind kind) {
         return new ResourceEventHandler<>() {
             @Override
             public void onAdd(T resource) {
-                reconcileExecutor.submit(() -> handleAdd(resourceType, resource, transformer));
+                mirror(kind, resource);
+                enqueue(keyOf(kind, resource));
             }
 
             @Override
             public void onUpdate(T oldResource, T newResource) {
-                reconcileExecutor.submit(() -> handleUpdate(resourceType, newResource, transformer));
+                if (!Objects.equals(oldResource.getMetadata().getResourceVersion(), newResource.getMetadata().getResourceVersion())) {
+                    mirror(kind, newResource);
+                }
+                if (isStatusOnlyChange(oldResource, newResource)) {
+                    log.debug("[RECONCILE] Ignoring status-only change to {} {}/{}",
+                            kind, newResource.getMetadata().getNamespace(), newResource.getMetadata().getName());
+                    return;
+                }
+                enqueue(keyOf(kind, newResource));
             }
 
             @Override
             public void onDelete(T resource, boolean deletedFinalStateUnknown) {
-                reconcileExecutor.submit(() -> handleDelete(resourceType, resource, deleteNameExtractor));
+                ResourceKey key = keyOf(kind, resource);
+                if (REFERENCED_KINDS.contains(kind)) {
+                    store.evict(kind, key.namespace(), key.name());
+                }
+                if (ownsNamespace.test(key.namespace())) {
+                    tombstones.put(key, resource);
+                    workQueue.add(key);
+                }
             }
         };
     }
 
-    private <T extends HasMetadata> void handleAdd(String resourceType, T resource, Function<T, ConduktorResource<?>> transformer) {
-        String name = resource.getMetadata().getName();
-        String namespace = resource.getMetadata().getNamespace();
+    /**
+     * Keeps the store in step with the informer cache before the key is queued, so transformers resolve references from memory. Resyncs, which repeat the cached
+     * resourceVersion, are not mirrored again.
+     */
+    private void mirror(CRDKind kind, HasMetadata resource) {
+        if (!REFERENCED_KINDS.contains(kind)) {
+            return;
+        }
+        try {
+            store.upsert(kind, resource.getMetadata().getNamespace(), resource);
+        } catch (RuntimeException e) {
+            log.warn("[RECONCILE] Failed to mirror {} {}/{} into the store: {}", kind, resource.getMetadata().getNamespace(), resource.getMetadata().getName(),
+                    e.getMessage());
+        }
+    }
 
-        log.info("[RECONCILE] ADD {} {}/{}", resourceType, namespace, name);
+    /**
+     * A changed resourceVersion with an unchanged generation means only status or metadata was written. Resyncs keep the same resourceVersion and still pass through
+     * so the fingerprint check can decide.
+     */
+    static boolean isStatusOnlyChange(HasMetadata oldResource, HasMetadata newResource) {
+        Long oldGeneration = oldResource.getMetadata().getGeneration();
+        Long newGeneration = newResource.getMetadata().getGeneration();
+        return newGeneration != null
+                && newGeneration.equals(oldGeneration)
+                && !Objects.equals(oldResource.getMetadata().getResourceVersion(), newResource.getMetadata().getResourceVersion());
+    }
 
-        try {
-            ConduktorResource<?> conduktorResource = transformer.apply(resource);
-            CliResult result = cli.apply(conduktorResource);
+    private void enqueue(ResourceKey key) {
+        if (ownsNamespace.test(key.namespace())) {
+            workQueue.add(key);
+        }
+    }
 
-            if (result.exitCode() == 0) {
-                log.info("[RECONCILE] SUCCESS {} {}/{} -> Conduktor", resourceType, namespace, name);
-                log.debug("CLI stdout: {}", result.stdout());
-            } else {
-                log.error("[RECONCILE] FAILED {} {}/{}: exit={}, stderr={}",
-                        resourceType, namespace, name, result.exitCode(), result.stderr());
+    /**
+     * Switches the set of namespaces this replica reconciles and enqueues every cached object it now owns. What this replica knew about keys in namespaces it gave up
+     * is dropped, since it may be stale by the time they come back; keys still queued for them are skipped when dequeued.
+     */
+    public void reshard(Predicate<String> ownsNamespace) {
+        Predicate<String> previous = this.ownsNamespace;
+        this.ownsNamespace = ownsNamespace;
+        int enqueued = 0;
+        int released = 0;
+        for (Map.Entry<CRDKind, KindHandler<?>> entry : handlers.entrySet()) {
+            for (HasMetadata resource : entry.getValue().cached()) {
+                ResourceKey key = keyOf(entry.getKey(), resource);
+                if (ownsNamespace.test(key.namespace())) {
+                    workQueue.add(key);
+                    enqueued++;
+                } else if (previous.test(key.namespace())) {
+                    release(key);
+                    released++;
+                }
             }
-        } catch (Exception e) {
-            log.error("[RECONCILE] ERROR {} {}/{}: {}", resourceType, namespace, name, e.getMessage(), e);
         }
+        for (ResourceKey key : List.copyOf(tombstones.keySet())) {
+            if (!ownsNamespace.test(key.namespace()) && previous.test(key.namespace())) {
+                release(key);
+                released++;
+            }
+        }
+        log.info("Resharded reconciliation - {} owned keys enqueued, {} handed off", enqueued, released);
+    }
+
+    private void release(ResourceKey key) {
+        fingerprints.forget(key);
+        dependencies.markRemoved(key);
+        tombstones.remove(key);
+    }
+
+    /**
+     * Seeds the controller from a snapshot taken by a previous run. Must be called before {@link #startInformers()}; objects the snapshot has a fingerprint for
+     * count as applied, so their dependents are not parked and unchanged objects are not applied again.
+     */
+    public void warmStart(WarmStartSnapshot snapshot) {
+        if (!informers.isEmpty()) {
+            throw new IllegalStateException("Warm start must happen before the handlers are registered");
+        }
+        fingerprints.restore(snapshot.fingerprints());
+        snapshot.fingerprints().keySet().forEach(dependencies::markApplied);
+        this.warmStart = snapshot;
+        log.info("Warm start from snapshot with {} resources and {} fingerprints", snapshot.size(), snapshot.fingerprints().size());
     }
 
-    private <T extends HasMetadata> void handleUpdate(String resourceType, T resource, Function<T, ConduktorResource<?>> transformer) {
-        String name = resource.getMetadata().getName();
-        String namespace = resource.getMetadata().getNamespace();
+    /**
+     * Fingerprints of the last successful apply per key, for {@link WarmStartSnapshot}.
+     */
+    public Map<ResourceKey, String> fingerprintSnapshot() {
+        return fingerprints.snapshot();
+    }
 
-        log.info("[RECONCILE] UPDATE {} {}/{}", resourceType, namespace, name);
+    private static ResourceKey keyOf(CRDKind kind, HasMetadata resource) {
+        return ResourceKey.of(kind, resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+    }
 
+    /**
+     * Reconciles a key against the current informer cache. A key missing from the cache is treated as deleted.
+     *
+     * @return completes with false if the key should be retried with backoff
+     */
+    CompletionStage<Boolean> reconcile(ResourceKey key) {
+        if (!ownsNamespace.test(key.namespace())) {
+            // Not ours (yet); reshard() dropped its state if we handed it off and enqueues it again if we take it over
+            log.debug("[RECONCILE] {} not owned by this replica - skipping", key);
+            return CompletableFuture.completedFuture(true);
+        }
+        KindHandler<?> handler = handlers.get(key.kind());
+        if (handler == null) {
+            log.warn("[RECONCILE] No handler registered for {}", key);
+            return CompletableFuture.completedFuture(true);
+        }
         try {
-            ConduktorResource<?> conduktorResource = transformer.apply(resource);
-            CliResult result = cli.apply(conduktorResource);
+            return handler.reconcile(key);
+        } catch (Exception e) {
+            log.error("[RECONCILE] ERROR {} {}/{}: {}", key.kind(), key.namespace(), key.name(), e.getMessage(), e);
+            return CompletableFuture.completedFuture(false);
+        }
+    }
 
+    private <T extends HasMetadata> CompletionStage<Boolean> handleApply(ResourceKey key, T resource, Function<T, ConduktorResource<?>> transformer) {
+        ConduktorResource<?> conduktorResource = transformer.apply(resource);
+        String fingerprint = FingerprintCache.digest(yamlWriter.toYaml(conduktorResource));
+        if (fingerprints.matches(key, fingerprint)) {
+            log.debug("[RECONCILE] UNCHANGED {} {}/{} - skipping apply", key.kind(), key.namespace(), key.name());
+            releaseDependents(key);
+            return CompletableFuture.completedFuture(true);
+        }
+
+        log.info("[RECONCILE] APPLY {} {}/{}", key.kind(), key.namespace(), key.name());
+        return applyBatcher.submit(conduktorResource).handle((result, error) -> {
+            if (error != null) {
+                fingerprints.forget(key);
+                log.error("[RECONCILE] ERROR {} {}/{}: {}", key.kind(), key.namespace(), key.name(), error.getMessage(), error);
+                return false;
+            }
             if (result.exitCode() == 0) {
-                log.info("[RECONCILE] SUCCESS {} {}/{} updated in Conduktor", resourceType, namespace, name);
-            } else {
-                log.error("[RECONCILE] FAILED {} {}/{}: exit={}, stderr={}",
-                        resourceType, namespace, name, result.exitCode(), result.stderr());
+                fingerprints.record(key, fingerprint);
+                log.info("[RECONCILE] SUCCESS {} {}/{} -> Conduktor", key.kind(), key.namespace(), key.name());
+                log.debug("CLI stdout: {}", result.stdout());
+                releaseDependents(key);
+                return true;
             }
-        } catch (Exception e) {
-            log.error("[RECONCILE] ERROR {} {}/{}: {}", resourceType, namespace, name, e.getMessage(), e);
+            fingerprints.forget(key);
+            log.error("[RECONCILE] FAILED {} {}/{}: exit={}, stderr={} (retry {})",
+                    key.kind(), key.namespace(), key.name(), result.exitCode(), result.stderr(), workQueue.numRequeues(key) + 1);
+            return false;
+        });
+    }
+
+    private void releaseDependents(ResourceKey key) {
+        for (ResourceKey dependent : dependencies.markApplied(key)) {
+            log.debug("[RECONCILE] {} applied - releasing {}", key, dependent);
+            enqueue(dependent);
         }
     }
 
-    private <T extends HasMetadata> void handleDelete(String resourceType, T resource, Function<T, String> deleteNameExtractor) {
-        String name = resource.getMetadata().getName();
-        String namespace = resource.getMetadata().getNamespace();
+    /**
+     * Parks the key if any parent it references (and that this controller reconciles) has not been applied yet.
+     */
+    private boolean parkIfBlocked(ResourceKey key, HasMetadata resource) {
+        List<ResourceKey> parents = DependencyTracker.parentsOf(resource).stream()
+                .filter(parent -> handlers.containsKey(parent.kind()))
+                .toList();
+        if (dependencies.parkIfBlocked(key, parents)) {
+            log.info("[RECONCILE] WAITING {} {}/{} on parents {}", key.kind(), key.namespace(), key.name(), parents);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Reconciles a kind without a Conduktor resource: its parents are applied, so it counts as applied too.
+     */
+    private CompletionStage<Boolean> handleReference(ResourceKey key) {
+        log.debug("[RECONCILE] RESOLVED {} {}/{}", key.kind(), key.namespace(), key.name());
+        releaseDependents(key);
+        return CompletableFuture.completedFuture(true);
+    }
+
+    private <T extends HasMetadata> CompletionStage<Boolean> handleDelete(ResourceKey key, T resource, Function<T, String> deleteNameExtractor) {
+        fingerprints.forget(key);
+        dependencies.markRemoved(key);
+        if (deleteNameExtractor == null) {
+            log.debug("[RECONCILE] {} removed", key);
+            return CompletableFuture.completedFuture(true);
+        }
+        if (resource == null) {
+            log.debug("[RECONCILE] {} no longer exists and has no tombstone - nothing to do", key);
+            return CompletableFuture.completedFuture(true);
+        }
         String conduktorName = deleteNameExtractor.apply(resource);
 
-        log.info("[RECONCILE] DELETE {} {}/{} (Conduktor name: {})", resourceType, namespace, name, conduktorName);
+        log.info("[RECONCILE] DELETE {} {}/{} (Conduktor name: {})", key.kind(), key.namespace(), key.name(), conduktorName);
 
         log.warn("[RECONCILE] DELETE operations are delegated to Kubernetes RBAC - resource {} removed from K8s but may remain in Conduktor",
                 conduktorName);
+        return CompletableFuture.completedFuture(true);
+    }
+
+    int getQueueDepth() {
+        return workQueue.size();
+    }
+
+    boolean isApplied(ResourceKey key) {
+        return dependencies.isApplied(key);
+    }
+
+    private final class KindHandler<T extends HasMetadata> {
+        private final SharedIndexInformer<T> informer;
+        private final Function<T, ConduktorResource<?>> transformer;
+        private final Function<T, String> deleteNameExtractor;
+
+        private KindHandler(SharedIndexInformer<T> informer, Function<T, ConduktorResource<?>> transformer, Function<T, String> deleteNameExtractor) {
+            this.informer = informer;
+            this.transformer = transformer;
+            this.deleteNameExtractor = deleteNameExtractor;
+        }
+
+        private List<T> cached() {
+            return informer.getStore().list();
+        }
+
+        @SuppressWarnings("unchecked")
+        private CompletionStage<Boolean> reconcile(ResourceKey key) {
+            T current = informer.getStore().getByKey(Cache.namespaceKeyFunc(key.namespace(), key.name()));
+            if (current == null) {
+                return handleDelete(key, (T) tombstones.remove(key), deleteNameExtractor);
+            }
+            tombstones.remove(key);
+            if (parkIfBlocked(key, current)) {
+                return CompletableFuture.completedFuture(true);
+            }
+            if (transformer == null) {
+                return handleReference(key);
+            }
+            return handleApply(key, current, transformer);
+        }
     }
 
     public boolean waitForSync(long timeout, TimeUnit unit) {
+        if (warmStart != null) {
+            log.info("Warm-started from snapshot - informers relist in the background and only changed objects are reconciled");
+            return true;
+        }
         log.info("Waiting for informer caches to sync...");
 
         long deadline = System.currentTimeMillis() + unit.toMillis(timeout);
@@ -270,16 +591,15 @@ public class ReconciliationController implements AutoCloseable {
     public void close() {
         log.info("Shutting down reconciliation controller...");
 
-        informerFactory.stopAllRegisteredInformers();
+        // The informers are shared with the webhook lookup, which stops them; events arriving until then are dropped by the shut-down queue
+        workQueue.shutDown();
+        stopWorkers();
 
-        reconcileExecutor.shutdown();
-        try {
-            if (!reconcileExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
-                reconcileExecutor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            reconcileExecutor.shutdownNow();
-            Thread.currentThread().interrupt();
+        if (applyBatcher != null) {
+            applyBatcher.close();
+        }
+        if (backend != null) {
+            backend.close();
         }
 
         log.info("Reconciliation controller stopped");
@@ -0,0 +1,145 @@
+package com.example.messaging.operator.reconciliation;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.NonDeletingOperation;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks the replicas sharing reconciliation work through one heartbeat Lease per replica.
+ *
+ * <p>
+ * Every heartbeat renews this replica's Lease and lists the Leases labelled {@value #MEMBER_LABEL}; members whose renewTime is older than the lease duration are
+ * considered gone. Whenever the live set changes a new {@link ConsistentHashRing} is handed to the rebalance callback, so pods joining or leaving move only their share of
+ * namespaces. Until a replica has seen a removed peer's Lease expire both may briefly reconcile the same namespace; applies are idempotent upserts.
+ */
+public class ShardMembership implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ShardMembership.class);
+
+    public static final String MEMBER_LABEL = "messaging.example.com/shard-member";
+    private static final String LEASE_PREFIX = "messaging-operator-shard-";
+    private static final Duration DEFAULT_LEASE_DURATION = Duration.ofSeconds(15);
+    private static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofSeconds(5);
+
+    private final KubernetesClient client;
+    private final String namespace;
+    private final String identity;
+    private final Duration leaseDuration;
+    private final Duration heartbeatInterval;
+    private final Consumer<ConsistentHashRing> onRebalance;
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "shard-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile ConsistentHashRing ring = new ConsistentHashRing(Set.of());
+
+    public ShardMembership(KubernetesClient client, String namespace, String identity, Consumer<ConsistentHashRing> onRebalance) {
+        this(client, namespace, identity, DEFAULT_LEASE_DURATION, DEFAULT_HEARTBEAT_INTERVAL, onRebalance);
+    }
+
+    public ShardMembership(KubernetesClient client, String namespace, String identity, Duration leaseDuration, Duration heartbeatInterval,
+            Consumer<ConsistentHashRing> onRebalance) {
+        this.client = client;
+        this.namespace = namespace;
+        this.identity = identity;
+        this.leaseDuration = leaseDuration;
+        this.heartbeatInterval = heartbeatInterval;
+        this.onRebalance = onRebalance;
+    }
+
+    /**
+     * Runs the first heartbeat on the calling thread, so unless it fails the initial ring has been handed to the rebalance callback when this returns, then keeps
+     * heartbeating in the background.
+     */
+    public void start() {
+        log.info("Joining reconcile shard ring in {} as {}", namespace, identity);
+        beat();
+        heartbeat.scheduleWithFixedDelay(this::beat, heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void beat() {
+        try {
+            renewOwnLease();
+            Set<String> live = liveMembers();
+            if (!live.equals(ring.getMembers())) {
+                ConsistentHashRing updated = new ConsistentHashRing(live);
+                log.info("Shard membership changed: {} -> {}", ring.getMembers(), live);
+                ring = updated;
+                onRebalance.accept(updated);
+            }
+        } catch (Exception e) {
+            log.warn("Shard heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    private void renewOwnLease() {
+        Lease lease = new LeaseBuilder()
+                .withNewMetadata()
+                .withName(LEASE_PREFIX + identity)
+                .withNamespace(namespace)
+                .addToLabels(MEMBER_LABEL, "true")
+                .endMetadata()
+                .withNewSpec()
+                .withHolderIdentity(identity)
+                .withLeaseDurationSeconds((int) leaseDuration.toSeconds())
+                .withRenewTime(ZonedDateTime.now())
+                .endSpec()
+                .build();
+        client.resources(Lease.class).inNamespace(namespace).resource(lease).createOr(NonDeletingOperation::update);
+    }
+
+    private Set<String> liveMembers() {
+        ZonedDateTime now = ZonedDateTime.now();
+        Set<String> live = new HashSet<>();
+        live.add(identity);
+        for (Lease lease : client.resources(Lease.class).inNamespace(namespace).withLabel(MEMBER_LABEL, "true").list().getItems()) {
+            if (lease.getSpec() == null || lease.getSpec().getHolderIdentity() == null || lease.getSpec().getRenewTime() == null) {
+                continue;
+            }
+            int durationSeconds = lease.getSpec().getLeaseDurationSeconds() != null
+                    ? lease.getSpec().getLeaseDurationSeconds()
+                    : (int) leaseDuration.toSeconds();
+            if (lease.getSpec().getRenewTime().plusSeconds(durationSeconds).isAfter(now)) {
+                live.add(lease.getSpec().getHolderIdentity());
+            }
+        }
+        return live;
+    }
+
+    public boolean owns(String shardKey) {
+        return identity.equals(ring.ownerOf(shardKey));
+    }
+
+    public ConsistentHashRing getRing() {
+        return ring;
+    }
+
+    public String getIdentity() {
+        return identity;
+    }
+
+    /**
+     * Stops heartbeating and deletes this replica's Lease so peers rebalance on their next heartbeat instead of waiting for expiry.
+     */
+    @Override
+    public void close() {
+        heartbeat.shutdownNow();
+        try {
+            client.resources(Lease.class).inNamespace(namespace).withName(LEASE_PREFIX + identity).delete();
+        } catch (Exception e) {
+            log.warn("Failed to delete shard lease for {}: {}", identity, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.messaging.operator.reconciliation;
+
+import com.example.messaging.operator.store.CRDKind;
+import com.example.messaging.operator.store.ResourceKey;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Gzipped JSON copy of the operator's informer caches and last-applied fingerprints on a local volume. On restart the webhook serves admissions from it and the
+ * controller skips reconciles of objects whose resourceVersion is unchanged since the snapshot, while the informers relist in the background. The relist is diffed
+ * against the restored cache, so only objects added, changed or deleted while the operator was down are reconciled.
+ *
+ * <p>
+ * A missing, unreadable or incompatible snapshot is ignored and the operator starts cold.
+ */
+public final class WarmStartSnapshot {
+    private static final Logger log = LoggerFactory.getLogger(WarmStartSnapshot.class);
+
+    static final int FORMAT_VERSION = 1;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final long takenAt;
+    private final Map<CRDKind, List<HasMetadata>> resources;
+    private final Map<ResourceKey, String> fingerprints;
+
+    private WarmStartSnapshot(long takenAt, Map<CRDKind, List<HasMetadata>> resources, Map<ResourceKey, String> fingerprints) {
+        this.takenAt = takenAt;
+        this.resources = resources;
+        this.fingerprints = fingerprints;
+    }
+
+    public static WarmStartSnapshot of(Map<CRDKind, ? extends Collection<? extends HasMetadata>> resources, Map<ResourceKey, String> fingerprints) {
+        Map<CRDKind, List<HasMetadata>> copy = new EnumMap<>(CRDKind.class);
+        resources.forEach((kind, cached) -> copy.put(kind, List.copyOf(cached)));
+        return new WarmStartSnapshot(System.currentTimeMillis(), copy, Map.copyOf(fingerprints));
+    }
+
+    public long getTakenAt() {
+        return takenAt;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends HasMetadata> List<T> resources(CRDKind kind) {
+        return (List<T>) resources.getOrDefault(kind, List.of());
+    }
+
+    public Map<ResourceKey, String> fingerprints() {
+        return fingerprints;
+    }
+
+    public int size() {
+        return resources.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Writes to a temporary file next to {@code file} and renames it, so a crash mid-write leaves the previous snapshot intact.
+     */
+    public void write(Path file) {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)), 1 << 16);
+                    JsonGenerator json = MAPPER.createGenerator(out)) {
+                json.writeStartObject();
+                json.writeNumberField("format", FORMAT_VERSION);
+                json.writeNumberField("takenAt", takenAt);
+                json.writeObjectFieldStart("resources");
+                for (Map.Entry<CRDKind, List<HasMetadata>> entry : resources.entrySet()) {
+                    json.writeArrayFieldStart(entry.getKey().getValue());
+                    for (HasMetadata resource : entry.getValue()) {
+                        MAPPER.writeValue(json, resource);
+                    }
+                    json.writeEndArray();
+                }
+                json.writeEndObject();
+                json.writeArrayFieldStart("fingerprints");
+                for (Map.Entry<ResourceKey, String> entry : fingerprints.entrySet()) {
+                    json.writeStartArray();
+                    json.writeString(entry.getKey().kind().getValue());
+                    json.writeString(entry.getKey().namespace());
+                    json.writeString(entry.getKey().name());
+                    json.writeString(entry.getValue());
+                    json.writeEndArray();
+                }
+                json.writeEndArray();
+                json.writeEndObject();
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write warm-start snapshot " + file, e);
+        }
+    }
+
+    public static Optional<WarmStartSnapshot> read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            log.info("No warm-start snapshot at {} - starting cold", file);
+            return Optional.empty();
+        }
+        try (InputStream in = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file)), 1 << 16);
+                JsonParser json = MAPPER.createParser(in)) {
+            WarmStartSnapshot snapshot = parse(json);
+            log.info("Loaded warm-start snapshot from {}: {} resources, {} fingerprints, {} s old", file, snapshot.size(), snapshot.fingerprints.size(),
+                    (System.currentTimeMillis() - snapshot.takenAt) / 1000);
+            return Optional.of(snapshot);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable warm-start snapshot {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static WarmStartSnapshot parse(JsonParser json) throws IOException {
+        expect(json.nextToken(), JsonToken.START_OBJECT);
+        long takenAt = 0;
+        Map<CRDKind, List<HasMetadata>> resources = new EnumMap<>(CRDKind.class);
+        Map<ResourceKey, String> fingerprints = new HashMap<>();
+        while (json.nextToken() == JsonToken.FIELD_NAME) {
+            String field = json.currentName();
+            json.nextToken();
+            switch (field) {
+                case "format" -> {
+                    if (json.getIntValue() != FORMAT_VERSION) {
+                        throw new IOException("unsupported format " + json.getIntValue());
+                    }
+                }
+                case "takenAt" -> takenAt = json.getLongValue();
+                case "resources" -> {
+                    while (json.nextToken() == JsonToken.FIELD_NAME) {
+                        CRDKind kind = CRDKind.fromValue(json.currentName());
+                        expect(json.nextToken(), JsonToken.START_ARRAY);
+                        List<HasMetadata> cached = new ArrayList<>();
+                        while (json.nextToken() == JsonToken.START_OBJECT) {
+                            cached.add((HasMetadata) MAPPER.readValue(json, kind.getResourceClass()));
+                        }
+                        resources.put(kind, cached);
+                    }
+                }
+                case "fingerprints" -> {
+                    while (json.nextToken() == JsonToken.START_ARRAY) {
+                        CRDKind kind = CRDKind.fromValue(json.nextTextValue());
+                        ResourceKey key = ResourceKey.of(kind, json.nextTextValue(), json.nextTextValue());
+                        fingerprints.put(key, json.nextTextValue());
+                        expect(json.nextToken(), JsonToken.END_ARRAY);
+                    }
+                }
+                default -> json.skipChildren();
+            }
+        }
+        return new WarmStartSnapshot(takenAt, resources, fingerprints);
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.messaging.operator.reconciliation;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodically writes a {@link WarmStartSnapshot} of the operator's caches to a local volume, and once more on close. The capture supplier returns null while the
+ * caches are not worth persisting, e.g. before the first full sync, and that round is skipped.
+ */
+public class WarmStartSnapshotter implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(WarmStartSnapshotter.class);
+
+    public static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(60);
+
+    private final Path file;
+    private final Duration interval;
+    private final Supplier<WarmStartSnapshot> capture;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "warm-start-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public WarmStartSnapshotter(Path file, Duration interval, Supplier<WarmStartSnapshot> capture) {
+        this.file = file;
+        this.interval = interval;
+        this.capture = capture;
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::writeNow, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Writing warm-start snapshots to {} every {} s", file, interval.toSeconds());
+    }
+
+    /**
+     * @return true if a snapshot was written
+     */
+    public boolean writeNow() {
+        try {
+            WarmStartSnapshot snapshot = capture.get();
+            if (snapshot == null) {
+                log.debug("Caches not synced yet - skipping warm-start snapshot");
+                return false;
+            }
+            long started = System.nanoTime();
+            snapshot.write(file);
+            log.debug("Wrote warm-start snapshot of {} resources in {} ms", snapshot.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to write warm-start snapshot {}: {}", file, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeNow();
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.messaging.operator.reconciliation;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keyed, deduplicating work queue modelled on the controller-runtime workqueue.
+ *
+ * <p>
+ * A key added while it is already pending is collapsed into the pending entry. A key added while a worker is processing it is marked dirty and re-queued when
+ * {@link #done} is called, so each key is handled by at most one worker at a time and always sees the latest state. Failed keys can be re-queued with per-key
+ * exponential backoff via {@link #addRateLimited}.
+ */
+public class WorkQueue<K> {
+    private static final Duration DEFAULT_BASE_DELAY = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofMinutes(5);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Deque<K> queue = new ArrayDeque<>();
+    private final Set<K> dirty = new HashSet<>();
+    private final Set<K> processing = new HashSet<>();
+    private final Map<K, Integer> failures = new HashMap<>();
+    private final ScheduledExecutorService delayer;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private boolean shuttingDown;
+
+    public WorkQueue() {
+        this(DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY);
+    }
+
+    public WorkQueue(Duration baseDelay, Duration maxDelay) {
+        this.baseDelayMs = baseDelay.toMillis();
+        this.maxDelayMs = maxDelay.toMillis();
+        this.delayer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "workqueue-delay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void add(K key) {
+        lock.lock();
+        try {
+            if (shuttingDown || !dirty.add(key)) {
+                return;
+            }
+            if (processing.contains(key)) {
+                // Re-queued by done() once the current worker finishes
+                return;
+            }
+            queue.addLast(key);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until a key is available and marks it as processing. Returns null once the queue is shut down and drained.
+     */
+    public K get() throws InterruptedException {
+        lock.lock();
+        try {
+            while (queue.isEmpty() && !shuttingDown) {
+                notEmpty.await();
+            }
+            if (queue.isEmpty()) {
+                return null;
+            }
+            K key = queue.pollFirst();
+            processing.add(key);
+            dirty.remove(key);
+            return key;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void done(K key) {
+        lock.lock();
+        try {
+            processing.remove(key);
+            if (dirty.contains(key)) {
+                queue.addLast(key);
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void addAfter(K key, Duration delay) {
+        if (delay.isZero() || delay.isNegative()) {
+            add(key);
+            return;
+        }
+        lock.lock();
+        try {
+            if (shuttingDown) {
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        delayer.schedule(() -> add(key), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void addRateLimited(K key) {
+        addAfter(key, Duration.ofMillis(nextDelayMs(key)));
+    }
+
+    /**
+     * Clears the failure history of a key so the next rate-limited add starts from the base delay.
+     */
+    public void forget(K key) {
+        lock.lock();
+        try {
+            failures.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int numRequeues(K key) {
+        lock.lock();
+        try {
+            return failures.getOrDefault(key, 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void shutDown() {
+        lock.lock();
+        try {
+            shuttingDown = true;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        delayer.shutdownNow();
+    }
+
+    public boolean isShuttingDown() {
+        lock.lock();
+        try {
+            return shuttingDown;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long nextDelayMs(K key) {
+        lock.lock();
+        try {
+            int attempts = failures.merge(key, 1, Integer::sum) - 1;
+            long delay = baseDelayMs << Math.min(attempts, 30);
+            return delay <= 0 || delay > maxDelayMs ? maxDelayMs : delay;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -2,14 +2,23 @@ package com.example.messaging.operator.store;
 
 import com.example.messaging.operator.crd.*;
 import com.example.messaging.operator.events.ReconciliationEvent;
+import com.example.messaging.operator.events.ReconciliationEvent.Operation;
+import com.example.messaging.operator.events.ReconciliationEvent.Phase;
+import com.example.messaging.operator.events.ReconciliationEvent.Result;
+import com.example.messaging.operator.events.ReconciliationEventFilter;
 import com.example.messaging.operator.events.ReconciliationEventPublisher;
 import com.example.messaging.operator.validation.OwnershipValidator;
+import com.example.messaging.operator.validation.ResourceLookup;
 import com.example.messaging.operator.validation.ValidationResult;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 
 import lombok.Getter;
 
@@ -17,53 +26,156 @@ import lombok.Getter;
  * In-memory CRD store simulating etcd behavior with event publishing and ownership enforcement. Provides CRUD operations for Custom Resource Definitions with: - Resource
  * versioning for optimistic concurrency control - UID generation for resource identity - Event publishing for observability - Thread-safe concurrent access - Strict
  * ownership validation and enforcement
+ *
+ * <p>
+ * Secondary indexes on (kind, namespace) and (kind, namespace, applicationServiceRef) are maintained under the same per-key atomic section as the primary map, so
+ * {@link #list} and {@link #listOwnedBy} cost O(result size) instead of a scan over every stored resource. The (kind, namespace) index is sorted by name, so
+ * {@link #list(CRDKind, String, int, String) paginated lists} are range scans that hold one page in memory. Entries are compact {@link StoreEntry} records keyed by
+ * {@link ResourceKey}, and identifiers repeated across resources (namespaces, owner and parent refs, topic config) are deduplicated through an
+ * {@link IdentifierPool} on write.
+ *
+ * <p>
+ * Reconciliation events are only built when the publisher {@link ReconciliationEventPublisher#hasInterest has someone to deliver them to}, so a store without
+ * listeners or event logging does not allocate a builder, an event and a timestamp per phase on every write. {@link #subscribe Filtered subscriptions} only count
+ * as interest for the kinds and namespaces they select.
+ *
+ * <p>
+ * Every write is also appended to a bounded change log, so consumers can {@link #watch} a kind from a resourceVersion and resume after a disconnect instead of
+ * relisting. Versions come from an atomic counter inside the per-key atomic section, so writes to one key are versioned in order; the change log delivers changes
+ * to watches in resourceVersion order even when writers of different keys publish out of order. Deletes consume a version too, as in etcd. While something consumes the log (a watch, the write-ahead log or off-heap storage) each change keeps the resource serialized as it
+ * was written, so a replay never shows later state; otherwise no write pays for a serialization.
+ *
+ * <p>
+ * Writes are decided inside that per-key atomic section: a create only succeeds if the key is still absent, and {@link #update(CRDKind, String, String, Object, long)
+ * a conditional update} only if the stored resourceVersion still equals the expected one. A writer that loses the race gets a {@link ResourceConflictException}
+ * and a {@link Result#CONFLICT} event instead of silently overwriting or double-creating. Without a write-ahead log, single-resource writes take no store-wide
+ * lock: they only pass a striped {@link WriteGate}, contend per ConcurrentHashMap bin, and publish to the change log without waiting for other writers or for
+ * watch delivery. With a write-ahead log, the version allocation and the append are one short critical section on the log, which has to be written in version
+ * order.
+ *
+ * <p>
+ * A {@link #transaction() transaction} closes the gate to validate a set of creates against the store plus each other, then commit them with one contiguous
+ * resourceVersion range, or commit nothing. Snapshots, off-heap compaction, cascading deletes and {@link #clear()} close it too, and writers wait while it is
+ * closed.
+ *
+ * <p>
+ * A reverse-reference index maps every referenced resource (owner ApplicationService, KafkaCluster, ServiceAccount, Topic, ConsumerGroup) to the resources that
+ * reference it, so {@link #dependentsOf} and {@link #deleteCascading} cost O(dependents) instead of a scan. The index is keyed by the referenced name whether or not
+ * that resource exists, so a re-created parent finds the dependents that outlived it.
+ *
+ * <p>
+ * With a {@link StorePersistence} every write is also appended to a write-ahead log inside the same atomic section and made durable before the AFTER event is
+ * published. The store recovers from it on construction and {@link #snapshot() snapshots} itself periodically so the log stays short.
+ *
+ * <p>
+ * With an {@link OffHeapResourceStorage} resources are kept serialized in direct memory and decoded on every read, so {@link #get} and the list methods return
+ * private copies: changing one has no effect until it is passed to {@link #update}. Internal scans such as cascading deletes only read the on-heap entry
+ * metadata (owner, references, resourceVersion) and decode nothing.
  */
 public class CRDStore {
-    private final Map<String, Map<String, Object>> store = new ConcurrentHashMap<>();
+    private final Map<ResourceKey, StoreEntry> store = new ConcurrentHashMap<>();
+    private final Map<CRDKind, Map<String, NavigableSet<ResourceKey>>> kindNamespaceIndex = perKind();
+    private final Map<CRDKind, Map<ResourceKey, Set<ResourceKey>>> ownerIndex = perKind();
+    private final Map<ResourceKey, Set<ResourceKey>> referenceIndex = new ConcurrentHashMap<>();
+    private final IdentifierPool identifiers = new IdentifierPool();
     private final AtomicLong resourceVersionCounter = new AtomicLong(1);
+    private final ChangeLog changeLog;
+    private final WriteGate writeGate = new WriteGate();
+    private final StorePersistence persistence;
+    private final OffHeapResourceStorage offHeap;
+    private final ResourceCodec codec = new ResourceCodec();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+
+    public static final int DEFAULT_CHANGE_LOG_CAPACITY = 10_000;
+
+    private static final Comparator<ResourceKey> BY_NAME = Comparator.comparing(ResourceKey::name);
 
     @Getter
-    private final ReconciliationEventPublisher eventPublisher = new ReconciliationEventPublisher();
+    private final ReconciliationEventPublisher eventPublisher;
 
     private final OwnershipValidator ownershipValidator = new OwnershipValidator(this);
 
-    private String getKey(CRDKind kind, String namespace, String name) {
-        return kind.getValue() + "/" + namespace + "/" + name;
+    private static final Map<Operation, String> SUCCESS_MESSAGES = new EnumMap<>(Operation.class);
+
+    static {
+        for (Operation operation : Operation.values()) {
+            SUCCESS_MESSAGES.put(operation, operation.name() + " completed successfully");
+        }
+    }
+
+    public CRDStore() {
+        this(new ReconciliationEventPublisher());
+    }
+
+    /**
+     * Create a store publishing through the given publisher, e.g. an {@link ReconciliationEventPublisher#async asynchronous} one so listeners stay off the write path.
+     */
+    public CRDStore(ReconciliationEventPublisher eventPublisher) {
+        this(eventPublisher, DEFAULT_CHANGE_LOG_CAPACITY);
+    }
+
+    /**
+     * @param changeLogCapacity
+     *            how many recent changes {@link #watch} can replay; older resourceVersions are reported as too old
+     */
+    public CRDStore(ReconciliationEventPublisher eventPublisher, int changeLogCapacity) {
+        this(eventPublisher, changeLogCapacity, null);
+    }
+
+    /**
+     * Create a store that logs every write to {@code persistence} and starts with the state recovered from it. Recovery publishes no events; watches can resume
+     * from the recovered resourceVersion but not from earlier ones.
+     *
+     * @param persistence
+     *            write-ahead log and snapshots to recover from and write to, or null for a purely in-memory store
+     */
+    public CRDStore(ReconciliationEventPublisher eventPublisher, int changeLogCapacity, StorePersistence persistence) {
+        this(eventPublisher, changeLogCapacity, persistence, null);
+    }
+
+    /**
+     * @param offHeap
+     *            direct-memory storage for the serialized resources, or null to keep resources on the heap as the objects passed in
+     */
+    public CRDStore(ReconciliationEventPublisher eventPublisher, int changeLogCapacity, StorePersistence persistence, OffHeapResourceStorage offHeap) {
+        this.eventPublisher = eventPublisher;
+        this.changeLog = new ChangeLog(changeLogCapacity);
+        this.persistence = persistence;
+        this.offHeap = offHeap;
+        if (persistence != null) {
+            long recoveredVersion = persistence.recover(this::restore);
+            resourceVersionCounter.set(recoveredVersion + 1);
+            changeLog.reset(recoveredVersion);
+        }
+    }
+
+    private static <K, V> Map<CRDKind, Map<K, V>> perKind() {
+        Map<CRDKind, Map<K, V>> index = new EnumMap<>(CRDKind.class);
+        for (CRDKind kind : CRDKind.values()) {
+            index.put(kind, new ConcurrentHashMap<>());
+        }
+        return index;
+    }
+
+    private static ResourceKey getKey(CRDKind kind, String namespace, String name) {
+        return ResourceKey.of(kind, namespace, name);
+    }
+
+    private static ResourceKey getOwnerKey(String namespace, String applicationService) {
+        return ResourceKey.of(CRDKind.APPLICATION_SERVICE, namespace, applicationService);
     }
 
     public <T> T create(CRDKind kind, String namespace, T resource) {
         String name = getName(resource);
         String appService = getApplicationServiceRef(resource);
 
-        // Publish BEFORE event
-        ReconciliationEvent event1 = ReconciliationEvent.builder()
-                .phase(ReconciliationEvent.Phase.BEFORE)
-                .operation(ReconciliationEvent.Operation.CREATE)
-                .resourceKind(kind)
-                .resourceName(name)
-                .resourceNamespace(namespace)
-                .applicationService(appService)
-                .build();
-
-        eventPublisher.publish(event1);
+        publishBefore(Operation.CREATE, kind, namespace, name, appService);
 
         try {
-            String key = getKey(kind, namespace, name);
+            ResourceKey key = getKey(kind, namespace, name);
             if (store.containsKey(key)) {
                 String errorMessage = "Resource already exists: " + key;
-                ReconciliationEvent event = ReconciliationEvent.builder()
-                        .phase(ReconciliationEvent.Phase.AFTER)
-                        .operation(ReconciliationEvent.Operation.CREATE)
-                        .resourceKind(kind)
-                        .resourceName(name)
-                        .resourceNamespace(namespace)
-                        .applicationService(appService)
-                        .result(ReconciliationEvent.Result.FAILURE)
-                        .message("Operation failed")
-                        .errorDetails(errorMessage)
-                        .build();
-
-                eventPublisher.publish(event);
+                publishFailure(Operation.CREATE, kind, namespace, name, appService, errorMessage);
                 throw new IllegalStateException(errorMessage);
             }
 
@@ -71,183 +183,590 @@ public class CRDStore {
             if (!(resource instanceof ApplicationService)) {
                 ValidationResult validationResult = ownershipValidator.validateCreate(resource, namespace);
                 if (!validationResult.isValid()) {
-                    String validationMessage = validationResult.getMessage();
-                    ReconciliationEvent event = ReconciliationEvent.builder()
-                            .phase(ReconciliationEvent.Phase.AFTER)
-                            .operation(ReconciliationEvent.Operation.CREATE)
-                            .resourceKind(kind)
-                            .resourceName(name)
-                            .resourceNamespace(namespace)
-                            .applicationService(appService)
-                            .result(ReconciliationEvent.Result.VALIDATION_ERROR)
-                            .message("Validation failed")
-                            .reason(validationMessage)
-                            .build();
-
-                    eventPublisher.publish(event);
+                    publishValidationError(Operation.CREATE, kind, namespace, name, appService, validationResult.getMessage());
                     throw new SecurityException("Ownership validation failed: " + validationResult.getMessage());
                 }
             }
 
-            long version = resourceVersionCounter.getAndIncrement();
-            setResourceVersion(resource, String.valueOf(version));
             setUid(resource, UUID.randomUUID().toString());
+            long version = putEntry(kind, namespace, name, resource, WatchEvent.Type.ADDED, null);
+            afterWrite();
 
-            store.put(key, Map.of("resource", resource, "timestamp", System.currentTimeMillis()));
-
-            // Publish AFTER SUCCESS event
-            ReconciliationEvent event = ReconciliationEvent.builder()
-                    .phase(ReconciliationEvent.Phase.AFTER)
-                    .operation(ReconciliationEvent.Operation.CREATE)
-                    .resourceKind(kind)
-                    .resourceName(name)
-                    .resourceNamespace(namespace)
-                    .applicationService(appService)
-                    .result(ReconciliationEvent.Result.SUCCESS)
-                    .message(ReconciliationEvent.Operation.CREATE.name() + " completed successfully")
-                    .resourceVersion(version)
-                    .build();
-
-            eventPublisher.publish(event);
+            publishSuccess(Operation.CREATE, kind, namespace, name, appService, version);
 
             return resource;
+        } catch (ResourceConflictException e) {
+            publishConflict(Operation.CREATE, kind, namespace, name, appService, e.getMessage());
+            throw e;
         } catch (IllegalStateException | SecurityException e) {
             // Already published failure/validation event, just rethrow
             throw e;
         } catch (Exception e) {
             // Unexpected exception, publish failure and rethrow
             String errorMessage = e.getMessage();
-            ReconciliationEvent event = ReconciliationEvent.builder()
-                    .phase(ReconciliationEvent.Phase.AFTER)
-                    .operation(ReconciliationEvent.Operation.CREATE)
-                    .resourceKind(kind)
-                    .resourceName(name)
-                    .resourceNamespace(namespace)
-                    .applicationService(appService)
-                    .result(ReconciliationEvent.Result.FAILURE)
-                    .message("Operation failed")
-                    .errorDetails(errorMessage)
-                    .build();
-
-            eventPublisher.publish(event);
+            publishFailure(Operation.CREATE, kind, namespace, name, appService, errorMessage);
             throw e;
         }
     }
 
+    /**
+     * Unconditional update: the last writer wins. Use {@link #update(CRDKind, String, String, Object, long)} to detect concurrent modifications.
+     */
     public <T> T update(CRDKind kind, String namespace, String name, T resource) {
-        String appService = getApplicationServiceRef(resource);
+        return update(kind, namespace, name, resource, null);
+    }
 
-        ReconciliationEvent event1 = ReconciliationEvent.builder()
-                .phase(ReconciliationEvent.Phase.BEFORE)
-                .operation(ReconciliationEvent.Operation.UPDATE)
-                .resourceKind(kind)
-                .resourceName(name)
-                .resourceNamespace(namespace)
-                .applicationService(appService)
-                .build();
+    /**
+     * Update only if the stored resourceVersion still equals {@code expectedResourceVersion}, typically the version the caller read.
+     *
+     * @throws ResourceConflictException
+     *             if another writer changed or deleted the resource in the meantime
+     */
+    public <T> T update(CRDKind kind, String namespace, String name, T resource, long expectedResourceVersion) {
+        return update(kind, namespace, name, resource, Long.valueOf(expectedResourceVersion));
+    }
+
+    private <T> T update(CRDKind kind, String namespace, String name, T resource, Long expectedResourceVersion) {
+        String appService = getApplicationServiceRef(resource);
 
-        eventPublisher.publish(event1);
+        publishBefore(Operation.UPDATE, kind, namespace, name, appService);
 
         try {
-            String key = getKey(kind, namespace, name);
-            if (!store.containsKey(key)) {
+            ResourceKey key = getKey(kind, namespace, name);
+            Object existingResource = get(kind, namespace, name);
+            if (existingResource == null) {
                 String errorMessage = "Resource not found: " + key;
-                ReconciliationEvent event = ReconciliationEvent.builder()
-                        .phase(ReconciliationEvent.Phase.AFTER)
-                        .operation(ReconciliationEvent.Operation.UPDATE)
-                        .resourceKind(kind)
-                        .resourceName(name)
-                        .resourceNamespace(namespace)
-                        .applicationService(appService)
-                        .result(ReconciliationEvent.Result.FAILURE)
-                        .message("Operation failed")
-                        .errorDetails(errorMessage)
-                        .build();
-
-                eventPublisher.publish(event);
+                publishFailure(Operation.UPDATE, kind, namespace, name, appService, errorMessage);
                 throw new IllegalStateException(errorMessage);
             }
 
             // OWNERSHIP ENFORCEMENT: Validate immutable ownership
-            Object existingResource = get(kind, namespace, name);
             if (!(resource instanceof ApplicationService)) {
                 ValidationResult validationResult = ownershipValidator.validateUpdate(existingResource, resource);
                 if (!validationResult.isValid()) {
-                    String validationMessage = validationResult.getMessage();
-                    ReconciliationEvent event = ReconciliationEvent.builder()
-                            .phase(ReconciliationEvent.Phase.AFTER)
-                            .operation(ReconciliationEvent.Operation.UPDATE)
-                            .resourceKind(kind)
-                            .resourceName(name)
-                            .resourceNamespace(namespace)
-                            .applicationService(appService)
-                            .result(ReconciliationEvent.Result.VALIDATION_ERROR)
-                            .message("Validation failed")
-                            .reason(validationMessage)
-                            .build();
-
-                    eventPublisher.publish(event);
+                    publishValidationError(Operation.UPDATE, kind, namespace, name, appService, validationResult.getMessage());
                     throw new SecurityException("Ownership validation failed: " + validationResult.getMessage());
                 }
             }
 
-            long version = resourceVersionCounter.getAndIncrement();
-            setResourceVersion(resource, String.valueOf(version));
-
-            store.put(key, Map.of("resource", resource, "timestamp", System.currentTimeMillis()));
+            long version = putEntry(kind, namespace, name, resource, WatchEvent.Type.MODIFIED, expectedResourceVersion);
+            afterWrite();
 
-            // Publish AFTER SUCCESS event
-            ReconciliationEvent event = ReconciliationEvent.builder()
-                    .phase(ReconciliationEvent.Phase.AFTER)
-                    .operation(ReconciliationEvent.Operation.UPDATE)
-                    .resourceKind(kind)
-                    .resourceName(name)
-                    .resourceNamespace(namespace)
-                    .applicationService(appService)
-                    .result(ReconciliationEvent.Result.SUCCESS)
-                    .message(ReconciliationEvent.Operation.UPDATE.name() + " completed successfully")
-                    .resourceVersion(version)
-                    .build();
-
-            eventPublisher.publish(event);
+            publishSuccess(Operation.UPDATE, kind, namespace, name, appService, version);
 
             return resource;
+        } catch (ResourceConflictException e) {
+            publishConflict(Operation.UPDATE, kind, namespace, name, appService, e.getMessage());
+            throw e;
         } catch (IllegalStateException | SecurityException e) {
             // Already published failure/validation event, just rethrow
             throw e;
         } catch (Exception e) {
             // Unexpected exception, publish failure and rethrow
             String errorMessage = e.getMessage();
-            ReconciliationEvent event = ReconciliationEvent.builder()
-                    .phase(ReconciliationEvent.Phase.AFTER)
-                    .operation(ReconciliationEvent.Operation.UPDATE)
-                    .resourceKind(kind)
-                    .resourceName(name)
-                    .resourceNamespace(namespace)
-                    .applicationService(appService)
-                    .result(ReconciliationEvent.Result.FAILURE)
-                    .message("Operation failed")
-                    .errorDetails(errorMessage)
-                    .build();
-
-            eventPublisher.publish(event);
+            publishFailure(Operation.UPDATE, kind, namespace, name, appService, errorMessage);
             throw e;
         }
     }
 
+    /**
+     * Creates or replaces a resource the API server has already admitted, e.g. one delivered by an informer, so transformers can resolve references from the store.
+     * Skips ownership validation and reconciliation events. A copy is stored, since the store assigns its own resourceVersion and pools identifiers and neither
+     * may leak into the caller's object. The resource is serialized once, for both the copy and whatever consumes the change.
+     *
+     * @return the stored copy
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T upsert(CRDKind kind, String namespace, T resource) {
+        byte[] payload = codec.encode(resource);
+        T copy = (T) codec.decode(kind, payload);
+        putEntry(kind, namespace, getName(copy), copy, null, null, payload);
+        afterWrite();
+        return copy;
+    }
+
+    /**
+     * Removes a resource the API server has already deleted; the counterpart of {@link #upsert(CRDKind, String, Object)}.
+     */
+    public boolean evict(CRDKind kind, String namespace, String name) {
+        boolean removed = removeEntry(getKey(kind, namespace, name));
+        if (removed) {
+            afterWrite();
+        }
+        return removed;
+    }
+
     @SuppressWarnings("unchecked")
     public <T> T get(CRDKind kind, String namespace, String name) {
-        String key = getKey(kind, namespace, name);
-        Map<String, Object> entry = store.get(key);
-        return entry != null ? (T) entry.get("resource") : null;
+        ResourceKey key = getKey(kind, namespace, name);
+        StoreEntry entry = store.get(key);
+        return entry != null ? (T) resourceOf(key, entry) : null;
     }
 
+    /** Lists resources of a kind in a namespace, ordered by name. */
     public <T> List<T> list(CRDKind kind, String namespace) {
-        return store.entrySet()
-                .stream()
-                .filter(e -> e.getKey().startsWith(kind.getValue() + "/" + namespace + "/"))
-                .map(e -> (T) e.getValue().get("resource"))
-                .collect(Collectors.toList());
+        return resolve(kindNamespaceIndex.get(kind).get(namespace));
+    }
+
+    /**
+     * Lists at most {@code limit} resources of a kind in a namespace, ordered by name, starting after the position encoded in {@code continueToken}. Pass a null
+     * token for the first page and the previous page's {@link ListPage#continueToken()} for the next ones.
+     *
+     * <p>
+     * Every page reports the resourceVersion the first page was read at. Later pages show the live state past the cursor, so a resource created or renamed behind
+     * the cursor meanwhile is not listed; {@link #watch watching} from the reported version afterwards delivers those changes. A continue token whose version has
+     * been compacted out of the change log fails with {@link ResourceVersionTooOldException} and the caller has to list again from the start.
+     *
+     * @throws IllegalArgumentException
+     *             if {@code limit} is not positive or the token is malformed
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ListPage<T> list(CRDKind kind, String namespace, int limit, String continueToken) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("List limit must be positive: " + limit);
+        }
+        long snapshotVersion;
+        NavigableSet<ResourceKey> keys = kindNamespaceIndex.get(kind).getOrDefault(namespace, Collections.emptyNavigableSet());
+        if (continueToken == null) {
+            snapshotVersion = getCurrentResourceVersion();
+        } else {
+            ContinueToken position = ContinueToken.decode(continueToken);
+            long compactedVersion = changeLog.getCompactedVersion();
+            if (position.resourceVersion() < compactedVersion) {
+                throw new ResourceVersionTooOldException(position.resourceVersion(), compactedVersion);
+            }
+            snapshotVersion = position.resourceVersion();
+            keys = keys.tailSet(getKey(kind, namespace, position.lastName()), false);
+        }
+        List<T> items = new ArrayList<>(Math.min(limit, 256));
+        Iterator<ResourceKey> it = keys.iterator();
+        String lastName = null;
+        while (it.hasNext() && items.size() < limit) {
+            ResourceKey key = it.next();
+            StoreEntry entry = store.get(key);
+            if (entry != null) {
+                items.add((T) resourceOf(key, entry));
+                lastName = key.name();
+            }
+        }
+        String next = it.hasNext() && lastName != null ? new ContinueToken(snapshotVersion, lastName).encode() : null;
+        return new ListPage<>(items, next, snapshotVersion);
+    }
+
+    /** Lists resources of a kind owned by an applicationService in a namespace. */
+    public <T> List<T> listOwnedBy(CRDKind kind, String namespace, String applicationService) {
+        return resolve(ownerIndex.get(kind).get(getOwnerKey(namespace, applicationService)));
+    }
+
+    /** Lists every resource owned by an applicationService in a namespace, including the ApplicationService itself. */
+    public List<Object> listOwnedBy(String namespace, String applicationService) {
+        List<Object> owned = new ArrayList<>();
+        for (CRDKind kind : CRDKind.values()) {
+            owned.addAll(listOwnedBy(kind, namespace, applicationService));
+        }
+        return owned;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> resolve(Set<ResourceKey> keys) {
+        if (keys == null) {
+            return new ArrayList<>();
+        }
+        List<T> resources = new ArrayList<>(keys.size());
+        for (ResourceKey key : keys) {
+            StoreEntry entry = store.get(key);
+            if (entry != null) {
+                resources.add((T) resourceOf(key, entry));
+            }
+        }
+        return resources;
+    }
+
+    private long putEntry(CRDKind kind, String namespace, String name, Object resource, WatchEvent.Type type, Long expectedVersion) {
+        // Snapshot only for a consumer: the write-ahead log, off-heap storage or an open watch
+        byte[] payload = persistence != null || offHeap != null || changeLog.hasWatches() ? codec.encode(resource) : null;
+        return putEntry(kind, namespace, name, resource, type, expectedVersion, payload);
+    }
+
+    /**
+     * Checks the write precondition, stores the entry, assigns its resourceVersion, records the change and updates the secondary indexes atomically with respect to
+     * other writers of the same key. Throwing from the remapping function leaves the entry untouched. A null {@code type} creates or replaces the entry without a
+     * precondition.
+     *
+     * @param payload
+     *            the resource already serialized, or null if nothing consumes the change
+     */
+    private long putEntry(CRDKind kind, String namespace, String name, Object resource, WatchEvent.Type type, Long expectedVersion, byte[] payload) {
+        String pooledNamespace = identifiers.intern(namespace);
+        if (offHeap == null) {
+            deduplicate(pooledNamespace, resource);
+        }
+        ResourceKey key = getKey(kind, pooledNamespace, name);
+        String ownerName = getApplicationServiceRef(resource);
+        ResourceKey owner = ownerName != null ? getOwnerKey(pooledNamespace, ownerName) : null;
+        List<ResourceKey> references = getReferenceKeys(pooledNamespace, resource);
+        long[] version = new long[1];
+        writeGate.enterShared();
+        try {
+            store.compute(key, (k, previous) -> {
+                WatchEvent.Type change = type;
+                if (change == null) {
+                    change = previous == null ? WatchEvent.Type.ADDED : WatchEvent.Type.MODIFIED;
+                } else {
+                    checkPrecondition(k, previous, type, expectedVersion);
+                }
+                Object stored = offHeap != null ? offHeap.write(payload) : resource;
+                try {
+                    version[0] = recordChange(change, kind, pooledNamespace, name, resource, payload);
+                } catch (RuntimeException e) {
+                    release(stored);
+                    throw e;
+                }
+                if (previous != null) {
+                    release(previous.resource());
+                }
+                return install(k, previous, stored, version[0], owner, references);
+            });
+        } finally {
+            writeGate.exitShared();
+        }
+        return version[0];
+    }
+
+    private StoreEntry install(ResourceKey key, StoreEntry previous, Object resource, long version, ResourceKey owner, List<ResourceKey> references) {
+        if (previous != null && previous.owner() != null && !previous.owner().equals(owner)) {
+            unindex(ownerIndex.get(key.kind()), previous.owner(), key);
+        }
+        index(kindNamespaceIndex.get(key.kind()), key.namespace(), key, () -> new ConcurrentSkipListSet<>(BY_NAME));
+        reindexReferences(key, previous != null ? previous.references() : List.of(), references);
+        if (owner != null) {
+            index(ownerIndex.get(key.kind()), owner, key);
+        }
+        return new StoreEntry(resource, version, System.currentTimeMillis(), owner, references);
+    }
+
+    /**
+     * The stored resource: the object itself, or a copy decoded from off-heap storage with the entry's resourceVersion, which is assigned after serialization.
+     */
+    private Object resourceOf(ResourceKey key, StoreEntry entry) {
+        if (entry.resource() instanceof OffHeapResourceStorage.Slot slot) {
+            Object resource = codec.decode(key.kind(), offHeap.read(slot));
+            setResourceVersion(resource, String.valueOf(entry.resourceVersion()));
+            return resource;
+        }
+        return entry.resource();
+    }
+
+    private byte[] payloadOf(StoreEntry entry) {
+        return entry.resource() instanceof OffHeapResourceStorage.Slot slot ? offHeap.copy(slot) : codec.encode(entry.resource());
+    }
+
+    private void release(Object stored) {
+        if (stored instanceof OffHeapResourceStorage.Slot slot) {
+            offHeap.free(slot);
+        }
+    }
+
+    private void uninstall(ResourceKey key, StoreEntry previous) {
+        unindex(kindNamespaceIndex.get(key.kind()), key.namespace(), key);
+        if (previous.owner() != null) {
+            unindex(ownerIndex.get(key.kind()), previous.owner(), key);
+        }
+        reindexReferences(key, previous.references(), List.of());
+    }
+
+    /**
+     * Apply a recovered write without validation, change log or events. Only called from the constructor.
+     */
+    private void restore(StorePersistence.LogRecord record) {
+        String namespace = identifiers.intern(record.namespace());
+        ResourceKey key = getKey(record.kind(), namespace, record.name());
+        if (record.type() == WatchEvent.Type.DELETED) {
+            store.computeIfPresent(key, (k, previous) -> {
+                release(previous.resource());
+                uninstall(k, previous);
+                return null;
+            });
+            return;
+        }
+        Object resource = codec.decode(record.kind(), record.payload());
+        setResourceVersion(resource, String.valueOf(record.resourceVersion()));
+        String ownerName = getApplicationServiceRef(resource);
+        ResourceKey owner = ownerName != null ? getOwnerKey(namespace, ownerName) : null;
+        List<ResourceKey> references = getReferenceKeys(namespace, resource);
+        Object stored;
+        if (offHeap != null) {
+            stored = offHeap.write(record.payload());
+        } else {
+            deduplicate(namespace, resource);
+            stored = resource;
+        }
+        store.compute(key, (k, previous) -> {
+            if (previous != null) {
+                release(previous.resource());
+            }
+            return install(k, previous, stored, record.resourceVersion(), owner, references);
+        });
+    }
+
+    private static void checkPrecondition(ResourceKey key, StoreEntry previous, WatchEvent.Type type, Long expectedVersion) {
+        Long actualVersion = previous != null ? previous.resourceVersion() : null;
+        if (type == WatchEvent.Type.ADDED) {
+            if (previous != null) {
+                throw new ResourceConflictException("Resource already exists: " + key, key.toString(), null, actualVersion);
+            }
+            return;
+        }
+        if (previous == null) {
+            throw new ResourceConflictException("Resource was deleted concurrently: " + key, key.toString(), expectedVersion, null);
+        }
+        if (expectedVersion != null && !expectedVersion.equals(actualVersion)) {
+            throw new ResourceConflictException("Resource version conflict on %s: expected %d, found %d".formatted(key, expectedVersion, actualVersion),
+                    key.toString(), expectedVersion, actualVersion);
+        }
+    }
+
+    private boolean removeEntry(ResourceKey key) {
+        boolean[] removed = new boolean[1];
+        writeGate.enterShared();
+        try {
+            store.computeIfPresent(key, (k, previous) -> {
+                Object last = previous.resource() instanceof OffHeapResourceStorage.Slot ? null : previous.resource();
+                byte[] payload = offHeap != null || changeLog.hasWatches() ? payloadOf(previous) : null;
+                recordChange(WatchEvent.Type.DELETED, k.kind(), k.namespace(), k.name(), last, payload);
+                release(previous.resource());
+                uninstall(k, previous);
+                removed[0] = true;
+                return null;
+            });
+        } finally {
+            writeGate.exitShared();
+        }
+        return removed[0];
+    }
+
+    /**
+     * Allocates the next resourceVersion and publishes the change to the change log, which delivers it to watches in version order. Without a write-ahead log this
+     * takes no lock. With one, the version is allocated under the log's monitor, since the log must be written in version order for recovery.
+     *
+     * @param resource
+     *            the resource; for a delete its last stored state, or null if that is off-heap
+     * @param payload
+     *            the serialized resource, or null if nothing consumed the change log when the write started; the write-ahead log does not need it for a delete
+     */
+    private long recordChange(WatchEvent.Type type, CRDKind kind, String namespace, String name, Object resource, byte[] payload) {
+        long version;
+        if (persistence != null) {
+            synchronized (persistence) {
+                version = resourceVersionCounter.getAndIncrement();
+                try {
+                    persistence.append(type, kind, namespace, name, version, type == WatchEvent.Type.DELETED ? new byte[0] : payload);
+                } catch (RuntimeException e) {
+                    changeLog.skip(version);
+                    throw e;
+                }
+            }
+        } else {
+            version = resourceVersionCounter.getAndIncrement();
+        }
+        if (type != WatchEvent.Type.DELETED) {
+            setResourceVersion(resource, String.valueOf(version));
+        }
+        changeLog.append(new WatchEvent(type, kind, namespace, name, version, payload, resource, codec));
+        return version;
+    }
+
+    /**
+     * Watch changes to {@code kind} in {@code namespace} (null for all namespaces) made after {@code fromResourceVersion}. Retained changes are replayed first, then
+     * live changes follow in resourceVersion order. Pass the resourceVersion of a previous list or of the last event seen to resume without relisting.
+     *
+     * @throws ResourceVersionTooOldException
+     *             if changes after {@code fromResourceVersion} have already been compacted out of the change log
+     */
+    public Watch watch(CRDKind kind, String namespace, long fromResourceVersion) {
+        return changeLog.watch(kind, namespace, fromResourceVersion);
+    }
+
+    /**
+     * The resourceVersion of the most recent write, to start a watch from after a list.
+     */
+    public long getCurrentResourceVersion() {
+        return resourceVersionCounter.get() - 1;
+    }
+
+    /**
+     * Write a snapshot of the whole store and delete the log segments it covers. Writers are only excluded while the log rolls over to a new segment and the
+     * entries are collected; serialization and the disk writes happen outside the lock. A no-op for an in-memory store.
+     */
+    public void snapshot() {
+        if (persistence == null) {
+            return;
+        }
+        snapshotLock.lock();
+        try {
+            StorePersistence.Checkpoint checkpoint;
+            List<Map.Entry<ResourceKey, StoreEntry>> entries;
+            writeGate.lockExclusive();
+            try {
+                checkpoint = persistence.checkpoint(getCurrentResourceVersion());
+                entries = new ArrayList<>(store.entrySet());
+            } finally {
+                writeGate.unlockExclusive();
+            }
+            persistence.writeSnapshot(checkpoint, entries, this::payloadOf);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * Move the live resources out of sparse off-heap slabs so those slabs can be released. Writers are excluded for the duration; readers are not, since a moved
+     * slot's old bytes stay intact. A no-op for an on-heap store.
+     */
+    public void compactOffHeap() {
+        if (offHeap == null) {
+            return;
+        }
+        writeGate.lockExclusive();
+        try {
+            for (Map.Entry<ResourceKey, StoreEntry> entry : store.entrySet()) {
+                StoreEntry stored = entry.getValue();
+                if (stored.resource() instanceof OffHeapResourceStorage.Slot slot && offHeap.isSparse(slot)) {
+                    entry.setValue(stored.withResource(offHeap.write(offHeap.copy(slot))));
+                    offHeap.free(slot);
+                }
+            }
+        } finally {
+            writeGate.unlockExclusive();
+        }
+    }
+
+    /**
+     * Wait for the group commit covering this thread's writes, then compact off-heap storage or snapshot if due. Only one thread snapshots at a time.
+     */
+    private void afterWrite() {
+        if (offHeap != null && offHeap.isCompactionDue()) {
+            compactOffHeap();
+        }
+        if (persistence == null) {
+            return;
+        }
+        persistence.awaitDurable();
+        if (persistence.isSnapshotDue() && snapshotLock.tryLock()) {
+            try {
+                if (persistence.isSnapshotDue()) {
+                    snapshot();
+                }
+            } finally {
+                snapshotLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Start an all-or-nothing batch of creates, e.g. a tenant's ApplicationService, KafkaCluster, ServiceAccount and its Topics and ACLs.
+     */
+    public Transaction transaction() {
+        return new Transaction();
+    }
+
+    private void reindexReferences(ResourceKey referrer, List<ResourceKey> previous, List<ResourceKey> current) {
+        for (ResourceKey reference : previous) {
+            if (!current.contains(reference)) {
+                unindex(referenceIndex, reference, referrer);
+            }
+        }
+        for (ResourceKey reference : current) {
+            index(referenceIndex, reference, referrer);
+        }
+    }
+
+    /**
+     * Resources that directly reference the given one, e.g. the Topics, ConsumerGroups and ACLs using a ServiceAccount, or everything owned by an
+     * ApplicationService.
+     */
+    public List<ResourceKey> dependentsOf(CRDKind kind, String namespace, String name) {
+        Set<ResourceKey> dependents = referenceIndex.get(getKey(kind, namespace, name));
+        return dependents != null ? new ArrayList<>(dependents) : new ArrayList<>();
+    }
+
+    /**
+     * Delete a resource and, transitively, everything that references it, dependents first. Runs exclusively of other writers, so nothing can be attached to the
+     * subtree while it is removed. Cost is proportional to the subtree size. Ownership is not re-checked: every dependent is owned by the same ApplicationService as
+     * the resource it references.
+     *
+     * @return the deleted resources in deletion order, empty if the root did not exist
+     */
+    public List<ResourceKey> deleteCascading(CRDKind kind, String namespace, String name) {
+        List<ResourceKey> order = new ArrayList<>();
+        List<String> owners = new ArrayList<>();
+        writeGate.lockExclusive();
+        try {
+            if (!store.containsKey(getKey(kind, namespace, name))) {
+                return order;
+            }
+            collectSubtree(getKey(kind, namespace, name), new HashSet<>(), order);
+            for (ResourceKey key : order) {
+                ResourceKey owner = store.get(key).owner();
+                owners.add(owner != null ? owner.name() : null);
+                removeEntry(key);
+            }
+        } finally {
+            writeGate.unlockExclusive();
+        }
+        afterWrite();
+
+        List<ReconciliationEvent> events = new ArrayList<>(order.size() * 2);
+        for (int i = 0; i < order.size(); i++) {
+            ResourceKey key = order.get(i);
+            if (eventPublisher.hasInterest(key.kind(), key.namespace())) {
+                events.add(event(Phase.BEFORE, Operation.DELETE, key.kind(), key.namespace(), key.name(), owners.get(i)).build());
+                events.add(event(Phase.AFTER, Operation.DELETE, key.kind(), key.namespace(), key.name(), owners.get(i))
+                        .result(Result.SUCCESS)
+                        .message(SUCCESS_MESSAGES.get(Operation.DELETE))
+                        .build());
+            }
+        }
+        eventPublisher.publishAll(events);
+        return order;
+    }
+
+    /**
+     * Post-order walk of the reverse-reference graph: a resource is appended after all its stored dependents. Dependents that are referenced by name but not stored
+     * are skipped.
+     */
+    private void collectSubtree(ResourceKey key, Set<ResourceKey> visited, List<ResourceKey> order) {
+        if (!visited.add(key)) {
+            return;
+        }
+        Set<ResourceKey> dependents = referenceIndex.get(key);
+        if (dependents != null) {
+            for (ResourceKey dependent : dependents) {
+                if (store.containsKey(dependent)) {
+                    collectSubtree(dependent, visited, order);
+                }
+            }
+        }
+        order.add(key);
+    }
+
+    private static <I, K> void index(Map<I, Set<K>> index, I indexKey, K key) {
+        index(index, indexKey, key, ConcurrentHashMap::newKeySet);
+    }
+
+    private static <I, K, S extends Set<K>> void index(Map<I, S> index, I indexKey, K key, Supplier<S> newSet) {
+        index.compute(indexKey, (k, keys) -> {
+            S result = keys != null ? keys : newSet.get();
+            result.add(key);
+            return result;
+        });
+    }
+
+    private static <I, K, S extends Set<K>> void unindex(Map<I, S> index, I indexKey, K key) {
+        index.computeIfPresent(indexKey, (k, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
     }
 
     public boolean delete(CRDKind kind, String namespace, String name) {
@@ -259,74 +778,26 @@ public class CRDStore {
         Object existingResource = get(kind, namespace, name);
         String appService = existingResource != null ? getApplicationServiceRef(existingResource) : requestingAppService;
 
-        // Publish BEFORE event
-        ReconciliationEvent event1 = ReconciliationEvent.builder()
-                .phase(ReconciliationEvent.Phase.BEFORE)
-                .operation(ReconciliationEvent.Operation.DELETE)
-                .resourceKind(kind)
-                .resourceName(name)
-                .resourceNamespace(namespace)
-                .applicationService(appService)
-                .build();
-
-        eventPublisher.publish(event1);
+        publishBefore(Operation.DELETE, kind, namespace, name, appService);
 
         try {
             // OWNERSHIP ENFORCEMENT: Validate only owner can delete
             if (existingResource != null && requestingAppService != null && !(existingResource instanceof ApplicationService)) {
                 ValidationResult validationResult = ownershipValidator.validateDelete(existingResource, requestingAppService);
                 if (!validationResult.isValid()) {
-                    String validationMessage = validationResult.getMessage();
-                    ReconciliationEvent event = ReconciliationEvent.builder()
-                            .phase(ReconciliationEvent.Phase.AFTER)
-                            .operation(ReconciliationEvent.Operation.DELETE)
-                            .resourceKind(kind)
-                            .resourceName(name)
-                            .resourceNamespace(namespace)
-                            .applicationService(appService)
-                            .result(ReconciliationEvent.Result.VALIDATION_ERROR)
-                            .message("Validation failed")
-                            .reason(validationMessage)
-                            .build();
-
-                    eventPublisher.publish(event);
+                    publishValidationError(Operation.DELETE, kind, namespace, name, appService, validationResult.getMessage());
                     throw new SecurityException("Ownership validation failed: " + validationResult.getMessage());
                 }
             }
 
-            String key = getKey(kind, namespace, name);
-            boolean deleted = store.remove(key) != null;
+            boolean deleted = removeEntry(getKey(kind, namespace, name));
 
             if (deleted) {
-                // Publish AFTER SUCCESS event
+                afterWrite();
                 // No version after delete
-                ReconciliationEvent event = ReconciliationEvent.builder()
-                        .phase(ReconciliationEvent.Phase.AFTER)
-                        .operation(ReconciliationEvent.Operation.DELETE)
-                        .resourceKind(kind)
-                        .resourceName(name)
-                        .resourceNamespace(namespace)
-                        .applicationService(appService)
-                        .result(ReconciliationEvent.Result.SUCCESS)
-                        .message(ReconciliationEvent.Operation.DELETE.name() + " completed successfully")
-                        .resourceVersion(null)
-                        .build();
-
-                eventPublisher.publish(event);
+                publishSuccess(Operation.DELETE, kind, namespace, name, appService, null);
             } else {
-                ReconciliationEvent event = ReconciliationEvent.builder()
-                        .phase(ReconciliationEvent.Phase.AFTER)
-                        .operation(ReconciliationEvent.Operation.DELETE)
-                        .resourceKind(kind)
-                        .resourceName(name)
-                        .resourceNamespace(namespace)
-                        .applicationService(appService)
-                        .result(ReconciliationEvent.Result.NOT_FOUND)
-                        .message("Resource not found")
-                        .resourceVersion(null)
-                        .build();
-
-                eventPublisher.publish(event);
+                publishNotFound(Operation.DELETE, kind, namespace, name, appService);
             }
 
             return deleted;
@@ -335,19 +806,7 @@ public class CRDStore {
             throw e;
         } catch (Exception e) {
             // Unexpected exception, publish failure and rethrow
-            ReconciliationEvent event = ReconciliationEvent.builder()
-                    .phase(ReconciliationEvent.Phase.AFTER)
-                    .operation(ReconciliationEvent.Operation.DELETE)
-                    .resourceKind(kind)
-                    .resourceName(name)
-                    .resourceNamespace(namespace)
-                    .applicationService(appService)
-                    .result(ReconciliationEvent.Result.FAILURE)
-                    .message("Operation failed")
-                    .errorDetails(e.getMessage())
-                    .build();
-
-            eventPublisher.publish(event);
+            publishFailure(Operation.DELETE, kind, namespace, name, appService, e.getMessage());
             throw e;
         }
     }
@@ -360,9 +819,104 @@ public class CRDStore {
         eventPublisher.removeListener(listener);
     }
 
+    /**
+     * Receive only the reconciliation events selected by {@code filter}, e.g. one kind in one tenant namespace. Close the returned subscription to stop delivery.
+     */
+    public ReconciliationEventPublisher.Subscription subscribe(ReconciliationEventFilter filter, ReconciliationEventPublisher.ReconciliationEventListener listener) {
+        return eventPublisher.subscribe(filter, listener);
+    }
+
+    private void publishBefore(Operation operation, CRDKind kind, String namespace, String name, String appService) {
+        if (!eventPublisher.hasInterest(kind, namespace)) {
+            return;
+        }
+        eventPublisher.publish(event(Phase.BEFORE, operation, kind, namespace, name, appService).build());
+    }
+
+    private void publishSuccess(Operation operation, CRDKind kind, String namespace, String name, String appService, Long version) {
+        if (!eventPublisher.hasInterest(kind, namespace)) {
+            return;
+        }
+        eventPublisher.publish(event(Phase.AFTER, operation, kind, namespace, name, appService)
+                .result(Result.SUCCESS)
+                .message(SUCCESS_MESSAGES.get(operation))
+                .resourceVersion(version)
+                .build());
+    }
+
+    private void publishFailure(Operation operation, CRDKind kind, String namespace, String name, String appService, String errorDetails) {
+        if (!eventPublisher.hasInterest(kind, namespace)) {
+            return;
+        }
+        eventPublisher.publish(event(Phase.AFTER, operation, kind, namespace, name, appService)
+                .result(Result.FAILURE)
+                .message("Operation failed")
+                .errorDetails(errorDetails)
+                .build());
+    }
+
+    private void publishValidationError(Operation operation, CRDKind kind, String namespace, String name, String appService, String reason) {
+        if (!eventPublisher.hasInterest(kind, namespace)) {
+            return;
+        }
+        eventPublisher.publish(event(Phase.AFTER, operation, kind, namespace, name, appService)
+                .result(Result.VALIDATION_ERROR)
+                .message("Validation failed")
+                .reason(reason)
+                .build());
+    }
+
+    private void publishConflict(Operation operation, CRDKind kind, String namespace, String name, String appService, String reason) {
+        if (!eventPublisher.hasInterest(kind, namespace)) {
+            return;
+        }
+        eventPublisher.publish(event(Phase.AFTER, operation, kind, namespace, name, appService)
+                .result(Result.CONFLICT)
+                .message("Concurrent modification")
+                .reason(reason)
+                .build());
+    }
+
+    private void publishNotFound(Operation operation, CRDKind kind, String namespace, String name, String appService) {
+        if (!eventPublisher.hasInterest(kind, namespace)) {
+            return;
+        }
+        eventPublisher.publish(event(Phase.AFTER, operation, kind, namespace, name, appService)
+                .result(Result.NOT_FOUND)
+                .message("Resource not found")
+                .build());
+    }
+
+    private static ReconciliationEvent.ReconciliationEventBuilder event(Phase phase, Operation operation, CRDKind kind, String namespace, String name,
+            String appService) {
+        return ReconciliationEvent.builder()
+                .phase(phase)
+                .operation(operation)
+                .resourceKind(kind)
+                .resourceName(name)
+                .resourceNamespace(namespace)
+                .applicationService(appService);
+    }
+
     public void clear() {
-        store.clear();
-        resourceVersionCounter.set(1);
+        writeGate.lockExclusive();
+        try {
+            store.clear();
+            kindNamespaceIndex.values().forEach(Map::clear);
+            ownerIndex.values().forEach(Map::clear);
+            referenceIndex.clear();
+            identifiers.clear();
+            changeLog.reset();
+            resourceVersionCounter.set(1);
+            if (persistence != null) {
+                persistence.reset();
+            }
+            if (offHeap != null) {
+                offHeap.clear();
+            }
+        } finally {
+            writeGate.unlockExclusive();
+        }
     }
 
     private String getName(Object resource) {
@@ -374,6 +928,7 @@ public class CRDStore {
             case ConsumerGroup r -> r.getMetadata().getName();
             case ACL r -> r.getMetadata().getName();
             case Scope r -> r.getMetadata().getName();
+            case GatewayPolicy r -> r.getMetadata().getName();
             default -> throw new IllegalArgumentException("Unknown resource type: " + resource.getClass());
         };
     }
@@ -391,6 +946,112 @@ public class CRDStore {
         };
     }
 
+    /**
+     * Keys of the resources this one references: its owning ApplicationService and the chain parents checked by {@link OwnershipValidator}.
+     */
+    private List<ResourceKey> getReferenceKeys(String namespace, Object resource) {
+        List<ResourceKey> references = new ArrayList<>(4);
+        switch (resource) {
+            case KafkaCluster r -> addReference(references, CRDKind.APPLICATION_SERVICE, namespace, r.getSpec().getApplicationServiceRef());
+            case ServiceAccount r -> {
+                addReference(references, CRDKind.APPLICATION_SERVICE, namespace, r.getSpec().getApplicationServiceRef());
+                addReference(references, CRDKind.KAFKA_CLUSTER, namespace, r.getSpec().getClusterRef());
+            }
+            case Topic r -> {
+                addReference(references, CRDKind.APPLICATION_SERVICE, namespace, r.getSpec().getApplicationServiceRef());
+                addReference(references, CRDKind.SERVICE_ACCOUNT, namespace, r.getSpec().getServiceRef());
+            }
+            case ConsumerGroup r -> {
+                addReference(references, CRDKind.APPLICATION_SERVICE, namespace, r.getSpec().getApplicationServiceRef());
+                addReference(references, CRDKind.SERVICE_ACCOUNT, namespace, r.getSpec().getServiceRef());
+            }
+            case ACL r -> {
+                addReference(references, CRDKind.APPLICATION_SERVICE, namespace, r.getSpec().getApplicationServiceRef());
+                addReference(references, CRDKind.SERVICE_ACCOUNT, namespace, r.getSpec().getServiceRef());
+                addReference(references, CRDKind.TOPIC, namespace, r.getSpec().getTopicRef());
+                addReference(references, CRDKind.CONSUMER_GROUP, namespace, r.getSpec().getConsumerGroupRef());
+            }
+            case Scope r -> {
+                addReference(references, CRDKind.APPLICATION_SERVICE, namespace, r.getSpec().getApplicationServiceRef());
+                addReference(references, CRDKind.KAFKA_CLUSTER, namespace, r.getSpec().getClusterRef());
+                addReference(references, CRDKind.SERVICE_ACCOUNT, namespace, r.getSpec().getServiceAccountRef());
+            }
+            case GatewayPolicy r -> addReference(references, CRDKind.SCOPE, namespace, r.getSpec().getScopeRef());
+            default -> {
+            }
+        }
+        return references;
+    }
+
+    private static void addReference(List<ResourceKey> references, CRDKind kind, String namespace, String name) {
+        if (name != null && !name.isBlank()) {
+            references.add(getKey(kind, namespace, name));
+        }
+    }
+
+    /**
+     * Replace repeated identifiers in the resource with their pooled instances. Only swaps equal strings, so the resource's content does not change; the topic config
+     * map keeps its identity and mutability.
+     */
+    private void deduplicate(String namespace, Object resource) {
+        switch (resource) {
+            case ApplicationService r -> r.getMetadata().setNamespace(namespace);
+            case KafkaCluster r -> {
+                r.getMetadata().setNamespace(namespace);
+                r.getSpec().setApplicationServiceRef(identifiers.intern(r.getSpec().getApplicationServiceRef()));
+            }
+            case ServiceAccount r -> {
+                r.getMetadata().setNamespace(namespace);
+                r.getSpec().setApplicationServiceRef(identifiers.intern(r.getSpec().getApplicationServiceRef()));
+                r.getSpec().setClusterRef(identifiers.intern(r.getSpec().getClusterRef()));
+            }
+            case Topic r -> {
+                r.getMetadata().setNamespace(namespace);
+                r.getSpec().setApplicationServiceRef(identifiers.intern(r.getSpec().getApplicationServiceRef()));
+                r.getSpec().setServiceRef(identifiers.intern(r.getSpec().getServiceRef()));
+                deduplicate(r.getSpec().getConfig());
+            }
+            case ConsumerGroup r -> {
+                r.getMetadata().setNamespace(namespace);
+                r.getSpec().setApplicationServiceRef(identifiers.intern(r.getSpec().getApplicationServiceRef()));
+                r.getSpec().setServiceRef(identifiers.intern(r.getSpec().getServiceRef()));
+            }
+            case ACL r -> {
+                r.getMetadata().setNamespace(namespace);
+                r.getSpec().setApplicationServiceRef(identifiers.intern(r.getSpec().getApplicationServiceRef()));
+                r.getSpec().setServiceRef(identifiers.intern(r.getSpec().getServiceRef()));
+                r.getSpec().setTopicRef(identifiers.intern(r.getSpec().getTopicRef()));
+                r.getSpec().setConsumerGroupRef(identifiers.intern(r.getSpec().getConsumerGroupRef()));
+            }
+            case Scope r -> {
+                r.getMetadata().setNamespace(namespace);
+                r.getSpec().setApplicationServiceRef(identifiers.intern(r.getSpec().getApplicationServiceRef()));
+                r.getSpec().setClusterRef(identifiers.intern(r.getSpec().getClusterRef()));
+                r.getSpec().setServiceAccountRef(identifiers.intern(r.getSpec().getServiceAccountRef()));
+            }
+            case GatewayPolicy r -> {
+                r.getMetadata().setNamespace(namespace);
+                r.getSpec().setScopeRef(identifiers.intern(r.getSpec().getScopeRef()));
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void deduplicate(Map<String, String> config) {
+        if (config == null || config.isEmpty()) {
+            return;
+        }
+        Map<String, String> pooled = new HashMap<>(config.size() * 2);
+        config.forEach((key, value) -> pooled.put(identifiers.intern(key), identifiers.intern(value)));
+        try {
+            config.clear();
+            config.putAll(pooled);
+        } catch (UnsupportedOperationException e) {
+            // immutable config supplied by the caller, keep its own copies
+        }
+    }
+
     private void setResourceVersion(Object resource, String version) {
         switch (resource) {
             case ApplicationService r -> r.getMetadata().setResourceVersion(version);
@@ -400,6 +1061,7 @@ public class CRDStore {
             case ConsumerGroup r -> r.getMetadata().setResourceVersion(version);
             case ACL r -> r.getMetadata().setResourceVersion(version);
             case Scope r -> r.getMetadata().setResourceVersion(version);
+            case GatewayPolicy r -> r.getMetadata().setResourceVersion(version);
             default -> throw new IllegalArgumentException("Unknown resource type: " + resource.getClass());
         }
     }
@@ -413,8 +1075,198 @@ public class CRDStore {
             case ConsumerGroup r -> r.getMetadata().setUid(uid);
             case ACL r -> r.getMetadata().setUid(uid);
             case Scope r -> r.getMetadata().setUid(uid);
+            case GatewayPolicy r -> r.getMetadata().setUid(uid);
             default -> throw new IllegalArgumentException("Unknown resource type: " + resource.getClass());
         }
     }
 
+    /**
+     * A batch of creates committed atomically by {@link #commit()}. Resources are validated in ownership-chain order (CRDKind order) against the store plus the rest
+     * of the batch, so a Topic may reference a ServiceAccount created in the same transaction. Writers are excluded while the batch is validated and applied, so the
+     * batch gets one contiguous resourceVersion range and its watch events are adjacent. BEFORE and AFTER events are each published as a single batch.
+     */
+    public final class Transaction {
+
+        private final List<Staged> staged = new ArrayList<>();
+        private boolean committed;
+
+        private Transaction() {
+        }
+
+        public <T> Transaction create(CRDKind kind, String namespace, T resource) {
+            if (committed) {
+                throw new IllegalStateException("Transaction already committed");
+            }
+            staged.add(new Staged(kind, namespace, getName(resource), getApplicationServiceRef(resource), resource));
+            return this;
+        }
+
+        public int size() {
+            return staged.size();
+        }
+
+        /**
+         * Validate and create every staged resource, or none of them.
+         *
+         * @return the created resources in commit order
+         * @throws IllegalStateException
+         *             if a resource already exists or appears twice in the batch
+         * @throws SecurityException
+         *             if a resource fails ownership validation
+         */
+        public List<Object> commit() {
+            if (committed) {
+                throw new IllegalStateException("Transaction already committed");
+            }
+            committed = true;
+            List<Staged> ordered = new ArrayList<>(staged);
+            ordered.sort(Comparator.comparing(Staged::kind));
+            publishAll(ordered, i -> event(Phase.BEFORE, ordered.get(i)));
+
+            long[] versions = new long[ordered.size()];
+
+            writeGate.lockExclusive();
+            try {
+                Map<ResourceKey, Staged> byKey = new HashMap<>();
+                for (Staged entry : ordered) {
+                    ResourceKey key = getKey(entry.kind(), entry.namespace(), entry.name());
+                    if (byKey.putIfAbsent(key, entry) != null || store.containsKey(key)) {
+                        String errorMessage = "Resource already exists: " + key;
+                        abort(ordered, entry, Result.FAILURE, errorMessage);
+                        throw new IllegalStateException(errorMessage);
+                    }
+                }
+
+                OwnershipValidator validator = new OwnershipValidator(new StagedLookup(byKey));
+                for (Staged entry : ordered) {
+                    if (entry.resource() instanceof ApplicationService) {
+                        continue;
+                    }
+                    ValidationResult validationResult = validator.validateCreate(entry.resource(), entry.namespace());
+                    if (!validationResult.isValid()) {
+                        abort(ordered, entry, Result.VALIDATION_ERROR, validationResult.getMessage());
+                        throw new SecurityException("Ownership validation failed: " + validationResult.getMessage());
+                    }
+                }
+
+                for (int i = 0; i < ordered.size(); i++) {
+                    Staged entry = ordered.get(i);
+                    setUid(entry.resource(), UUID.randomUUID().toString());
+                    versions[i] = putEntry(entry.kind(), entry.namespace(), entry.name(), entry.resource(), WatchEvent.Type.ADDED, null);
+                }
+            } finally {
+                writeGate.unlockExclusive();
+            }
+            afterWrite();
+
+            publishAll(ordered, i -> event(Phase.AFTER, ordered.get(i))
+                    .result(Result.SUCCESS)
+                    .message(SUCCESS_MESSAGES.get(Operation.CREATE))
+                    .resourceVersion(versions[i]));
+            return ordered.stream().map(Staged::resource).toList();
+        }
+
+        private void abort(List<Staged> ordered, Staged failed, Result result, String reason) {
+            publishAll(ordered, i -> ordered.get(i) == failed
+                    ? event(Phase.AFTER, failed)
+                            .result(result)
+                            .message(result == Result.VALIDATION_ERROR ? "Validation failed" : "Operation failed")
+                            .reason(reason)
+                            .errorDetails(reason)
+                    : event(Phase.AFTER, ordered.get(i))
+                            .result(Result.FAILURE)
+                            .message("Transaction aborted")
+                            .reason(reason));
+        }
+
+        private ReconciliationEvent.ReconciliationEventBuilder event(Phase phase, Staged entry) {
+            return CRDStore.event(phase, Operation.CREATE, entry.kind(), entry.namespace(), entry.name(), entry.appService());
+        }
+
+        private void publishAll(List<Staged> entries, IntFunction<ReconciliationEvent.ReconciliationEventBuilder> builder) {
+            List<ReconciliationEvent> events = new ArrayList<>(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                if (eventPublisher.hasInterest(entries.get(i).kind(), entries.get(i).namespace())) {
+                    events.add(builder.apply(i).build());
+                }
+            }
+            eventPublisher.publishAll(events);
+        }
+    }
+
+    /**
+     * Position of a paginated list: the snapshot resourceVersion and the last name returned. Opaque to callers.
+     */
+    private record ContinueToken(long resourceVersion, String lastName) {
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString((resourceVersion + ":" + lastName).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ContinueToken decode(String token) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = decoded.indexOf(':');
+                return new ContinueToken(Long.parseLong(decoded.substring(0, separator)), decoded.substring(separator + 1));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid continue token: " + token, e);
+            }
+        }
+    }
+
+    private record Staged(CRDKind kind, String namespace, String name, String appService, Object resource) {
+    }
+
+    /**
+     * Resolves references against the transaction's staged resources first, then the store.
+     */
+    private final class StagedLookup implements ResourceLookup {
+
+        private final Map<ResourceKey, Staged> staged;
+
+        private StagedLookup(Map<ResourceKey, Staged> staged) {
+            this.staged = staged;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T lookup(CRDKind kind, String namespace, String name) {
+            Staged entry = staged.get(getKey(kind, namespace, name));
+            return entry != null ? (T) entry.resource() : get(kind, namespace, name);
+        }
+
+        @Override
+        public ApplicationService getApplicationService(String namespace, String name) {
+            return lookup(CRDKind.APPLICATION_SERVICE, namespace, name);
+        }
+
+        @Override
+        public KafkaCluster getKafkaCluster(String namespace, String name) {
+            return lookup(CRDKind.KAFKA_CLUSTER, namespace, name);
+        }
+
+        @Override
+        public ServiceAccount getServiceAccount(String namespace, String name) {
+            return lookup(CRDKind.SERVICE_ACCOUNT, namespace, name);
+        }
+
+        @Override
+        public Topic getTopic(String namespace, String name) {
+            return lookup(CRDKind.TOPIC, namespace, name);
+        }
+
+        @Override
+        public ConsumerGroup getConsumerGroup(String namespace, String name) {
+            return lookup(CRDKind.CONSUMER_GROUP, namespace, name);
+        }
+
+        @Override
+        public ACL getAcl(String namespace, String name) {
+            return lookup(CRDKind.ACL, namespace, name);
+        }
+
+        @Override
+        public Scope getScope(String namespace, String name) {
+            return lookup(CRDKind.SCOPE, namespace, name);
+        }
+    }
 }
@@ -0,0 +1,199 @@
+package com.example.messaging.operator.store;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded, version-ordered log of the most recent {@link CRDStore} changes, plus the open watches it feeds. Writers allocate versions without a lock and may
+ * append out of order; appending only inserts into a map indexed by resourceVersion. Delivery to watches runs in version order up to the first version that is
+ * still missing, by whichever appender finds no delivery in progress, so a writer never waits for another writer or for a watch.
+ */
+final class ChangeLog {
+
+    /** Placeholder for a version whose write failed after the version was allocated, so later versions are not held back. */
+    private static final WatchEvent SKIPPED = new WatchEvent(null, null, null, null, 0, null, null, null);
+
+    private final int capacity;
+    private final ConcurrentSkipListMap<Long, WatchEvent> events = new ConcurrentSkipListMap<>();
+    private final ReentrantLock delivery = new ReentrantLock();
+    private final List<Watch> watches = new ArrayList<>();
+    private int retained;
+    private volatile long delivered;
+    private volatile long compactedVersion;
+    private volatile boolean watched;
+
+    ChangeLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Change log capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    void append(WatchEvent event) {
+        events.put(event.resourceVersion(), event);
+        deliver();
+    }
+
+    /**
+     * Give up a version that was allocated but not written.
+     */
+    void skip(long resourceVersion) {
+        events.put(resourceVersion, SKIPPED);
+        deliver();
+    }
+
+    /**
+     * Deliver what is ready unless another thread is already delivering. That thread checks again after letting go, so a change appended meanwhile is never left
+     * behind.
+     */
+    private void deliver() {
+        while (delivery.tryLock()) {
+            try {
+                drain();
+            } finally {
+                delivery.unlock();
+            }
+            if (!events.containsKey(delivered + 1)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Hand every change after the last delivered one, up to the first missing version, to the matching watches, then trim the log to its capacity. Called holding
+     * {@code delivery}.
+     */
+    private void drain() {
+        long next = delivered + 1;
+        WatchEvent event;
+        while ((event = events.get(next)) != null) {
+            if (event == SKIPPED) {
+                events.remove(next);
+            } else {
+                retained++;
+                offer(event);
+            }
+            delivered = next++;
+        }
+        while (retained > capacity) {
+            Map.Entry<Long, WatchEvent> oldest = events.pollFirstEntry();
+            compactedVersion = oldest.getKey();
+            retained--;
+        }
+    }
+
+    private void offer(WatchEvent event) {
+        WatchEvent copy = null;
+        Iterator<Watch> it = watches.iterator();
+        while (it.hasNext()) {
+            Watch watch = it.next();
+            if (!watch.matches(event)) {
+                continue;
+            }
+            if (copy == null) {
+                copy = event.snapshot();
+            }
+            if (!watch.offer(copy)) {
+                it.remove();
+                watched = !watches.isEmpty();
+            }
+        }
+    }
+
+    /**
+     * Whether any watch is open, read without a lock so writers can decide up front whether a change needs a snapshot.
+     */
+    boolean hasWatches() {
+        return watched;
+    }
+
+    /**
+     * Open a watch that first replays every retained change after {@code fromResourceVersion}, then receives live changes.
+     */
+    Watch watch(CRDKind kind, String namespace, long fromResourceVersion) {
+        delivery.lock();
+        try {
+            drain();
+            if (fromResourceVersion < compactedVersion) {
+                throw new ResourceVersionTooOldException(fromResourceVersion, compactedVersion);
+            }
+            Watch watch = new Watch(this, kind, namespace, fromResourceVersion, capacity);
+            if (fromResourceVersion < delivered) {
+                for (WatchEvent event : events.subMap(fromResourceVersion, false, delivered, true).values()) {
+                    if (watch.matches(event)) {
+                        watch.offer(event.snapshot());
+                    }
+                }
+            }
+            watches.add(watch);
+            watched = true;
+            return watch;
+        } finally {
+            delivery.unlock();
+            deliver();
+        }
+    }
+
+    void remove(Watch watch) {
+        delivery.lock();
+        try {
+            watches.remove(watch);
+            watched = !watches.isEmpty();
+        } finally {
+            delivery.unlock();
+            deliver();
+        }
+    }
+
+    /**
+     * Drop all history when the store is cleared and versions restart. Open watches expire since their versions no longer mean anything.
+     */
+    void reset() {
+        reset(0);
+    }
+
+    /**
+     * Drop all history and report every version before {@code compactedVersion} as too old, e.g. after the store was recovered from disk without its history. The
+     * caller makes sure no write is in flight and that the next version allocated is {@code compactedVersion + 1}.
+     */
+    void reset(long compactedVersion) {
+        delivery.lock();
+        try {
+            watches.forEach(Watch::expire);
+            watches.clear();
+            watched = false;
+            events.clear();
+            retained = 0;
+            delivered = compactedVersion;
+            this.compactedVersion = compactedVersion;
+        } finally {
+            delivery.unlock();
+        }
+    }
+
+    long getCompactedVersion() {
+        return compactedVersion;
+    }
+
+    int size() {
+        delivery.lock();
+        try {
+            return retained;
+        } finally {
+            delivery.unlock();
+        }
+    }
+
+    int getWatchCount() {
+        delivery.lock();
+        try {
+            return watches.size();
+        } finally {
+            delivery.unlock();
+        }
+    }
+}
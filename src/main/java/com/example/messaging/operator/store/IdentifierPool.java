@@ -0,0 +1,29 @@
+package com.example.messaging.operator.store;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical instances of identifiers that repeat across many resources: namespaces, applicationServiceRefs, clusterRefs, serviceRefs and topic config keys and
+ * values. Deserialized resources each carry their own copy of these strings; routing them through the pool leaves one instance per distinct value. Resource names
+ * are unique per resource and are not pooled.
+ */
+final class IdentifierPool {
+
+    private final ConcurrentHashMap<String, String> pool = new ConcurrentHashMap<>();
+
+    String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = pool.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    int size() {
+        return pool.size();
+    }
+
+    void clear() {
+        pool.clear();
+    }
+}
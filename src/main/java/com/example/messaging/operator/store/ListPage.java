@@ -0,0 +1,19 @@
+package com.example.messaging.operator.store;
+
+import java.util.List;
+
+/**
+ * One page of a {@link CRDStore#list(CRDKind, String, int, String) paginated list}, ordered by name.
+ *
+ * @param continueToken
+ *            opaque token for the next page, null on the last page
+ * @param resourceVersion
+ *            store resourceVersion when the first page was read; the same for every page of one listing, so a {@link CRDStore#watch} from it sees every change
+ *            the pages may have missed
+ */
+public record ListPage<T>(List<T> items, String continueToken, long resourceVersion) {
+
+    public boolean hasMore() {
+        return continueToken != null;
+    }
+}
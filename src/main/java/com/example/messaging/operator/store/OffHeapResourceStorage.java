@@ -0,0 +1,145 @@
+package com.example.messaging.operator.store;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps {@link CRDStore} resources as serialized bytes in direct-memory slabs instead of as object graphs on the heap, so the heap only holds the store's keys,
+ * indexes and one small {@link Slot} per resource and GC work no longer grows with the number of stored resources.
+ *
+ * <p>
+ * Space is bump-allocated and never reused within a slab: a freed slot only lowers its slab's live byte count, and a slab is dropped once nothing in it is live.
+ * A reader that still holds a freed slot therefore always reads the bytes it was written with. Once enough slabs are less than half live, the store
+ * {@link CRDStore#compactOffHeap() copies} the live slots of sparse slabs forward so those slabs can be dropped.
+ */
+public final class OffHeapResourceStorage {
+
+    static final int DEFAULT_SLAB_SIZE = 16 << 20;
+
+    private final int slabSize;
+    private final List<Slab> slabs = new ArrayList<>();
+    private Slab current;
+    private long liveBytes;
+    private long allocatedBytes;
+
+    private OffHeapResourceStorage(int slabSize) {
+        this.slabSize = slabSize;
+    }
+
+    public static OffHeapResourceStorage create() {
+        return create(DEFAULT_SLAB_SIZE);
+    }
+
+    /**
+     * @param slabSize
+     *            bytes of direct memory allocated at a time; a resource larger than this gets a slab of its own
+     */
+    public static OffHeapResourceStorage create(int slabSize) {
+        if (slabSize < 1) {
+            throw new IllegalArgumentException("Slab size must be positive: " + slabSize);
+        }
+        return new OffHeapResourceStorage(slabSize);
+    }
+
+    /**
+     * Where one serialized resource lives.
+     */
+    record Slot(Slab slab, int offset, int length) {
+    }
+
+    static final class Slab {
+
+        private final ByteBuffer buffer;
+        private int used;
+        private int live;
+
+        private Slab(int capacity) {
+            this.buffer = ByteBuffer.allocateDirect(capacity);
+        }
+    }
+
+    synchronized Slot write(byte[] bytes) {
+        if (current == null || current.buffer.capacity() - current.used < bytes.length) {
+            if (current != null && current.live == 0) {
+                slabs.remove(current);
+                allocatedBytes -= current.buffer.capacity();
+            }
+            current = new Slab(Math.max(slabSize, bytes.length));
+            slabs.add(current);
+            allocatedBytes += current.buffer.capacity();
+        }
+        Slot slot = new Slot(current, current.used, bytes.length);
+        current.buffer.put(current.used, bytes);
+        current.used += bytes.length;
+        current.live += bytes.length;
+        liveBytes += bytes.length;
+        return slot;
+    }
+
+    /**
+     * A read-only view of the slot's bytes. Safe to call concurrently with writes and frees.
+     */
+    ByteBuffer read(Slot slot) {
+        return slot.slab().buffer.slice(slot.offset(), slot.length()).asReadOnlyBuffer();
+    }
+
+    byte[] copy(Slot slot) {
+        byte[] bytes = new byte[slot.length()];
+        slot.slab().buffer.get(slot.offset(), bytes);
+        return bytes;
+    }
+
+    synchronized void free(Slot slot) {
+        Slab slab = slot.slab();
+        slab.live -= slot.length();
+        liveBytes -= slot.length();
+        if (slab.live == 0 && slab != current) {
+            slabs.remove(slab);
+            allocatedBytes -= slab.buffer.capacity();
+        }
+    }
+
+    /**
+     * Whether the slot sits in a slab that is less than half live and would be dropped if its live slots moved elsewhere.
+     */
+    synchronized boolean isSparse(Slot slot) {
+        Slab slab = slot.slab();
+        return slab != current && slab.live < slab.used / 2;
+    }
+
+    /**
+     * Whether sparse slabs hold at least two slabs' worth of direct memory, so compacting them releases at least one slab's worth even after their live slots are
+     * copied.
+     */
+    synchronized boolean isCompactionDue() {
+        long reclaimable = 0;
+        for (Slab slab : slabs) {
+            if (slab != current && slab.live < slab.used / 2) {
+                reclaimable += slab.buffer.capacity();
+            }
+        }
+        return reclaimable >= 2L * slabSize;
+    }
+
+    synchronized void clear() {
+        slabs.clear();
+        current = null;
+        liveBytes = 0;
+        allocatedBytes = 0;
+    }
+
+    /** Bytes of serialized resources currently stored. */
+    public synchronized long getLiveBytes() {
+        return liveBytes;
+    }
+
+    /** Bytes of direct memory held by slabs, live or not. */
+    public synchronized long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public synchronized int getSlabCount() {
+        return slabs.size();
+    }
+}
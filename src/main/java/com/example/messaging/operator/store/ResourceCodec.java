@@ -0,0 +1,40 @@
+package com.example.messaging.operator.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * JSON encoding of stored resources, shared by the {@link StorePersistence write-ahead log} and {@link OffHeapResourceStorage off-heap storage} so a write is
+ * serialized once for both.
+ */
+final class ResourceCodec {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    byte[] encode(Object resource) {
+        try {
+            return mapper.writeValueAsBytes(resource);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize resource", e);
+        }
+    }
+
+    Object decode(CRDKind kind, byte[] payload) {
+        try {
+            return mapper.readValue(payload, kind.getResourceClass());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deserialize " + kind + " resource", e);
+        }
+    }
+
+    Object decode(CRDKind kind, ByteBuffer payload) {
+        try {
+            return mapper.readValue(new ByteBufferBackedInputStream(payload), kind.getResourceClass());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deserialize " + kind + " resource", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.messaging.operator.store;
+
+/**
+ * A {@link CRDStore} write lost a race: the resource already existed on create, was deleted under an update, or its resourceVersion no longer matched the expected
+ * one. The caller should re-read the resource and retry, like a Kubernetes 409 Conflict.
+ */
+public class ResourceConflictException extends IllegalStateException {
+
+    private final String resourceKey;
+    private final Long expectedVersion;
+    private final Long actualVersion;
+
+    public ResourceConflictException(String message, String resourceKey, Long expectedVersion, Long actualVersion) {
+        super(message);
+        this.resourceKey = resourceKey;
+        this.expectedVersion = expectedVersion;
+        this.actualVersion = actualVersion;
+    }
+
+    public String getResourceKey() {
+        return resourceKey;
+    }
+
+    /** The resourceVersion the caller expected, or null for an unconditional write. */
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    /** The resourceVersion found in the store, or null if the resource did not exist. */
+    public Long getActualVersion() {
+        return actualVersion;
+    }
+}
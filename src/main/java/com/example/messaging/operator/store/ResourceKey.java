@@ -0,0 +1,59 @@
+package com.example.messaging.operator.store;
+
+import java.util.Objects;
+
+/**
+ * Identity of a namespaced custom resource: kind, namespace and name. Used as a map key on every store, queue and cache lookup, so the hash is computed once.
+ */
+public final class ResourceKey {
+
+    private final CRDKind kind;
+    private final String namespace;
+    private final String name;
+    private final int hash;
+
+    public ResourceKey(CRDKind kind, String namespace, String name) {
+        this.kind = kind;
+        this.namespace = namespace;
+        this.name = name;
+        this.hash = Objects.hash(kind, namespace, name);
+    }
+
+    public static ResourceKey of(CRDKind kind, String namespace, String name) {
+        return new ResourceKey(kind, namespace, name);
+    }
+
+    public CRDKind kind() {
+        return kind;
+    }
+
+    public String namespace() {
+        return namespace;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof ResourceKey other
+                && hash == other.hash
+                && kind == other.kind
+                && Objects.equals(name, other.name)
+                && Objects.equals(namespace, other.namespace);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return kind.getValue() + "/" + namespace + "/" + name;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.messaging.operator.store;
+
+/**
+ * The requested resourceVersion is older than what the {@link CRDStore} change log still retains, or a watch fell so far behind that its buffer overflowed. The
+ * caller has to relist and watch again from the list's resourceVersion, like a Kubernetes 410 Gone.
+ */
+public class ResourceVersionTooOldException extends IllegalStateException {
+
+    private final long requestedVersion;
+    private final long oldestAvailableVersion;
+
+    public ResourceVersionTooOldException(long requestedVersion, long oldestAvailableVersion) {
+        super("Resource version %d is too old, oldest available is %d".formatted(requestedVersion, oldestAvailableVersion));
+        this.requestedVersion = requestedVersion;
+        this.oldestAvailableVersion = oldestAvailableVersion;
+    }
+
+    public long getRequestedVersion() {
+        return requestedVersion;
+    }
+
+    public long getOldestAvailableVersion() {
+        return oldestAvailableVersion;
+    }
+}
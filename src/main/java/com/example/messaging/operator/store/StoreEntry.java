@@ -0,0 +1,22 @@
+package com.example.messaging.operator.store;
+
+import java.util.List;
+
+/**
+ * What {@link CRDStore} keeps per resource. The version, owner and references are recorded here rather than re-derived from the resource because callers commonly
+ * mutate the stored instance in place before calling update.
+ *
+ * @param resource
+ *            the resource itself, or its {@link OffHeapResourceStorage.Slot} when stored off-heap
+ *
+ * @param owner
+ *            key of the owning ApplicationService, null for resources without one
+ * @param references
+ *            keys of the resources this one references, see {@link CRDStore#dependentsOf}
+ */
+record StoreEntry(Object resource, long resourceVersion, long timestamp, ResourceKey owner, List<ResourceKey> references) {
+
+    StoreEntry withResource(Object relocated) {
+        return new StoreEntry(relocated, resourceVersion, timestamp, owner, references);
+    }
+}
@@ -0,0 +1,541 @@
+package com.example.messaging.operator.store;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Optional durability for a {@link CRDStore}: an append-only, memory-mapped write-ahead log of every create, update and delete, plus periodic snapshots after which
+ * older log segments are deleted. On startup the store replays the latest snapshot and then the log records that follow it.
+ *
+ * <p>
+ * Records are appended in resourceVersion order by copying them into the mapped segment, so appending never blocks on the disk. Writers then wait for durability
+ * through a group commit: one waiter forces the segment to disk on behalf of every record appended so far while the others wait for that one force to cover them.
+ * Every record carries a CRC32C checksum, and replay stops at the first record that is torn or corrupt.
+ *
+ * <p>
+ * Rolling to a new segment does not touch the disk either: the next segment is created and mapped in the background while the current one fills, and the full
+ * one is forced by the next group commit rather than by the appending writer.
+ *
+ * <p>
+ * Layout of {@code directory}: {@code wal-<sequence>.log} segments, numbered in the order they are written, and at most one
+ * {@code snapshot-<resourceVersion>.snap}, both made of {@code [length][crc][type][resourceVersion][kind][namespace][name][payload]} records with the resource as
+ * JSON payload. A segment that was pre-allocated but never written holds no records.
+ */
+public final class StorePersistence implements AutoCloseable {
+
+    static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+    static final int DEFAULT_SNAPSHOT_INTERVAL = 50_000;
+
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int HEADER_SIZE = 8;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int snapshotInterval;
+
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private Path segmentPath;
+    private long nextSequence = 1;
+    private CompletableFuture<Segment> preallocated;
+    private final List<Segment> retired = new ArrayList<>();
+    private final ExecutorService preallocator;
+    private long written;
+    private int sinceSnapshot;
+    private long generation;
+    private boolean closed;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition synced = syncLock.newCondition();
+    private long durable;
+    private boolean syncing;
+
+    private StorePersistence(Path directory, int segmentSize, int snapshotInterval) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.snapshotInterval = snapshotInterval;
+        this.preallocator = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "store-wal-preallocate");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static StorePersistence open(Path directory) {
+        return open(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * @param segmentSize
+     *            bytes mapped per log segment; a record larger than this gets a segment of its own
+     * @param snapshotInterval
+     *            number of logged writes after which the store takes a snapshot and deletes the log segments it covers
+     */
+    public static StorePersistence open(Path directory, int segmentSize, int snapshotInterval) {
+        if (segmentSize < 1 || snapshotInterval < 1) {
+            throw new IllegalArgumentException("Segment size and snapshot interval must be positive: " + segmentSize + ", " + snapshotInterval);
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create store directory " + directory, e);
+        }
+        return new StorePersistence(directory, segmentSize, snapshotInterval);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * A logged write. {@code payload} is the resource as JSON, empty for deletes.
+     */
+    record LogRecord(WatchEvent.Type type, CRDKind kind, String namespace, String name, long resourceVersion, byte[] payload) {
+    }
+
+    /**
+     * Where a snapshot starts: every record in a segment older than {@code segment} has a resourceVersion of at most {@code resourceVersion}.
+     */
+    record Checkpoint(long resourceVersion, Path segment, long generation) {
+    }
+
+    /**
+     * A mapped log segment file.
+     */
+    private record Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+    }
+
+    /**
+     * Feed the latest snapshot and then every later logged write to {@code handler}, in resourceVersion order, and open a fresh segment for new writes.
+     *
+     * @return the highest recovered resourceVersion, 0 for an empty directory
+     */
+    synchronized long recover(Consumer<LogRecord> handler) {
+        try {
+            deleteMatching(name -> name.endsWith(TEMP_SUFFIX));
+            long snapshotVersion = 0;
+            Path snapshot = latest(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+            if (snapshot != null) {
+                snapshotVersion = versionOf(snapshot, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+                read(snapshot, handler);
+            }
+            long[] last = { snapshotVersion };
+            for (Path logSegment : list(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+                read(logSegment, record -> {
+                    if (record.resourceVersion() > last[0]) {
+                        last[0] = record.resourceVersion();
+                        handler.accept(record);
+                    }
+                });
+                nextSequence = versionOf(logSegment, SEGMENT_PREFIX, SEGMENT_SUFFIX) + 1;
+            }
+            roll(0);
+            return last[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to recover store from " + directory, e);
+        }
+    }
+
+    /**
+     * Copy a record into the current segment. The store calls this in resourceVersion order; the record is only durable once {@link #awaitDurable()} returns.
+     */
+    synchronized void append(WatchEvent.Type type, CRDKind kind, String namespace, String name, long resourceVersion, byte[] payload) {
+        if (segment == null) {
+            throw new IllegalStateException(closed ? "Store persistence is closed" : "Store persistence has not been recovered");
+        }
+        byte[][] strings = { bytes(kind.getValue()), bytes(namespace), bytes(name) };
+        int size = HEADER_SIZE + bodySize(strings, payload);
+        try {
+            if (segment.remaining() < size) {
+                roll(size);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll write-ahead log segment", e);
+        }
+        int start = segment.position();
+        writeBody(segment.slice(start + HEADER_SIZE, size - HEADER_SIZE), type, resourceVersion, strings, payload);
+        CRC32C crc = new CRC32C();
+        crc.update(segment.slice(start + HEADER_SIZE, size - HEADER_SIZE));
+        segment.putInt(start + 4, (int) crc.getValue());
+        segment.putInt(start, size - HEADER_SIZE);
+        segment.position(start + size);
+        written += size;
+        sinceSnapshot++;
+    }
+
+    /**
+     * Block until every record appended before this call is on disk. Concurrent callers share a single force: whoever finds no force in progress performs one
+     * covering everything appended so far, and the rest wait for it.
+     */
+    void awaitDurable() {
+        long target;
+        synchronized (this) {
+            target = written;
+        }
+        syncLock.lock();
+        try {
+            while (durable < target) {
+                if (syncing) {
+                    synced.awaitUninterruptibly();
+                    continue;
+                }
+                syncing = true;
+                long upTo = durable;
+                syncLock.unlock();
+                try {
+                    upTo = force();
+                } finally {
+                    syncLock.lock();
+                    syncing = false;
+                    durable = Math.max(durable, upTo);
+                    synced.signalAll();
+                }
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Forces the segments filled since the last group commit, then the current one.
+     */
+    private long force() {
+        List<Segment> full;
+        MappedByteBuffer current;
+        long upTo;
+        synchronized (this) {
+            full = List.copyOf(retired);
+            current = segment;
+            upTo = written;
+        }
+        for (Segment old : full) {
+            old.buffer().force();
+            synchronized (this) {
+                retired.remove(old);
+            }
+            try {
+                old.channel().close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close write-ahead log segment " + old.path(), e);
+            }
+        }
+        if (current != null) {
+            current.force();
+        }
+        return upTo;
+    }
+
+    synchronized boolean isSnapshotDue() {
+        return sinceSnapshot >= snapshotInterval;
+    }
+
+    /**
+     * Start a new segment for writes after {@code resourceVersion}. The store calls this while no write is in flight and then passes the checkpoint and its
+     * entries to {@link #writeSnapshot}.
+     */
+    synchronized Checkpoint checkpoint(long resourceVersion) {
+        try {
+            roll(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll write-ahead log segment", e);
+        }
+        sinceSnapshot = 0;
+        return new Checkpoint(resourceVersion, segmentPath, generation);
+    }
+
+    /**
+     * Write the entries, serialized by {@code payloads}, as {@code snapshot-<version>.snap}, then delete the previous snapshot and the segments before the checkpoint. The snapshot is written to a
+     * temporary file, forced and renamed, so a crash leaves either the old or the new one. A checkpoint taken before {@link #reset()} is discarded.
+     */
+    void writeSnapshot(Checkpoint checkpoint, List<Map.Entry<ResourceKey, StoreEntry>> entries, Function<StoreEntry, byte[]> payloads) {
+        Path target = directory.resolve(fileName(SNAPSHOT_PREFIX, checkpoint.resourceVersion(), SNAPSHOT_SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + TEMP_SUFFIX);
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(out), 1 << 16));
+                for (Map.Entry<ResourceKey, StoreEntry> entry : entries) {
+                    ResourceKey key = entry.getKey();
+                    byte[][] strings = { bytes(key.kind().getValue()), bytes(key.namespace()), bytes(key.name()) };
+                    byte[] payload = payloads.apply(entry.getValue());
+                    ByteBuffer body = ByteBuffer.allocate(bodySize(strings, payload));
+                    writeBody(body, WatchEvent.Type.ADDED, entry.getValue().resourceVersion(), strings, payload);
+                    CRC32C crc = new CRC32C();
+                    crc.update(body.array());
+                    stream.writeInt(body.capacity());
+                    stream.writeInt((int) crc.getValue());
+                    stream.write(body.array());
+                }
+                stream.flush();
+                out.force(true);
+            }
+            synchronized (this) {
+                if (closed || generation != checkpoint.generation()) {
+                    Files.deleteIfExists(temp);
+                    return;
+                }
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                syncDirectory();
+                String keep = target.getFileName().toString();
+                String current = checkpoint.segment().getFileName().toString();
+                deleteMatching(name -> name.startsWith(SNAPSHOT_PREFIX) && name.compareTo(keep) < 0
+                        || name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX) && name.compareTo(current) < 0);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write store snapshot " + target, e);
+        }
+    }
+
+    /**
+     * Drop every segment and snapshot, for {@link CRDStore#clear()}. Versions restart at 1.
+     */
+    synchronized void reset() {
+        try {
+            generation++;
+            discardPreallocated();
+            for (Segment old : retired) {
+                old.channel().close();
+            }
+            retired.clear();
+            closeSegment();
+            deleteMatching(name -> true);
+            sinceSnapshot = 0;
+            nextSequence = 1;
+            roll(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to reset store directory " + directory, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            for (Segment old : retired) {
+                old.buffer().force();
+                old.channel().close();
+            }
+            retired.clear();
+            if (segment != null) {
+                segment.force();
+            }
+            closeSegment();
+            discardPreallocated();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close write-ahead log", e);
+        } finally {
+            preallocator.shutdown();
+        }
+    }
+
+    /**
+     * Switch to the pre-allocated segment and start pre-allocating the one after it. The full segment is left for the next group commit to force, so a roll costs
+     * the appending writer no disk I/O unless the next segment is not ready yet or the record needs a bigger one.
+     */
+    private void roll(int minSize) throws IOException {
+        if (segment != null) {
+            retired.add(new Segment(segmentPath, channel, segment));
+            segment = null;
+            channel = null;
+        }
+        Segment next = preallocated != null ? join(preallocated) : allocate(nextSequence++);
+        preallocated = null;
+        if (next.buffer().capacity() < minSize) {
+            next = new Segment(next.path(), next.channel(), next.channel().map(FileChannel.MapMode.READ_WRITE, 0, minSize));
+        }
+        segmentPath = next.path();
+        channel = next.channel();
+        segment = next.buffer();
+        long sequence = nextSequence++;
+        preallocated = CompletableFuture.supplyAsync(() -> {
+            try {
+                return allocate(sequence);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to pre-allocate write-ahead log segment", e);
+            }
+        }, preallocator);
+    }
+
+    /**
+     * Creates and maps a segment, and makes its directory entry durable before any record is written to it.
+     */
+    private Segment allocate(long sequence) throws IOException {
+        Path path = directory.resolve(fileName(SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+        FileChannel file = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = file.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        syncDirectory();
+        return new Segment(path, file, buffer);
+    }
+
+    private static Segment join(CompletableFuture<Segment> pending) throws IOException {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Close and delete a pre-allocated segment that will not be written.
+     */
+    private void discardPreallocated() throws IOException {
+        if (preallocated == null) {
+            return;
+        }
+        CompletableFuture<Segment> pending = preallocated;
+        preallocated = null;
+        Segment unused;
+        try {
+            unused = join(pending);
+        } catch (IOException | CompletionException e) {
+            return;
+        }
+        unused.channel().close();
+        Files.deleteIfExists(unused.path());
+    }
+
+    private void closeSegment() throws IOException {
+        segment = null;
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void read(Path file, Consumer<LogRecord> handler) throws IOException {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+            while (buffer.remaining() >= HEADER_SIZE) {
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    return;
+                }
+                ByteBuffer body = buffer.slice(buffer.position(), length);
+                CRC32C crc = new CRC32C();
+                crc.update(body.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    return;
+                }
+                handler.accept(readBody(body));
+                buffer.position(buffer.position() + length);
+            }
+        }
+    }
+
+    private static int bodySize(byte[][] strings, byte[] payload) {
+        int size = 1 + Long.BYTES + Integer.BYTES + payload.length;
+        for (byte[] string : strings) {
+            size += Short.BYTES + string.length;
+        }
+        return size;
+    }
+
+    private static void writeBody(ByteBuffer body, WatchEvent.Type type, long resourceVersion, byte[][] strings, byte[] payload) {
+        body.put((byte) type.ordinal());
+        body.putLong(resourceVersion);
+        for (byte[] string : strings) {
+            body.putShort((short) string.length);
+            body.put(string);
+        }
+        body.putInt(payload.length);
+        body.put(payload);
+    }
+
+    private static LogRecord readBody(ByteBuffer body) {
+        WatchEvent.Type type = WatchEvent.Type.values()[body.get()];
+        long resourceVersion = body.getLong();
+        CRDKind kind = CRDKind.fromValue(string(body));
+        String namespace = string(body);
+        String name = string(body);
+        byte[] payload = new byte[body.getInt()];
+        body.get(payload);
+        return new LogRecord(type, kind, namespace, name, resourceVersion, payload);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(ByteBuffer body) {
+        byte[] value = new byte[body.getShort() & 0xFFFF];
+        body.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static String fileName(String prefix, long version, String suffix) {
+        return prefix + "%020d".formatted(version) + suffix;
+    }
+
+    private static long versionOf(Path file, String prefix, String suffix) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+    }
+
+    private List<Path> list(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(prefix) && name.endsWith(suffix);
+            }).sorted().toList();
+        }
+    }
+
+    private Path latest(String prefix, String suffix) throws IOException {
+        List<Path> files = list(prefix, suffix);
+        return files.isEmpty() ? null : files.get(files.size() - 1);
+    }
+
+    private void deleteMatching(Predicate<String> names) throws IOException {
+        List<Path> doomed = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> names.test(file.getFileName().toString())).forEach(doomed::add);
+        }
+        for (Path file : doomed) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void syncDirectory() {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // not supported on every platform; the file contents themselves are forced
+        }
+    }
+}
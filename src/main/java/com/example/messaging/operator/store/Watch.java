@@ -0,0 +1,115 @@
+package com.example.messaging.operator.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A stream of {@link WatchEvent}s for one kind, optionally restricted to a namespace, opened by {@link CRDStore#watch}. Events are buffered per watch so the store
+ * never calls back into consumer code while writing. A consumer that falls further behind than the buffer holds has its watch expired: once the buffered events are
+ * consumed, {@link #poll} throws {@link ResourceVersionTooOldException} and the consumer resumes with a new watch from {@link #getResourceVersion()}, or relists if
+ * that version is gone too.
+ */
+public final class Watch implements AutoCloseable {
+
+    private final ChangeLog changeLog;
+    private final CRDKind kind;
+    private final String namespace;
+    private final LinkedBlockingQueue<WatchEvent> pending;
+    private volatile long resourceVersion;
+    private volatile boolean expired;
+    private volatile boolean closed;
+
+    Watch(ChangeLog changeLog, CRDKind kind, String namespace, long fromResourceVersion, int capacity) {
+        this.changeLog = changeLog;
+        this.kind = kind;
+        this.namespace = namespace;
+        this.resourceVersion = fromResourceVersion;
+        this.pending = new LinkedBlockingQueue<>(capacity);
+    }
+
+    boolean matches(WatchEvent event) {
+        return event.kind() == kind && (namespace == null || namespace.equals(event.namespace()));
+    }
+
+    /**
+     * Called by the change log while it delivers, one change at a time in version order. Returns false and expires the watch when the buffer is full.
+     */
+    boolean offer(WatchEvent event) {
+        if (pending.offer(event)) {
+            return true;
+        }
+        expire();
+        return false;
+    }
+
+    void expire() {
+        expired = true;
+    }
+
+    /**
+     * Next change, waiting up to {@code timeout}; null if none arrived or the watch is closed.
+     *
+     * @throws ResourceVersionTooOldException
+     *             if the watch expired and every buffered event has been consumed
+     */
+    public WatchEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+        WatchEvent event = closed ? null : pending.poll(timeout, unit);
+        if (event == null) {
+            throwIfExpired();
+            return null;
+        }
+        resourceVersion = event.resourceVersion();
+        return event;
+    }
+
+    /**
+     * Every change buffered so far, without waiting.
+     *
+     * @throws ResourceVersionTooOldException
+     *             if the watch expired and nothing was buffered
+     */
+    public List<WatchEvent> drain() {
+        List<WatchEvent> events = new ArrayList<>();
+        pending.drainTo(events);
+        if (events.isEmpty()) {
+            throwIfExpired();
+            return events;
+        }
+        resourceVersion = events.get(events.size() - 1).resourceVersion();
+        return events;
+    }
+
+    private void throwIfExpired() {
+        if (expired && !closed) {
+            throw new ResourceVersionTooOldException(resourceVersion, changeLog.getCompactedVersion());
+        }
+    }
+
+    public CRDKind getKind() {
+        return kind;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Version of the last event handed to the consumer, or the version the watch started from. Resume from here after a disconnect.
+     */
+    public long getResourceVersion() {
+        return resourceVersion;
+    }
+
+    public boolean isExpired() {
+        return expired;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        changeLog.remove(this);
+        pending.clear();
+    }
+}
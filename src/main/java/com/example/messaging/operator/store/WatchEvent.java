@@ -0,0 +1,92 @@
+package com.example.messaging.operator.store;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+/**
+ * A change recorded in the {@link CRDStore} change log, as delivered by a {@link Watch}. For DELETED events the resource is the last stored state and
+ * {@link #resourceVersion()} is the version the deletion was assigned.
+ *
+ * <p>
+ * While something consumes the change log (an open watch, a write-ahead log or {@link OffHeapResourceStorage off-heap storage}) the resource is kept serialized as
+ * it was at the time of the change, so replaying from an old resourceVersion never shows later writes and an off-heap store does not hold the change log's
+ * resources on the heap as objects. Changes recorded while nothing did keep the stored object itself rather than pay for a copy nobody reads; a watch that
+ * replays them later sees any in-place change made to that object since.
+ */
+public final class WatchEvent {
+
+    public enum Type {
+        ADDED, MODIFIED, DELETED
+    }
+
+    private final Type type;
+    private final CRDKind kind;
+    private final String namespace;
+    private final String name;
+    private final long resourceVersion;
+    private final byte[] payload;
+    private final Object resource;
+    private final ResourceCodec codec;
+
+    /**
+     * @param payload
+     *            the serialized resource, or null to hold {@code resource} as is
+     */
+    WatchEvent(Type type, CRDKind kind, String namespace, String name, long resourceVersion, byte[] payload, Object resource, ResourceCodec codec) {
+        this.type = type;
+        this.kind = kind;
+        this.namespace = namespace;
+        this.name = name;
+        this.resourceVersion = resourceVersion;
+        this.payload = payload;
+        this.resource = payload == null ? resource : null;
+        this.codec = codec;
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    public CRDKind kind() {
+        return kind;
+    }
+
+    public String namespace() {
+        return namespace;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long resourceVersion() {
+        return resourceVersion;
+    }
+
+    /**
+     * The resource as it was stored by this change. A serialized change is decoded into a new copy on every call.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getResource() {
+        if (payload == null) {
+            return (T) this.resource;
+        }
+        Object resource = codec.decode(kind, payload);
+        if (type != Type.DELETED && resource instanceof HasMetadata hasMetadata) {
+            // Serialized before the version was assigned
+            hasMetadata.getMetadata().setResourceVersion(String.valueOf(resourceVersion));
+        }
+        return (T) resource;
+    }
+
+    /**
+     * This change with its resource serialized, for delivery to a watch. A change recorded while nothing consumed the log is serialized now.
+     */
+    WatchEvent snapshot() {
+        return payload != null ? this : new WatchEvent(type, kind, namespace, name, resourceVersion, codec.encode(resource), null, codec);
+    }
+
+    @Override
+    public String toString() {
+        return "WatchEvent[type=%s, kind=%s, namespace=%s, name=%s, resourceVersion=%d]".formatted(type, kind, namespace, name, resourceVersion);
+    }
+}
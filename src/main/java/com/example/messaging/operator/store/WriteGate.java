@@ -0,0 +1,82 @@
+package com.example.messaging.operator.store;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admits any number of single-resource writers at once and lets one thread at a time shut them out, e.g. to commit a {@link CRDStore.Transaction} or take a
+ * snapshot. Unlike the read side of a read/write lock, admission touches no shared word: a writer increments and decrements a counter stripe picked by its
+ * thread, so writers on different cores do not contend. The exclusive side publishes its owner and then waits for every stripe to drain.
+ *
+ * <p>
+ * The exclusive side is reentrant, and its owner passes the shared side freely, so a transaction can write through the same path as single writes.
+ */
+final class WriteGate {
+
+    private static final int STRIPES = 64;
+    private static final int PADDING = 8;
+    private static final int SPINS = 100;
+
+    private final AtomicLongArray writers = new AtomicLongArray(STRIPES * PADDING);
+    private final ReentrantLock exclusive = new ReentrantLock();
+    private volatile Thread owner;
+
+    void enterShared() {
+        Thread current = Thread.currentThread();
+        int stripe = stripe(current);
+        while (true) {
+            writers.getAndIncrement(stripe);
+            Thread closer = owner;
+            if (closer == null || closer == current) {
+                return;
+            }
+            writers.getAndDecrement(stripe);
+            // Wait out the exclusive section, then try again
+            exclusive.lock();
+            exclusive.unlock();
+        }
+    }
+
+    void exitShared() {
+        writers.getAndDecrement(stripe(Thread.currentThread()));
+    }
+
+    void lockExclusive() {
+        exclusive.lock();
+        if (exclusive.getHoldCount() > 1) {
+            return;
+        }
+        owner = Thread.currentThread();
+        for (int spins = 0; hasWriters(); spins++) {
+            if (spins < SPINS) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    void unlockExclusive() {
+        if (exclusive.getHoldCount() == 1) {
+            owner = null;
+        }
+        exclusive.unlock();
+    }
+
+    /**
+     * A writer inside keeps its stripe above zero for the whole sum, so this never misses one; it can only report writers that are already backing off.
+     */
+    private boolean hasWriters() {
+        for (int i = 0; i < STRIPES; i++) {
+            if (writers.get(i * PADDING) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int stripe(Thread thread) {
+        int hash = System.identityHashCode(thread);
+        return ((hash ^ (hash >>> 16)) & (STRIPES - 1)) * PADDING;
+    }
+}
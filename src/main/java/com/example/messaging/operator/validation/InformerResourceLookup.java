@@ -0,0 +1,182 @@
+package com.example.messaging.operator.validation;
+
+import com.example.messaging.operator.crd.*;
+import com.example.messaging.operator.reconciliation.WarmStartSnapshot;
+import com.example.messaging.operator.store.CRDKind;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ResourceLookup implementation backed by fabric8 SharedIndexInformer caches.
+ * Used by the admission webhook so reference checks are answered from memory instead of API-server round-trips,
+ * and shared with the reconciliation controller so each CRD kind is listed, watched and cached once per process.
+ * After a {@link #warmStart(WarmStartSnapshot) warm start} lookups are answered from the snapshot while the informers relist.
+ */
+public class InformerResourceLookup implements ResourceLookup, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(InformerResourceLookup.class);
+
+    /** Only affects registered event handlers; lookups read the cache directly. */
+    private static final long RESYNC_PERIOD_MS = 30_000;
+
+    private final Map<CRDKind, SharedIndexInformer<? extends HasMetadata>> informers = new EnumMap<>(CRDKind.class);
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean warmStarted;
+
+    public InformerResourceLookup(KubernetesClient client) {
+        register(client, CRDKind.APPLICATION_SERVICE, ApplicationService.class);
+        register(client, CRDKind.KAFKA_CLUSTER, KafkaCluster.class);
+        register(client, CRDKind.SERVICE_ACCOUNT, ServiceAccount.class);
+        register(client, CRDKind.TOPIC, Topic.class);
+        register(client, CRDKind.CONSUMER_GROUP, ConsumerGroup.class);
+        register(client, CRDKind.ACL, ACL.class);
+        register(client, CRDKind.SCOPE, Scope.class);
+        register(client, CRDKind.GATEWAY_POLICY, GatewayPolicy.class);
+    }
+
+    private <T extends HasMetadata> void register(KubernetesClient client, CRDKind kind, Class<T> type) {
+        informers.put(kind, client.resources(type).inAnyNamespace().runnableInformer(RESYNC_PERIOD_MS));
+    }
+
+    /**
+     * Seeds every informer cache from the snapshot. Must be called before {@link #start()}.
+     */
+    public void warmStart(WarmStartSnapshot snapshot) {
+        informers.forEach((kind, informer) -> seed(informer, snapshot.resources(kind)));
+        warmStarted = true;
+    }
+
+    private static <T extends HasMetadata> void seed(SharedIndexInformer<T> informer, List<T> resources) {
+        informer.initialState(resources.stream());
+    }
+
+    /**
+     * Starts every informer; later calls are no-ops. Register event handlers first, since a handler added to a running informer is sent an add for every
+     * cached object.
+     */
+    public void start() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        informers.forEach((kind, informer) -> informer.start().whenComplete((ignored, error) -> {
+            if (error != null) {
+                log.error("Failed to start {} informer: {}", kind, error.getMessage());
+            }
+        }));
+        log.info("Started {} lookup informers", informers.size());
+    }
+
+    public boolean hasSynced() {
+        return informers.values().stream().allMatch(SharedIndexInformer::hasSynced);
+    }
+
+    /**
+     * Whether lookups can be answered: the caches have synced, or were seeded from a warm-start snapshot.
+     */
+    public boolean isReady() {
+        return warmStarted || hasSynced();
+    }
+
+    public boolean waitForSync(long timeout, TimeUnit unit) {
+        if (warmStarted) {
+            log.info("Lookup caches warm-started from snapshot - informers relist in the background");
+            return true;
+        }
+        long deadline = System.currentTimeMillis() + unit.toMillis(timeout);
+
+        while (!hasSynced()) {
+            if (System.currentTimeMillis() > deadline) {
+                log.error("Timeout waiting for lookup informer sync");
+                return false;
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        log.info("All lookup informer caches synced");
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends HasMetadata> SharedIndexInformer<T> getInformer(CRDKind kind) {
+        SharedIndexInformer<T> informer = (SharedIndexInformer<T>) informers.get(kind);
+        if (informer == null) {
+            throw new IllegalArgumentException("No informer registered for " + kind);
+        }
+        return informer;
+    }
+
+    public Collection<SharedIndexInformer<? extends HasMetadata>> getInformers() {
+        return informers.values();
+    }
+
+    /**
+     * Current cache contents per kind, for {@link WarmStartSnapshot}.
+     */
+    public Map<CRDKind, List<? extends HasMetadata>> cachedResources() {
+        Map<CRDKind, List<? extends HasMetadata>> cached = new EnumMap<>(CRDKind.class);
+        informers.forEach((kind, informer) -> cached.put(kind, informer.getStore().list()));
+        return cached;
+    }
+
+    @Override
+    public ApplicationService getApplicationService(String namespace, String name) {
+        return get(CRDKind.APPLICATION_SERVICE, namespace, name);
+    }
+
+    @Override
+    public KafkaCluster getKafkaCluster(String namespace, String name) {
+        return get(CRDKind.KAFKA_CLUSTER, namespace, name);
+    }
+
+    @Override
+    public ServiceAccount getServiceAccount(String namespace, String name) {
+        return get(CRDKind.SERVICE_ACCOUNT, namespace, name);
+    }
+
+    @Override
+    public Topic getTopic(String namespace, String name) {
+        return get(CRDKind.TOPIC, namespace, name);
+    }
+
+    @Override
+    public ConsumerGroup getConsumerGroup(String namespace, String name) {
+        return get(CRDKind.CONSUMER_GROUP, namespace, name);
+    }
+
+    @Override
+    public ACL getAcl(String namespace, String name) {
+        return get(CRDKind.ACL, namespace, name);
+    }
+
+    @Override
+    public Scope getScope(String namespace, String name) {
+        return get(CRDKind.SCOPE, namespace, name);
+    }
+
+    private <T extends HasMetadata> T get(CRDKind kind, String namespace, String name) {
+        if (name == null) {
+            return null;
+        }
+        SharedIndexInformer<T> informer = getInformer(kind);
+        return informer.getStore().getByKey(Cache.namespaceKeyFunc(namespace, name));
+    }
+
+    @Override
+    public void close() {
+        informers.values().forEach(SharedIndexInformer::stop);
+    }
+}
@@ -1,8 +1,15 @@
 package com.example.messaging.operator.webhook;
 
+import com.example.messaging.operator.events.ReconciliationEventPublisher;
+import com.example.messaging.operator.reconciliation.LeaderElection;
 import com.example.messaging.operator.reconciliation.ReconciliationController;
+import com.example.messaging.operator.reconciliation.ShardMembership;
+import com.example.messaging.operator.reconciliation.WarmStartSnapshot;
+import com.example.messaging.operator.reconciliation.WarmStartSnapshotter;
 import com.example.messaging.operator.store.CRDStore;
-import com.example.messaging.operator.validation.KubernetesResourceLookup;
+import com.example.messaging.operator.store.OffHeapResourceStorage;
+import com.example.messaging.operator.store.StorePersistence;
+import com.example.messaging.operator.validation.InformerResourceLookup;
 import com.example.messaging.operator.validation.OwnershipValidator;
 import com.sun.net.httpserver.HttpsConfigurator;
 import com.sun.net.httpserver.HttpsParameters;
@@ -23,6 +30,9 @@ import java.security.cert.Certificate;
 import java.security.cert.CertificateFactory;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 public class WebhookApplication {
@@ -36,12 +46,16 @@ public class WebhookApplication {
     private static final String DEFAULT_PORT = "8443";
     private static final String DEFAULT_CERT_PATH = "/etc/webhook/certs/tls.crt";
     private static final String DEFAULT_KEY_PATH = "/etc/webhook/certs/tls.key";
+    private static final String DEFAULT_EXECUTOR = "virtual";
+    private static final String DEFAULT_THREADS = "16";
 
     public static void main(String[] args) {
         try {
             int port = Integer.parseInt(System.getenv().getOrDefault("WEBHOOK_PORT", DEFAULT_PORT));
             String certPath = System.getenv().getOrDefault("TLS_CERT_PATH", DEFAULT_CERT_PATH);
             String keyPath = System.getenv().getOrDefault("TLS_KEY_PATH", DEFAULT_KEY_PATH);
+            WebhookExecutorMode executorMode = WebhookExecutorMode.fromValue(System.getenv().getOrDefault("WEBHOOK_EXECUTOR", DEFAULT_EXECUTOR));
+            int executorThreads = Integer.parseInt(System.getenv().getOrDefault("WEBHOOK_THREADS", DEFAULT_THREADS));
 
             log.info("Starting Webhook server on port {}", port);
             log.info("TLS cert: {}, key: {}", certPath, keyPath);
@@ -49,7 +63,44 @@ public class WebhookApplication {
             KubernetesClient k8sClient = new KubernetesClientBuilder().build();
             log.info("Connected to Kubernetes cluster: {}", k8sClient.getMasterUrl());
 
-            KubernetesResourceLookup resourceLookup = new KubernetesResourceLookup(k8sClient);
+            // Optional snapshot of the caches on a local volume, so a restart serves admissions and skips unchanged reconciles immediately
+            String snapshotPath = System.getenv("WARM_START_SNAPSHOT_PATH");
+            Optional<WarmStartSnapshot> warmStart = snapshotPath == null || snapshotPath.isBlank()
+                    ? Optional.empty()
+                    : WarmStartSnapshot.read(Path.of(snapshotPath));
+
+            InformerResourceLookup resourceLookup = new InformerResourceLookup(k8sClient);
+            warmStart.ifPresent(resourceLookup::warmStart);
+
+            // The reconciler shares the lookup informers and registers its handlers before they start
+            // Optional write-ahead log on a local volume, so a restarted container recovers the store instead of starting empty
+            String storeDirectory = System.getenv("STORE_PERSISTENCE_DIR");
+            StorePersistence persistence = storeDirectory == null || storeDirectory.isBlank() ? null : StorePersistence.open(Path.of(storeDirectory));
+            // Optional direct-memory storage of the serialized resources, so GC work does not grow with the number of stored resources
+            OffHeapResourceStorage offHeap = Boolean.parseBoolean(System.getenv().getOrDefault("STORE_OFF_HEAP", "false"))
+                    ? OffHeapResourceStorage.create()
+                    : null;
+            CRDStore store = new CRDStore(ReconciliationEventPublisher.fromEnvironment(), CRDStore.DEFAULT_CHANGE_LOG_CAPACITY, persistence, offHeap);
+            ReconciliationController reconciler = null;
+            boolean reconciliationEnabled = Boolean.parseBoolean(
+                    System.getenv().getOrDefault("RECONCILIATION_ENABLED", "true"));
+            // Every replica keeps warm informer caches. With sharding each replica reconciles the namespaces it owns on the hash ring;
+            // otherwise only the Lease holder runs reconcile workers
+            String podNamespace = System.getenv("POD_NAMESPACE");
+            String identity = System.getenv().getOrDefault("HOSTNAME", "messaging-operator-" + ProcessHandle.current().pid());
+            boolean coordinated = podNamespace != null && !podNamespace.isBlank();
+            boolean sharded = coordinated && Boolean.parseBoolean(System.getenv().getOrDefault("RECONCILE_SHARDING_ENABLED", "false"));
+            if (reconciliationEnabled) {
+                log.info("Starting reconciliation controller...");
+                reconciler = new ReconciliationController(resourceLookup, store);
+                warmStart.ifPresent(reconciler::warmStart);
+                if (sharded) {
+                    // Own nothing until the first heartbeat has seen the other members; nothing is queued or forgotten in the meantime
+                    reconciler.reshard(namespace -> false);
+                }
+                reconciler.startInformers();
+            }
+            resourceLookup.start();
             OwnershipValidator ownershipValidator = new OwnershipValidator(resourceLookup);
             WebhookValidator webhookValidator = new WebhookValidator(ownershipValidator);
 
@@ -63,41 +114,85 @@ public class WebhookApplication {
                 }
             });
 
-            WebhookServer webhookHandler = new WebhookServer(webhookValidator, httpsServer);
+            // /ready stays 503 until the lookup caches have synced or been warm-started, so the API server never routes admissions to an empty cache
+            WebhookServer webhookHandler = new WebhookServer(webhookValidator, httpsServer, resourceLookup::isReady);
             webhookHandler.registerEndpoints();
+            webhookHandler.useExecutor(executorMode, executorThreads);
 
-            httpsServer.setExecutor(null);
             httpsServer.start();
 
             log.info("Webhook server started successfully on port {}", port);
 
-            // Start reconciliation controller if enabled
-            CRDStore store = new CRDStore();
-            ReconciliationController reconciler = null;
-            boolean reconciliationEnabled = Boolean.parseBoolean(
-                    System.getenv().getOrDefault("RECONCILIATION_ENABLED", "true"));
+            if (resourceLookup.waitForSync(60, TimeUnit.SECONDS)) {
+                log.info("Webhook lookup caches ready");
+            } else {
+                log.warn("Webhook lookup cache sync timeout - readiness will report NOT READY until synced");
+            }
 
-            if (reconciliationEnabled) {
-                log.info("Starting reconciliation controller...");
-                reconciler = new ReconciliationController(k8sClient, store);
-                reconciler.start();
+            // Start reconcile workers if enabled
+            LeaderElection leaderElection = null;
+            ShardMembership shardMembership = null;
 
+            if (reconciler != null) {
                 if (reconciler.waitForSync(60, TimeUnit.SECONDS)) {
                     log.info("Reconciliation controller ready");
                 } else {
                     log.warn("Reconciliation controller sync timeout - continuing anyway");
                 }
+
+                boolean leaderElectionEnabled = Boolean.parseBoolean(System.getenv().getOrDefault("LEADER_ELECTION_ENABLED", "true"));
+                if (sharded) {
+                    final ReconciliationController shardedReconciler = reconciler;
+                    // start() runs the first heartbeat synchronously, so workers begin with the first ring applied
+                    shardMembership = new ShardMembership(k8sClient, podNamespace, identity,
+                            ring -> shardedReconciler.reshard(namespace -> identity.equals(ring.ownerOf(namespace))));
+                    shardMembership.start();
+                    shardedReconciler.startWorkers();
+                } else if (leaderElectionEnabled && coordinated) {
+                    leaderElection = new LeaderElection(k8sClient, podNamespace, identity, reconciler::startWorkers, reconciler::stopWorkers);
+                    leaderElection.start();
+                } else {
+                    log.info("Leader election disabled - this replica reconciles unconditionally");
+                    reconciler.startWorkers();
+                }
             } else {
                 log.info("Reconciliation disabled via RECONCILIATION_ENABLED=false");
             }
 
             final ReconciliationController finalReconciler = reconciler;
+            final LeaderElection finalLeaderElection = leaderElection;
+            final ShardMembership finalShardMembership = shardMembership;
+
+            WarmStartSnapshotter snapshotter = null;
+            if (snapshotPath != null && !snapshotPath.isBlank()) {
+                Duration interval = Duration.ofSeconds(Long.parseLong(System.getenv().getOrDefault(
+                        "WARM_START_SNAPSHOT_INTERVAL_SECONDS", String.valueOf(WarmStartSnapshotter.DEFAULT_INTERVAL.toSeconds()))));
+                snapshotter = new WarmStartSnapshotter(Path.of(snapshotPath), interval,
+                        () -> captureWarmStart(resourceLookup, finalReconciler));
+                snapshotter.start();
+            }
+            final WarmStartSnapshotter finalSnapshotter = snapshotter;
+
             Runtime.getRuntime().addShutdownHook(new Thread(() -> {
                 log.info("Shutting down...");
+                if (finalSnapshotter != null) {
+                    finalSnapshotter.close();
+                }
+                if (finalLeaderElection != null) {
+                    finalLeaderElection.close();
+                }
+                if (finalShardMembership != null) {
+                    finalShardMembership.close();
+                }
                 if (finalReconciler != null) {
                     finalReconciler.close();
                 }
-                httpsServer.stop(5);
+                webhookHandler.stop();
+                store.getEventPublisher().close();
+                if (persistence != null) {
+                    persistence.close();
+                }
+                resourceLookup.close();
                 k8sClient.close();
             }));
 
@@ -109,6 +204,17 @@ public class WebhookApplication {
         }
     }
 
+    /**
+     * @return null until every cache has synced, so a snapshot never persists a partial listing
+     */
+    private static WarmStartSnapshot captureWarmStart(InformerResourceLookup resourceLookup, ReconciliationController reconciler) {
+        if (!resourceLookup.hasSynced()) {
+            return null;
+        }
+        // The reconciler shares the lookup informers, so their caches cover every kind
+        return WarmStartSnapshot.of(resourceLookup.cachedResources(), reconciler != null ? reconciler.fingerprintSnapshot() : Map.of());
+    }
+
     private static HttpsServer createHttpsServer(int port, String certPath, String keyPath) throws Exception {
         SSLContext sslContext = SSLContext.getInstance("TLS");
 
@@ -0,0 +1,36 @@
+package com.example.messaging.operator.webhook;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Threading model for admission request handling. Without an executor the JDK HttpServer runs every exchange (TLS, JSON parsing, lookups) on its single
+ * dispatcher thread, so concurrent admissions queue behind each other.
+ */
+public enum WebhookExecutorMode {
+    /** One virtual thread per request; blocking lookups do not pin platform threads. */
+    VIRTUAL,
+    /** Bounded pool of platform threads. */
+    FIXED,
+    /** Legacy behavior: all requests on the HttpServer dispatcher thread. */
+    DISPATCHER;
+
+    /**
+     * Creates the executor for this mode, or {@code null} for {@link #DISPATCHER}, which HttpServer interprets as its default dispatcher.
+     */
+    public ExecutorService createExecutor(int threads) {
+        return switch (this) {
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("webhook-", 0).factory());
+            case FIXED -> Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("webhook-", 0).daemon().factory());
+            case DISPATCHER -> null;
+        };
+    }
+
+    public static WebhookExecutorMode fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown webhook executor mode: " + value));
+    }
+}
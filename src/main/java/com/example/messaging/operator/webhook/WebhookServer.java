@@ -10,6 +10,9 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,22 +25,40 @@ public class WebhookServer {
 
     private HttpServer server;
     private final WebhookValidator validator;
+    private final BooleanSupplier readinessCheck;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private ExecutorService executor;
 
     public WebhookServer(WebhookValidator validator, int port) throws IOException {
+        this(validator, port, () -> true);
+    }
+
+    public WebhookServer(WebhookValidator validator, int port, BooleanSupplier readinessCheck) throws IOException {
         this.validator = validator;
+        this.readinessCheck = readinessCheck;
         this.server = HttpServer.create(new InetSocketAddress(port), 0);
 
         server.createContext("/health", new HealthHandler());
+        server.createContext("/ready", new ReadinessHandler(readinessCheck));
         registerValidationEndpoints(server);
+        useExecutor(WebhookExecutorMode.VIRTUAL, 0);
     }
 
     public WebhookServer(WebhookValidator validator, HttpServer externalServer) {
+        this(validator, externalServer, () -> true);
+    }
+
+    /**
+     * Uses an externally created server (e.g. HTTPS). {@link #registerEndpoints()} also exposes {@code /ready}, which answers 503 until the readiness check passes.
+     */
+    public WebhookServer(WebhookValidator validator, HttpServer externalServer, BooleanSupplier readinessCheck) {
         this.validator = validator;
+        this.readinessCheck = readinessCheck;
         this.server = externalServer;
     }
 
     public void registerEndpoints() {
+        server.createContext("/ready", new ReadinessHandler(readinessCheck));
         registerValidationEndpoints(server);
     }
 
@@ -49,13 +70,41 @@ public class WebhookServer {
         httpServer.createContext("/validate/consumergroup", new ValidationHandler(ConsumerGroup.class));
     }
 
+    /**
+     * Selects how requests are executed. Must be called before the server is started.
+     */
+    public void useExecutor(WebhookExecutorMode mode, int threads) {
+        ExecutorService previous = executor;
+        executor = mode.createExecutor(threads);
+        server.setExecutor(executor);
+        if (previous != null) {
+            previous.shutdown();
+        }
+        log.info("Webhook requests handled by {} executor", mode);
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
     public void start() {
         server.start();
-        log.info("Webhook server started on port {}", server.getAddress().getPort());
+        log.info("Webhook server started on port {}", getPort());
     }
 
     public void stop() {
         server.stop(5);
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
         log.info("Webhook server stopped");
     }
 
@@ -70,6 +119,25 @@ public class WebhookServer {
         }
     }
 
+    private static class ReadinessHandler implements HttpHandler {
+        private final BooleanSupplier readinessCheck;
+
+        ReadinessHandler(BooleanSupplier readinessCheck) {
+            this.readinessCheck = readinessCheck;
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            boolean ready = readinessCheck.getAsBoolean();
+            String response = ready ? "READY" : "NOT READY";
+            int status = ready ? HttpStatus.OK.getCode() : HttpStatus.SERVICE_UNAVAILABLE.getCode();
+            exchange.sendResponseHeaders(status, response.length());
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(response.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
     private class ValidationHandler implements HttpHandler {
         private final Class<?> resourceClass;
 
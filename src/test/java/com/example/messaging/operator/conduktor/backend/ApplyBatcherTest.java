@@ -0,0 +1,101 @@
+package com.example.messaging.operator.conduktor.backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.messaging.operator.conduktor.cli.CliResult;
+import com.example.messaging.operator.conduktor.model.ConduktorMetadata;
+import com.example.messaging.operator.conduktor.model.ConduktorResource;
+import com.example.messaging.operator.conduktor.model.ConduktorTopic;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ApplyBatcherTest {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private ApplyBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    private List<CliResult> recordBatch(List<ConduktorResource<?>> resources) {
+        List<String> names = resources.stream().map(resource -> resource.getMetadata().getName()).toList();
+        batches.add(names);
+        return names.stream().map(name -> new CliResult(0, "Topic/" + name + ": Created", "")).toList();
+    }
+
+    @Test
+    void submit_withinWindow_shouldCoalesceIntoOneBatch() throws Exception {
+        batcher = new ApplyBatcher(this::recordBatch, 200, 50);
+
+        List<CompletableFuture<CliResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(batcher.submit(topic("topic-" + i)));
+        }
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(futures.get(i).get(5, TimeUnit.SECONDS).stdout()).isEqualTo("Topic/topic-" + i + ": Created");
+        }
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(5);
+    }
+
+    @Test
+    void submit_beyondMaxSize_shouldSplitBatches() throws Exception {
+        batcher = new ApplyBatcher(this::recordBatch, 200, 2);
+
+        List<CompletableFuture<CliResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(batcher.submit(topic("topic-" + i)));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        assertThat(batches).allSatisfy(batch -> assertThat(batch.size()).isLessThanOrEqualTo(2));
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(5);
+    }
+
+    @Test
+    void submit_whenBatchApplyThrows_shouldFailEveryFuture() {
+        batcher = new ApplyBatcher(resources -> {
+            throw new IllegalStateException("boom");
+        }, 0, 10);
+
+        CompletableFuture<CliResult> future = batcher.submit(topic("orders"));
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class).hasRootCauseMessage("boom");
+    }
+
+    @Test
+    void close_shouldFlushPendingAndRejectNewSubmissions() throws Exception {
+        batcher = new ApplyBatcher(this::recordBatch, 10_000, 50);
+
+        CompletableFuture<CliResult> pending = batcher.submit(topic("orders"));
+        batcher.close();
+
+        assertThat(pending.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(batcher.submit(topic("late")).get().stderr()).contains("closed");
+    }
+
+    @Test
+    void constructor_shouldRejectInvalidSettings() {
+        assertThatThrownBy(() -> new ApplyBatcher(this::recordBatch, 10, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ConduktorTopic topic(String name) {
+        return ConduktorTopic.builder()
+                .apiVersion(ConduktorTopic.API_VERSION)
+                .kind(ConduktorTopic.KIND)
+                .metadata(ConduktorMetadata.builder().name(name).cluster("vc").build())
+                .build();
+    }
+}
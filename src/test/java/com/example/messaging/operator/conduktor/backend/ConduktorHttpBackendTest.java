@@ -0,0 +1,200 @@
+package com.example.messaging.operator.conduktor.backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.messaging.operator.conduktor.cli.CliResult;
+import com.example.messaging.operator.conduktor.cli.ConduktorCliCredentials;
+import com.example.messaging.operator.conduktor.model.ConduktorInterceptor;
+import com.example.messaging.operator.conduktor.model.ConduktorInterceptorSpec;
+import com.example.messaging.operator.conduktor.model.ConduktorMetadata;
+import com.example.messaging.operator.conduktor.model.ConduktorTopic;
+import com.example.messaging.operator.conduktor.model.ConduktorTopicSpec;
+import com.example.messaging.operator.conduktor.model.GatewayServiceAccount;
+import com.example.messaging.operator.conduktor.model.InterceptorScope;
+import com.example.messaging.operator.conduktor.model.VirtualCluster;
+import com.example.messaging.operator.conduktor.model.VirtualClusterSpec;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.Credentials;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConduktorHttpBackendTest {
+
+    private MockWebServer server;
+    private ConduktorHttpBackend backend;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        backend = new ConduktorHttpBackend(credentials(server.url("/").toString()), null, 8);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        backend.close();
+        server.shutdown();
+    }
+
+    @Test
+    void apply_topic_shouldPutToConsoleClusterEndpointWithBearerToken() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("{\"upsertResult\":\"Created\"}"));
+
+        CliResult result = backend.apply(topic("orders"));
+
+        RecordedRequest request = server.takeRequest(5, TimeUnit.SECONDS);
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.stdout()).contains("Created");
+        assertThat(request.getMethod()).isEqualTo("PUT");
+        assertThat(request.getPath()).isEqualTo("/public/kafka/v2/cluster/vc-a/topic");
+        assertThat(request.getHeader("Authorization")).isEqualTo("Bearer console-token");
+        assertThat(request.getBody().readUtf8()).contains("\"kind\":\"Topic\"").contains("\"partitions\":3");
+    }
+
+    @Test
+    void apply_gatewayResources_shouldPutToGatewayEndpointsWithBasicAuth() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        backend.apply(VirtualCluster.builder()
+                .apiVersion(VirtualCluster.API_VERSION)
+                .kind(VirtualCluster.KIND)
+                .metadata(ConduktorMetadata.builder().name("vc-a").build())
+                .spec(VirtualClusterSpec.builder().build())
+                .build());
+        backend.apply(GatewayServiceAccount.builder()
+                .apiVersion(GatewayServiceAccount.API_VERSION)
+                .kind(GatewayServiceAccount.KIND)
+                .metadata(ConduktorMetadata.builder().name("sa").vCluster("vc-a").build())
+                .build());
+
+        RecordedRequest virtualCluster = server.takeRequest(5, TimeUnit.SECONDS);
+        RecordedRequest serviceAccount = server.takeRequest(5, TimeUnit.SECONDS);
+        assertThat(virtualCluster.getPath()).isEqualTo("/gateway/v2/virtual-cluster");
+        assertThat(serviceAccount.getPath()).isEqualTo("/gateway/v2/service-account");
+        assertThat(serviceAccount.getHeader("Authorization")).isEqualTo(Credentials.basic("admin", "secret"));
+        assertThat(serviceAccount.getBody().readUtf8()).contains("\"vCluster\":\"vc-a\"");
+    }
+
+    @Test
+    void apply_interceptor_shouldPutToGatewayInterceptorEndpointWithScope() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        backend.apply(ConduktorInterceptor.builder()
+                .apiVersion(ConduktorInterceptor.API_VERSION)
+                .kind(ConduktorInterceptor.KIND)
+                .metadata(ConduktorMetadata.builder().name("team--policy").scope(InterceptorScope.builder().vCluster("vc-a").build()).build())
+                .spec(ConduktorInterceptorSpec.builder().pluginClass("io.conduktor.Plugin").priority(100).build())
+                .build());
+
+        RecordedRequest interceptor = server.takeRequest(5, TimeUnit.SECONDS);
+        assertThat(interceptor.getPath()).isEqualTo("/gateway/v2/interceptor");
+        assertThat(interceptor.getBody().readUtf8()).contains("\"scope\":{\"vCluster\":\"vc-a\"}");
+    }
+
+    @Test
+    void apply_errorStatus_shouldReturnFailureWithStatusAndBody() {
+        server.enqueue(new MockResponse().setResponseCode(400).setBody("invalid partitions"));
+
+        CliResult result = backend.apply(topic("orders"));
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.exitCode()).isEqualTo(400);
+        assertThat(result.stderr()).contains("HTTP 400").contains("Topic/orders").contains("invalid partitions");
+    }
+
+    @Test
+    void applyBatch_shouldIssueRequestsConcurrentlyOverPooledConnections() {
+        int requests = 4;
+        CountDownLatch allArrived = new CountDownLatch(requests);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                // Only returns once every request of the batch is in flight
+                allArrived.countDown();
+                allArrived.await(5, TimeUnit.SECONDS);
+                return new MockResponse().setResponseCode(200).setBody(request.getPath());
+            }
+        });
+
+        List<CliResult> results = backend.applyBatch(List.of(topic("a"), topic("b"), topic("c"), topic("d")));
+
+        assertThat(allArrived.getCount()).isZero();
+        assertThat(results).hasSize(requests).allMatch(CliResult::isSuccess);
+    }
+
+    @Test
+    void apply_unreachableApi_shouldFallBack() throws IOException {
+        AtomicInteger fallbackCalls = new AtomicInteger();
+        ApplyBackend fallback = resource -> {
+            fallbackCalls.incrementAndGet();
+            return new CliResult(0, "applied by fallback", "");
+        };
+        String unreachableUrl = server.url("/").toString();
+        server.shutdown();
+
+        try (ConduktorHttpBackend unreachable = new ConduktorHttpBackend(credentials(unreachableUrl), fallback, 2)) {
+            CliResult single = unreachable.apply(topic("orders"));
+            List<CliResult> batch = unreachable.applyBatch(List.of(topic("a"), topic("b")));
+
+            assertThat(single.stdout()).isEqualTo("applied by fallback");
+            assertThat(batch).allMatch(CliResult::isSuccess);
+            assertThat(fallbackCalls.get()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void applyBatch_throwingFallback_shouldCompleteWithFailure() throws IOException {
+        ApplyBackend fallback = resource -> {
+            throw new IllegalStateException("cli crashed");
+        };
+        String unreachableUrl = server.url("/").toString();
+        server.shutdown();
+
+        try (ConduktorHttpBackend unreachable = new ConduktorHttpBackend(credentials(unreachableUrl), fallback, 2)) {
+            List<CliResult> batch = unreachable.applyBatch(List.of(topic("a"), topic("b")));
+
+            assertThat(batch).hasSize(2).noneMatch(CliResult::isSuccess).allMatch(result -> result.stderr().contains("cli crashed"));
+        }
+    }
+
+    @Test
+    void apply_unsupportedKind_shouldFailWithoutRequest() {
+        ConduktorTopic unknown = topic("orders");
+        unknown.setKind("Unknown");
+
+        CliResult result = backend.apply(unknown);
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.stderr()).contains("Unsupported resource kind");
+        assertThat(server.getRequestCount()).isZero();
+    }
+
+    @Test
+    void backendType_shouldParseCaseInsensitively() {
+        assertThat(ApplyBackendType.fromValue("http")).isEqualTo(ApplyBackendType.HTTP);
+        assertThat(ApplyBackendType.fromValue("CLI")).isEqualTo(ApplyBackendType.CLI);
+    }
+
+    private static ConduktorCliCredentials credentials(String baseUrl) {
+        return ConduktorCliCredentials.of(baseUrl, "console-token", baseUrl, "admin", "secret");
+    }
+
+    private static ConduktorTopic topic(String name) {
+        return ConduktorTopic.builder()
+                .apiVersion(ConduktorTopic.API_VERSION)
+                .kind(ConduktorTopic.KIND)
+                .metadata(ConduktorMetadata.builder().name(name).cluster("vc-a").build())
+                .spec(ConduktorTopicSpec.builder().partitions(3).replicationFactor(1).build())
+                .build();
+    }
+}
@@ -3,9 +3,20 @@ package com.example.messaging.operator.conduktor.cli;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.example.messaging.operator.conduktor.model.ConduktorMetadata;
+import com.example.messaging.operator.conduktor.model.ConduktorResource;
+import com.example.messaging.operator.conduktor.model.ConduktorTopic;
+import com.example.messaging.operator.conduktor.model.ConduktorTopicSpec;
+import com.example.messaging.operator.conduktor.model.GatewayServiceAccount;
 import com.example.messaging.operator.conduktor.model.VirtualCluster;
 import com.example.messaging.operator.conduktor.model.VirtualClusterSpec;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class ConduktorCliTest {
 
@@ -75,4 +86,181 @@ class ConduktorCliTest {
 
         assertThat(result.isSuccess()).isFalse();
     }
+
+    @Test
+    void applyBatch_withoutCredentials_shouldReturnErrorPerResource() {
+        ConduktorCli cli = new ConduktorCli("conduktor", 30, null);
+
+        List<CliResult> results = cli.applyBatch(List.of(createTestVirtualCluster(), topic("orders", "test-vcluster")));
+
+        assertThat(results).hasSize(2).allSatisfy(result -> assertThat(result.stderr()).contains("Credentials not configured"));
+    }
+
+    @Test
+    void applyBatchDryRun_shouldRunOneProcessPerTargetAndMapResults(@TempDir Path tempDir) throws IOException {
+        Path invocations = tempDir.resolve("invocations");
+        // Fake CLI: records each invocation and reports "Kind/name: Created" for every document in the file
+        Path script = tempDir.resolve("conduktor");
+        Files.writeString(script, """
+                #!/bin/sh
+                echo run >> %s
+                awk '/^kind:/{k=$2} /^  name:/{print k"/"$2": Created"}' "$3"
+                """.formatted(invocations));
+        Files.setPosixFilePermissions(script, PosixFilePermissions.fromString("rwxr-xr-x"));
+        ConduktorCli cli = new ConduktorCli(script.toString(), 10, null);
+
+        List<CliResult> results = cli.applyBatchDryRun(List.of(
+                topic("orders", "vc-a"),
+                VirtualCluster.builder()
+                        .apiVersion(VirtualCluster.API_VERSION)
+                        .kind(VirtualCluster.KIND)
+                        .metadata(ConduktorMetadata.builder().name("test-vcluster").build())
+                        .spec(VirtualClusterSpec.builder().build())
+                        .build(),
+                topic("payments", "vc-a"),
+                topic("audit", "vc-b")));
+
+        assertThat(Files.readAllLines(invocations)).hasSize(3);
+        assertThat(results).extracting(CliResult::stdout)
+                .containsExactly("Topic/orders: Created", "VirtualCluster/test-vcluster: Created", "Topic/payments: Created", "Topic/audit: Created");
+        assertThat(results).allMatch(CliResult::isSuccess);
+    }
+
+    @Test
+    void mapBatchResults_shouldSplitPartialFailure() {
+        List<ConduktorResource<?>> batch = List.of(topic("orders", "vc"), topic("orders-dlq", "vc"), topic("payments", "vc"));
+        CliResult batchResult = new CliResult(1, "Topic/orders: Created\nTopic/orders-dlq: NotChanged", "Could not apply Topic/payments: invalid partitions");
+
+        List<CliResult> results = ConduktorCli.mapBatchResults(batch, batchResult);
+
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(0).stdout()).isEqualTo("Topic/orders: Created");
+        assertThat(results.get(1).stdout()).isEqualTo("Topic/orders-dlq: NotChanged");
+        assertThat(results.get(2).isSuccess()).isFalse();
+        assertThat(results.get(2).stderr()).contains("invalid partitions");
+    }
+
+    @Test
+    void mapBatchResults_shouldIgnoreErrorWordsInResourceNames() {
+        List<ConduktorResource<?>> batch = List.of(topic("orders-errors", "vc"), topic("failover", "vc"), topic("payments", "vc"));
+        CliResult batchResult = new CliResult(1, "Topic/orders-errors: Created\nTopic/failover: NotChanged", "Topic/payments: Failed - invalid partitions");
+
+        List<CliResult> results = ConduktorCli.mapBatchResults(batch, batchResult);
+
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(1).isSuccess()).isTrue();
+        assertThat(results.get(2).isSuccess()).isFalse();
+    }
+
+    @Test
+    void mapBatchResults_shouldReadOutcomeTokensFromCliOutput() {
+        List<ConduktorResource<?>> batch = List.of(topic("orders", "vc"), topic("payments", "vc"), topic("audit", "vc"), topic("refunds", "vc"));
+        CliResult batchResult = new CliResult(1,
+                "Topic/orders: Created\nTopic/payments: NotChanged\nTopic/audit: Updated (0 errors)",
+                "Could not apply resource Topic/refunds: error applying resource Topic/refunds, got status code: 400:\n"
+                        + "{\"title\":\"Invalid value for partitions\",\"msg\":\"partitions must be at least 1\"}");
+
+        List<CliResult> results = ConduktorCli.mapBatchResults(batch, batchResult);
+
+        assertThat(results).extracting(CliResult::isSuccess).containsExactly(true, true, true, false);
+        assertThat(results.get(2).stdout()).isEqualTo("Topic/audit: Updated (0 errors)");
+        assertThat(results.get(3).exitCode()).isEqualTo(1);
+        assertThat(results.get(3).stderr()).startsWith("Could not apply resource Topic/refunds:");
+    }
+
+    @Test
+    void mapBatchResults_shouldFailUnreportedResourcesWhenRunFails() {
+        CliResult batchResult = new CliResult(2, "", "connection refused");
+
+        List<CliResult> results = ConduktorCli.mapBatchResults(List.of(topic("orders", "vc")), batchResult);
+
+        assertThat(results.get(0).exitCode()).isEqualTo(2);
+        assertThat(results.get(0).stderr()).isEqualTo("connection refused");
+    }
+
+    @Test
+    void targetOf_shouldGroupGatewayByVClusterAndConsoleByCluster() {
+        GatewayServiceAccount serviceAccount = GatewayServiceAccount.builder()
+                .apiVersion(GatewayServiceAccount.API_VERSION)
+                .kind(GatewayServiceAccount.KIND)
+                .metadata(ConduktorMetadata.builder().name("sa").vCluster("vc-a").build())
+                .build();
+
+        assertThat(ConduktorCli.targetOf(serviceAccount)).isEqualTo(new ConduktorCli.BatchTarget(true, "vc-a"));
+        assertThat(ConduktorCli.targetOf(topic("orders", "vc-a"))).isEqualTo(new ConduktorCli.BatchTarget(false, "vc-a"));
+    }
+
+    @Test
+    void applyYaml_shouldPipeYamlThroughStdinAndRecordDuration(@TempDir Path tempDir) throws IOException {
+        ConduktorCli cli = new ConduktorCli(script(tempDir, "cat \"$3\""), 10, null);
+
+        CliResult result = cli.applyYaml("kind: Topic\nmetadata:\n  name: orders", true);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.stdout()).isEqualTo("kind: Topic\nmetadata:\n  name: orders");
+        assertThat(result.duration()).isPositive();
+    }
+
+    @Test
+    void applyYaml_chattyStderr_shouldNotDeadlock(@TempDir Path tempDir) throws IOException {
+        // Fill stderr far beyond the pipe buffer before stdout is closed
+        ConduktorCli cli = new ConduktorCli(script(tempDir, "head -c 300000 /dev/zero | tr '\\0' e >&2; echo done"), 10, null);
+
+        CliResult result = cli.applyYaml("kind: Topic", true);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.stdout()).isEqualTo("done");
+        assertThat(result.stderr()).hasSize(300000);
+    }
+
+    @Test
+    void applyYaml_hugeOutput_shouldBeTruncated(@TempDir Path tempDir) throws IOException {
+        ConduktorCli cli = new ConduktorCli(script(tempDir, "head -c 3000000 /dev/zero | tr '\\0' o"), 10, null);
+
+        CliResult result = cli.applyYaml("kind: Topic", true);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.stdout()).endsWith("[output truncated]").hasSizeLessThan(1024 * 1024 + 100);
+    }
+
+    @Test
+    void applyYaml_timeout_shouldCoverWholeExecution(@TempDir Path tempDir) throws IOException {
+        ConduktorCli cli = new ConduktorCli(script(tempDir, "echo started; sleep 30"), 1, null);
+
+        long start = System.nanoTime();
+        CliResult result = cli.applyYaml("kind: Topic", true);
+
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(10);
+        assertThat(result.exitCode()).isEqualTo(-1);
+        assertThat(result.stderr()).contains("timed out");
+    }
+
+    @Test
+    void applyYaml_childNotReadingStdin_shouldStillTimeOut(@TempDir Path tempDir) throws IOException {
+        // Far more YAML than a pipe buffer holds, to a child that never reads it
+        ConduktorCli cli = new ConduktorCli(script(tempDir, "sleep 30"), 1, null);
+
+        long start = System.nanoTime();
+        CliResult result = cli.applyYaml("kind: Topic\n".repeat(200_000), true);
+
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(10);
+        assertThat(result.exitCode()).isEqualTo(-1);
+        assertThat(result.stderr()).contains("timed out");
+    }
+
+    private static String script(Path dir, String body) throws IOException {
+        Path script = dir.resolve("conduktor");
+        Files.writeString(script, "#!/bin/sh\n" + body + "\n");
+        Files.setPosixFilePermissions(script, PosixFilePermissions.fromString("rwxr-xr-x"));
+        return script.toString();
+    }
+
+    private ConduktorTopic topic(String name, String cluster) {
+        return ConduktorTopic.builder()
+                .apiVersion(ConduktorTopic.API_VERSION)
+                .kind(ConduktorTopic.KIND)
+                .metadata(ConduktorMetadata.builder().name(name).cluster(cluster).build())
+                .spec(ConduktorTopicSpec.builder().partitions(3).replicationFactor(1).build())
+                .build();
+    }
 }
@@ -2,10 +2,20 @@ package com.example.messaging.operator.events;
 
 import static org.assertj.core.api.Assertions.*;
 
+import com.example.messaging.operator.crd.ApplicationService;
+import com.example.messaging.operator.crd.ApplicationServiceSpec;
 import com.example.messaging.operator.store.CRDKind;
+import com.example.messaging.operator.store.CRDStore;
+import com.example.messaging.operator.events.ReconciliationEventPublisher.OverflowPolicy;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -586,4 +596,306 @@ class ReconciliationEventTest {
             });
         }
     }
+
+    @Nested
+    @DisplayName("Asynchronous Dispatch")
+    class AsyncDispatchTest {
+
+        private final CountDownLatch dispatching = new CountDownLatch(1);
+
+        private ReconciliationEvent event(int i) {
+            return ReconciliationEvent.builder()
+                    .phase(ReconciliationEvent.Phase.BEFORE)
+                    .operation(ReconciliationEvent.Operation.CREATE)
+                    .resourceKind(CRDKind.TOPIC)
+                    .resourceName("topic-" + i)
+                    .resourceNamespace(TEST_NAMESPACE)
+                    .build();
+        }
+
+        /**
+         * Listener that holds the dispatcher thread until released, so the buffer fills up behind it.
+         */
+        private ReconciliationEventPublisher.ReconciliationEventListener blockingListener(CountDownLatch release, List<ReconciliationEvent> received) {
+            return e -> {
+                dispatching.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                received.add(e);
+            };
+        }
+
+        @Test
+        @DisplayName("should deliver all events in order and in batches off the publishing thread")
+        void testAsyncDeliveryInOrder() throws Exception {
+            try (ReconciliationEventPublisher publisher = ReconciliationEventPublisher.async(1024, OverflowPolicy.BLOCK, 16, 1)) {
+                List<String> threads = new CopyOnWriteArrayList<>();
+                List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+                List<ReconciliationEvent> received = new CopyOnWriteArrayList<>();
+                publisher.addListener(new ReconciliationEventPublisher.ReconciliationEventListener() {
+                    @Override
+                    public void onEvent(ReconciliationEvent event) {
+                        received.add(event);
+                    }
+
+                    @Override
+                    public void onEvents(List<ReconciliationEvent> events) {
+                        threads.add(Thread.currentThread().getName());
+                        batchSizes.add(events.size());
+                        events.forEach(this::onEvent);
+                    }
+                });
+
+                for (int i = 0; i < 100; i++) {
+                    publisher.publish(event(i));
+                }
+
+                assertThat(publisher.flush(5, TimeUnit.SECONDS)).isTrue();
+                assertThat(received).extracting(ReconciliationEvent::getResourceName)
+                        .containsExactlyElementsOf(IntStream.range(0, 100).mapToObj(i -> "topic-" + i).toList());
+                assertThat(threads).allMatch(name -> name.equals("reconciliation-event-dispatcher"));
+                assertThat(batchSizes).allMatch(size -> size <= 16);
+                assertThat(publisher.getDeliveredCount()).isEqualTo(100);
+                assertThat(publisher.getDroppedCount()).isZero();
+                assertThat(publisher.getLag()).isZero();
+            }
+        }
+
+        @Test
+        @DisplayName("should not block the publisher on a slow listener")
+        void testSlowListenerDoesNotBlockPublish() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            List<ReconciliationEvent> received = new CopyOnWriteArrayList<>();
+            try (ReconciliationEventPublisher publisher = ReconciliationEventPublisher.async(64, OverflowPolicy.BLOCK, 8, 1)) {
+                publisher.addListener(blockingListener(release, received));
+
+                long start = System.nanoTime();
+                for (int i = 0; i < 10; i++) {
+                    publisher.publish(event(i));
+                }
+
+                assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+                assertThat(publisher.getLag()).isEqualTo(10);
+
+                release.countDown();
+                assertThat(publisher.flush(5, TimeUnit.SECONDS)).isTrue();
+                assertThat(received).hasSize(10);
+            }
+        }
+
+        @Test
+        @DisplayName("should evict oldest events when full under DROP_OLDEST")
+        void testDropOldest() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            List<ReconciliationEvent> received = new CopyOnWriteArrayList<>();
+            try (ReconciliationEventPublisher publisher = ReconciliationEventPublisher.async(4, OverflowPolicy.DROP_OLDEST, 1, 1)) {
+                publisher.addListener(blockingListener(release, received));
+
+                publisher.publish(event(0));
+                // Wait until the dispatcher holds event 0, then fill the buffer past capacity
+                assertThat(dispatching.await(5, TimeUnit.SECONDS)).isTrue();
+                for (int i = 1; i <= 10; i++) {
+                    publisher.publish(event(i));
+                }
+
+                release.countDown();
+                assertThat(publisher.flush(5, TimeUnit.SECONDS)).isTrue();
+                assertThat(received).extracting(ReconciliationEvent::getResourceName)
+                        .containsExactly("topic-0", "topic-7", "topic-8", "topic-9", "topic-10");
+                assertThat(publisher.getDroppedCount()).isEqualTo(6);
+                assertThat(publisher.getPublishedCount()).isEqualTo(11);
+            }
+        }
+
+        @Test
+        @DisplayName("should keep only a sample of overflowing events under SAMPLE")
+        void testSample() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            List<ReconciliationEvent> received = new CopyOnWriteArrayList<>();
+            try (ReconciliationEventPublisher publisher = ReconciliationEventPublisher.async(2, OverflowPolicy.SAMPLE, 1, 5)) {
+                publisher.addListener(blockingListener(release, received));
+
+                publisher.publish(event(0));
+                assertThat(dispatching.await(5, TimeUnit.SECONDS)).isTrue();
+                for (int i = 1; i <= 22; i++) {
+                    publisher.publish(event(i));
+                }
+
+                release.countDown();
+                assertThat(publisher.flush(5, TimeUnit.SECONDS)).isTrue();
+                // Buffer holds 1-2; overflow 3..22 keeps every 5th (3, 8, 13, 18), each evicting the oldest
+                assertThat(received).extracting(ReconciliationEvent::getResourceName).containsExactly("topic-0", "topic-13", "topic-18");
+                assertThat(publisher.getDroppedCount() + publisher.getDeliveredCount()).isEqualTo(publisher.getPublishedCount());
+            }
+        }
+
+        @Test
+        @DisplayName("should block the publisher when full under BLOCK without losing events")
+        void testBlock() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            List<ReconciliationEvent> received = new CopyOnWriteArrayList<>();
+            try (ReconciliationEventPublisher publisher = ReconciliationEventPublisher.async(2, OverflowPolicy.BLOCK, 1, 1)) {
+                publisher.addListener(blockingListener(release, received));
+
+                Thread producer = Thread.ofPlatform().start(() -> {
+                    for (int i = 0; i < 6; i++) {
+                        publisher.publish(event(i));
+                    }
+                });
+
+                await(() -> producer.getState() == Thread.State.WAITING);
+                assertThat(producer.isAlive()).isTrue();
+
+                release.countDown();
+                producer.join(5000);
+                assertThat(publisher.flush(5, TimeUnit.SECONDS)).isTrue();
+                assertThat(received).hasSize(6);
+                assertThat(publisher.getDroppedCount()).isZero();
+            }
+        }
+
+        @Test
+        @DisplayName("should deliver inline instead of deadlocking when a listener writes back to the store under BLOCK")
+        void testListenerWritesBackUnderBlock() throws Exception {
+            try (ReconciliationEventPublisher publisher = ReconciliationEventPublisher.async(1, OverflowPolicy.BLOCK, 1, 1)) {
+                CRDStore store = new CRDStore(publisher);
+                List<String> received = new CopyOnWriteArrayList<>();
+                publisher.addListener(event -> {
+                    received.add(event.getPhase() + " " + event.getResourceName());
+                    if (event.getPhase() == ReconciliationEvent.Phase.AFTER && event.getResourceName().equals("orders")) {
+                        // Runs on the dispatcher; the write publishes BEFORE and AFTER, more than the buffer holds
+                        store.create(CRDKind.APPLICATION_SERVICE, TEST_NAMESPACE, applicationService("orders-audit"));
+                    }
+                });
+
+                store.create(CRDKind.APPLICATION_SERVICE, TEST_NAMESPACE, applicationService("orders"));
+
+                assertThat(publisher.flush(5, TimeUnit.SECONDS)).isTrue();
+                assertThat(store.<ApplicationService>get(CRDKind.APPLICATION_SERVICE, TEST_NAMESPACE, "orders-audit")).isNotNull();
+                assertThat(received).contains("BEFORE orders-audit", "AFTER orders-audit");
+                assertThat(publisher.getDroppedCount()).isZero();
+                assertThat(publisher.getDeliveredCount()).isEqualTo(publisher.getPublishedCount());
+            }
+        }
+
+        private ApplicationService applicationService(String name) {
+            ApplicationService appService = new ApplicationService();
+            appService.setMetadata(new ObjectMeta());
+            appService.getMetadata().setName(name);
+            appService.getMetadata().setNamespace(TEST_NAMESPACE);
+
+            ApplicationServiceSpec spec = new ApplicationServiceSpec();
+            spec.setName(name);
+            appService.setSpec(spec);
+
+            return appService;
+        }
+
+        private void await(BooleanSupplier condition) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!condition.getAsBoolean()) {
+                if (System.nanoTime() > deadline) {
+                    fail("Condition not met within 5s");
+                }
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Filtered Subscriptions")
+    class FilteredSubscriptionTest {
+
+        private ReconciliationEvent event(CRDKind kind, String namespace, ReconciliationEvent.Phase phase, ReconciliationEvent.Result result) {
+            return ReconciliationEvent.builder()
+                    .phase(phase)
+                    .operation(ReconciliationEvent.Operation.CREATE)
+                    .resourceKind(kind)
+                    .resourceName(TEST_RESOURCE)
+                    .resourceNamespace(namespace)
+                    .applicationService(TEST_APP_SERVICE)
+                    .result(result)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("should route events only to subscriptions whose kind, namespace and phase match")
+        void testRoutesByKindNamespaceAndPhase() {
+            ReconciliationEventPublisher publisher = new ReconciliationEventPublisher();
+            List<ReconciliationEvent> topicsInNamespace = new ArrayList<>();
+            List<ReconciliationEvent> aclsAnywhere = new ArrayList<>();
+            List<ReconciliationEvent> failures = new ArrayList<>();
+            publisher.subscribe(ReconciliationEventFilter.builder().kind(CRDKind.TOPIC).namespace(TEST_NAMESPACE).build(), topicsInNamespace::add);
+            publisher.subscribe(ReconciliationEventFilter.builder().kind(CRDKind.ACL).phase(ReconciliationEvent.Phase.AFTER).build(), aclsAnywhere::add);
+            publisher.subscribe(ReconciliationEventFilter.builder().result(ReconciliationEvent.Result.FAILURE).build(), failures::add);
+
+            publisher.publish(event(CRDKind.TOPIC, TEST_NAMESPACE, ReconciliationEvent.Phase.BEFORE, null));
+            publisher.publish(event(CRDKind.TOPIC, "other", ReconciliationEvent.Phase.AFTER, ReconciliationEvent.Result.FAILURE));
+            publisher.publish(event(CRDKind.ACL, "other", ReconciliationEvent.Phase.BEFORE, null));
+            publisher.publish(event(CRDKind.ACL, "other", ReconciliationEvent.Phase.AFTER, ReconciliationEvent.Result.SUCCESS));
+
+            assertThat(topicsInNamespace).singleElement().extracting(ReconciliationEvent::getResourceNamespace).isEqualTo(TEST_NAMESPACE);
+            assertThat(aclsAnywhere).singleElement().extracting(ReconciliationEvent::getResult).isEqualTo(ReconciliationEvent.Result.SUCCESS);
+            assertThat(failures).singleElement().extracting(ReconciliationEvent::getResourceKind).isEqualTo(CRDKind.TOPIC);
+        }
+
+        @Test
+        @DisplayName("should apply owner and predicate checks after the table lookup")
+        void testResidualFilters() {
+            ReconciliationEventPublisher publisher = new ReconciliationEventPublisher();
+            List<ReconciliationEvent> owned = new ArrayList<>();
+            List<ReconciliationEvent> predicated = new ArrayList<>();
+            publisher.subscribe(ReconciliationEventFilter.builder().applicationService("someone-else").build(), owned::add);
+            publisher.subscribe(ReconciliationEventFilter.builder().predicate(e -> e.getResourceKind() == CRDKind.SCOPE).build(), predicated::add);
+
+            publisher.publish(event(CRDKind.TOPIC, TEST_NAMESPACE, ReconciliationEvent.Phase.BEFORE, null));
+            publisher.publish(event(CRDKind.SCOPE, TEST_NAMESPACE, ReconciliationEvent.Phase.BEFORE, null));
+
+            assertThat(owned).isEmpty();
+            assertThat(predicated).singleElement().extracting(ReconciliationEvent::getResourceKind).isEqualTo(CRDKind.SCOPE);
+        }
+
+        @Test
+        @DisplayName("should stop delivery and drop interest once a subscription is closed")
+        void testCloseSubscription() {
+            ReconciliationEventPublisher publisher = new ReconciliationEventPublisher();
+            publisher.setLogEvents(false);
+            List<ReconciliationEvent> received = new ArrayList<>();
+            ReconciliationEventPublisher.Subscription subscription = publisher
+                    .subscribe(ReconciliationEventFilter.builder().kind(CRDKind.TOPIC).namespace(TEST_NAMESPACE).build(), received::add);
+
+            assertThat(publisher.hasInterest(CRDKind.TOPIC, TEST_NAMESPACE)).isTrue();
+            assertThat(publisher.hasInterest(CRDKind.TOPIC, "other")).isFalse();
+            assertThat(publisher.hasInterest(CRDKind.ACL, TEST_NAMESPACE)).isFalse();
+
+            subscription.close();
+            publisher.publish(event(CRDKind.TOPIC, TEST_NAMESPACE, ReconciliationEvent.Phase.BEFORE, null));
+
+            assertThat(received).isEmpty();
+            assertThat(publisher.getSubscriptionCount()).isZero();
+            assertThat(publisher.hasInterest()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should deliver each subscription its share of an async batch in publish order")
+        void testAsyncBatchesPerSubscription() throws Exception {
+            try (ReconciliationEventPublisher publisher = ReconciliationEventPublisher.async(1024, OverflowPolicy.BLOCK, 64, 1)) {
+                List<ReconciliationEvent> namespaceA = new CopyOnWriteArrayList<>();
+                List<ReconciliationEvent> namespaceB = new CopyOnWriteArrayList<>();
+                publisher.subscribe(ReconciliationEventFilter.builder().namespace("a").build(), namespaceA::add);
+                publisher.subscribe(ReconciliationEventFilter.builder().namespace("b").build(), namespaceB::add);
+
+                for (int i = 0; i < 50; i++) {
+                    publisher.publish(event(CRDKind.TOPIC, i % 2 == 0 ? "a" : "b", ReconciliationEvent.Phase.BEFORE, null));
+                }
+
+                assertThat(publisher.flush(5, TimeUnit.SECONDS)).isTrue();
+                assertThat(namespaceA).hasSize(25).allMatch(e -> e.getResourceNamespace().equals("a"));
+                assertThat(namespaceB).hasSize(25).allMatch(e -> e.getResourceNamespace().equals("b"));
+            }
+        }
+    }
 }
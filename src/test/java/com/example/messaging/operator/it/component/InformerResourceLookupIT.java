@@ -0,0 +1,96 @@
+package com.example.messaging.operator.it.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.example.messaging.operator.crd.*;
+import com.example.messaging.operator.it.base.KubernetesITBase;
+import com.example.messaging.operator.it.base.TestDataBuilder;
+import com.example.messaging.operator.validation.InformerResourceLookup;
+import com.example.messaging.operator.validation.OwnershipValidator;
+import com.example.messaging.operator.validation.ValidationResult;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Component integration tests for InformerResourceLookup with Kubernetes mock server. Lookups are answered from informer caches once synced.
+ */
+public class InformerResourceLookupIT extends KubernetesITBase {
+
+    private InformerResourceLookup lookup;
+
+    @AfterEach
+    void stopInformers() {
+        if (lookup != null) {
+            lookup.close();
+        }
+    }
+
+    @Test
+    void testLookupServesResourcesFromCacheAfterSync() {
+        TestDataBuilder.applicationService().namespace("default").name("test-app").appName("test-app").createIn(k8sClient);
+        TestDataBuilder.kafkaCluster()
+                .namespace("default")
+                .name("test-cluster")
+                .clusterId("test-cluster-id")
+                .applicationServiceRef("test-app")
+                .createIn(k8sClient);
+
+        lookup = new InformerResourceLookup(k8sClient);
+        lookup.start();
+
+        assertThat(lookup.waitForSync(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(lookup.getApplicationService("default", "test-app")).isNotNull();
+        assertThat(lookup.getKafkaCluster("default", "test-cluster").getSpec().getClusterId()).isEqualTo("test-cluster-id");
+        assertThat(lookup.getKafkaCluster("other", "test-cluster")).isNull();
+        assertThat(lookup.getServiceAccount("default", "missing")).isNull();
+    }
+
+    @Test
+    void testLookupObservesResourcesCreatedAfterSync() {
+        lookup = new InformerResourceLookup(k8sClient);
+        lookup.start();
+        assertThat(lookup.waitForSync(10, TimeUnit.SECONDS)).isTrue();
+
+        TestDataBuilder.applicationService().namespace("default").name("late-app").appName("late-app").createIn(k8sClient);
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertThat(lookup.getApplicationService("default", "late-app")).isNotNull());
+    }
+
+    @Test
+    void testOwnershipValidationUsesInformerCache() {
+        TestDataBuilder.applicationService().namespace("default").name("test-app").appName("test-app").createIn(k8sClient);
+        TestDataBuilder.kafkaCluster()
+                .namespace("default")
+                .name("test-cluster")
+                .clusterId("test-cluster-id")
+                .applicationServiceRef("test-app")
+                .createIn(k8sClient);
+        TestDataBuilder.serviceAccount()
+                .namespace("default")
+                .name("test-sa")
+                .saName("test-sa")
+                .clusterRef("test-cluster")
+                .applicationServiceRef("test-app")
+                .createIn(k8sClient);
+
+        lookup = new InformerResourceLookup(k8sClient);
+        lookup.start();
+        assertThat(lookup.waitForSync(10, TimeUnit.SECONDS)).isTrue();
+
+        OwnershipValidator validator = new OwnershipValidator(lookup);
+        Topic topic = TestDataBuilder.topic()
+                .namespace("default")
+                .name("test-topic")
+                .topicName("test-topic")
+                .serviceRef("test-sa")
+                .applicationServiceRef("test-app")
+                .build();
+
+        ValidationResult result = validator.validateCreate(topic, "default");
+
+        assertThat(result.isValid()).isTrue();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.messaging.operator.it.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.example.messaging.operator.it.base.KubernetesITBase;
+import com.example.messaging.operator.reconciliation.LeaderElection;
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Component integration tests for Lease-based reconciliation leader election against the Kubernetes mock server.
+ */
+public class LeaderElectionIT extends KubernetesITBase {
+
+    private static final String NAMESPACE = "operator-system";
+    private static final String LEASE = "test-reconciler";
+
+    private LeaderElection first;
+    private LeaderElection second;
+
+    @AfterEach
+    void leaveElection() {
+        if (first != null) {
+            first.close();
+        }
+        if (second != null) {
+            second.close();
+        }
+        k8sClient.resources(Lease.class).inNamespace(NAMESPACE).delete();
+    }
+
+    @Test
+    void testOnlyOneReplicaLeads() {
+        AtomicInteger leading = new AtomicInteger();
+        first = election("replica-a", leading);
+        second = election("replica-b", leading);
+
+        first.start();
+        second.start();
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> first.isLeader() || second.isLeader());
+        await().during(Duration.ofSeconds(2)).atMost(Duration.ofSeconds(4)).until(() -> leading.get() == 1);
+        assertThat(first.isLeader() && second.isLeader()).isFalse();
+
+        Lease lease = k8sClient.resources(Lease.class).inNamespace(NAMESPACE).withName(LEASE).get();
+        String leader = first.isLeader() ? "replica-a" : "replica-b";
+        assertThat(lease.getSpec().getHolderIdentity()).isEqualTo(leader);
+    }
+
+    @Test
+    void testStandbyTakesOverWhenLeaderLeaves() {
+        AtomicInteger leading = new AtomicInteger();
+        first = election("replica-a", leading);
+        first.start();
+        await().atMost(Duration.ofSeconds(10)).until(first::isLeader);
+
+        second = election("replica-b", leading);
+        second.start();
+
+        first.close();
+
+        await().atMost(Duration.ofSeconds(10)).until(second::isLeader);
+        assertThat(second.getCurrentLeader()).isEqualTo("replica-b");
+    }
+
+    private LeaderElection election(String identity, AtomicInteger leading) {
+        return new LeaderElection(k8sClient, NAMESPACE, LEASE, identity,
+                Duration.ofSeconds(2), Duration.ofMillis(1500), Duration.ofMillis(200),
+                leading::incrementAndGet, leading::decrementAndGet);
+    }
+}
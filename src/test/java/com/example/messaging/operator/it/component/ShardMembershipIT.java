@@ -0,0 +1,77 @@
+package com.example.messaging.operator.it.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.example.messaging.operator.it.base.KubernetesITBase;
+import com.example.messaging.operator.reconciliation.ConsistentHashRing;
+import com.example.messaging.operator.reconciliation.ShardMembership;
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Component integration tests for Lease-based reconcile shard membership against the Kubernetes mock server.
+ */
+public class ShardMembershipIT extends KubernetesITBase {
+
+    private static final String NAMESPACE = "operator-system";
+
+    private final List<ShardMembership> members = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void leaveRing() {
+        members.forEach(ShardMembership::close);
+        k8sClient.resources(Lease.class).inNamespace(NAMESPACE).delete();
+    }
+
+    @Test
+    void testMembersConvergeOnTheSameRing() {
+        ShardMembership a = join("pod-a", new CopyOnWriteArrayList<>());
+        ShardMembership b = join("pod-b", new CopyOnWriteArrayList<>());
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> a.getRing().getMembers().equals(Set.of("pod-a", "pod-b"))
+                && b.getRing().getMembers().equals(Set.of("pod-a", "pod-b")));
+
+        // Every namespace is owned by exactly one member
+        IntStream.range(0, 100).mapToObj(i -> "tenant-" + i)
+                .forEach(namespace -> assertThat(a.owns(namespace) ^ b.owns(namespace)).isTrue());
+    }
+
+    @Test
+    void testStartAppliesTheFirstRingBeforeReturning() {
+        List<ConsistentHashRing> rebalances = new CopyOnWriteArrayList<>();
+
+        ShardMembership a = join("pod-a", rebalances);
+
+        assertThat(rebalances).hasSize(1);
+        assertThat(a.owns("tenant-1")).isTrue();
+    }
+
+    @Test
+    void testLeavingMemberTriggersRebalance() {
+        List<ConsistentHashRing> rebalances = new CopyOnWriteArrayList<>();
+        ShardMembership a = join("pod-a", rebalances);
+        ShardMembership b = join("pod-b", new CopyOnWriteArrayList<>());
+        await().atMost(Duration.ofSeconds(10)).until(() -> a.getRing().getMembers().size() == 2);
+
+        b.close();
+        members.remove(b);
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> a.getRing().getMembers().equals(Set.of("pod-a")));
+        assertThat(a.owns("tenant-1")).isTrue();
+        assertThat(rebalances.get(rebalances.size() - 1).getMembers()).containsExactly("pod-a");
+    }
+
+    private ShardMembership join(String identity, List<ConsistentHashRing> rebalances) {
+        ShardMembership membership = new ShardMembership(k8sClient, NAMESPACE, identity, Duration.ofSeconds(3), Duration.ofMillis(200), rebalances::add);
+        members.add(membership);
+        membership.start();
+        return membership;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.messaging.operator.reconciliation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for namespace-to-replica assignment on the consistent-hash ring.
+ */
+@DisplayName("ConsistentHashRing Tests")
+class ConsistentHashRingTest {
+
+    private static final List<String> NAMESPACES = IntStream.range(0, 600).mapToObj(i -> "tenant-" + i).toList();
+
+    @Test
+    @DisplayName("should own nothing when the ring is empty")
+    void testEmptyRing() {
+        ConsistentHashRing ring = new ConsistentHashRing(Set.of());
+
+        assertThat(ring.isEmpty()).isTrue();
+        assertThat(ring.ownerOf("tenant-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("should assign the same owner regardless of member order")
+    void testDeterministicAssignment() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("pod-a", "pod-b", "pod-c"));
+        ConsistentHashRing reordered = new ConsistentHashRing(List.of("pod-c", "pod-a", "pod-b"));
+
+        NAMESPACES.forEach(namespace -> assertThat(reordered.ownerOf(namespace)).isEqualTo(ring.ownerOf(namespace)));
+    }
+
+    @Test
+    @DisplayName("should spread namespaces roughly evenly across members")
+    void testBalancedDistribution() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("pod-a", "pod-b", "pod-c"));
+
+        Map<String, Integer> counts = new HashMap<>();
+        NAMESPACES.forEach(namespace -> counts.merge(ring.ownerOf(namespace), 1, Integer::sum));
+
+        assertThat(counts).hasSize(3);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(120, 280));
+    }
+
+    @Test
+    @DisplayName("should only move namespaces to a joining member")
+    void testMinimalMovementOnJoin() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("pod-a", "pod-b", "pod-c"));
+        ConsistentHashRing after = new ConsistentHashRing(List.of("pod-a", "pod-b", "pod-c", "pod-d"));
+
+        long moved = NAMESPACES.stream().filter(namespace -> !before.ownerOf(namespace).equals(after.ownerOf(namespace))).count();
+
+        NAMESPACES.stream()
+                .filter(namespace -> !before.ownerOf(namespace).equals(after.ownerOf(namespace)))
+                .forEach(namespace -> assertThat(after.ownerOf(namespace)).isEqualTo("pod-d"));
+        assertThat(moved).isBetween(75L, 230L);
+    }
+
+    @Test
+    @DisplayName("should only move a leaving member's namespaces")
+    void testMinimalMovementOnLeave() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("pod-a", "pod-b", "pod-c"));
+        ConsistentHashRing after = new ConsistentHashRing(List.of("pod-a", "pod-c"));
+
+        NAMESPACES.stream()
+                .filter(namespace -> !before.ownerOf(namespace).equals("pod-b"))
+                .forEach(namespace -> assertThat(after.ownerOf(namespace)).isEqualTo(before.ownerOf(namespace)));
+    }
+}
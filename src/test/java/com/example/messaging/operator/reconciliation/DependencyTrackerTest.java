@@ -0,0 +1,132 @@
+package com.example.messaging.operator.reconciliation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.example.messaging.operator.crd.ACL;
+import com.example.messaging.operator.crd.AclCRSpec;
+import com.example.messaging.operator.crd.KafkaCluster;
+import com.example.messaging.operator.crd.ServiceAccount;
+import com.example.messaging.operator.crd.ServiceAccountSpec;
+import com.example.messaging.operator.crd.Topic;
+import com.example.messaging.operator.crd.TopicCRSpec;
+import com.example.messaging.operator.store.CRDKind;
+import com.example.messaging.operator.store.ResourceKey;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for dependency-ordered reconciliation along the ownership chain.
+ */
+@DisplayName("DependencyTracker Tests")
+class DependencyTrackerTest {
+
+    private static final String NAMESPACE = "tenant-a";
+    private static final ResourceKey CLUSTER = ResourceKey.of(CRDKind.KAFKA_CLUSTER, NAMESPACE, "cluster");
+    private static final ResourceKey SERVICE_ACCOUNT = ResourceKey.of(CRDKind.SERVICE_ACCOUNT, NAMESPACE, "sa");
+    private static final ResourceKey TOPIC = ResourceKey.of(CRDKind.TOPIC, NAMESPACE, "orders");
+
+    private final DependencyTracker tracker = new DependencyTracker();
+
+    @Nested
+    @DisplayName("Parent Resolution")
+    class ParentResolutionTests {
+
+        @Test
+        @DisplayName("should follow the ownership chain references")
+        void testParentsOf() {
+            ServiceAccount sa = withMetadata(new ServiceAccount(), "sa");
+            sa.setSpec(new ServiceAccountSpec());
+            sa.getSpec().setClusterRef("cluster");
+
+            Topic topic = withMetadata(new Topic(), "orders");
+            topic.setSpec(new TopicCRSpec());
+            topic.getSpec().setServiceRef("sa");
+
+            assertThat(DependencyTracker.parentsOf(withMetadata(new KafkaCluster(), "cluster"))).isEmpty();
+            assertThat(DependencyTracker.parentsOf(sa)).containsExactly(CLUSTER);
+            assertThat(DependencyTracker.parentsOf(topic)).containsExactly(SERVICE_ACCOUNT);
+        }
+
+        @Test
+        @DisplayName("should include only the references an ACL actually sets")
+        void testAclParents() {
+            ACL acl = withMetadata(new ACL(), "acl");
+            acl.setSpec(new AclCRSpec());
+            acl.getSpec().setServiceRef("sa");
+            acl.getSpec().setTopicRef("orders");
+
+            assertThat(DependencyTracker.parentsOf(acl)).containsExactly(SERVICE_ACCOUNT, TOPIC);
+        }
+    }
+
+    @Nested
+    @DisplayName("Parking and Release")
+    class ParkingTests {
+
+        @Test
+        @DisplayName("should park a dependent until its parent is applied")
+        void testParkUntilParentApplied() {
+            assertThat(tracker.parkIfBlocked(TOPIC, List.of(SERVICE_ACCOUNT))).isTrue();
+            assertThat(tracker.parkedCount()).isEqualTo(1);
+
+            assertThat(tracker.markApplied(SERVICE_ACCOUNT)).containsExactly(TOPIC);
+            assertThat(tracker.parkedCount()).isZero();
+            assertThat(tracker.parkIfBlocked(TOPIC, List.of(SERVICE_ACCOUNT))).isFalse();
+        }
+
+        @Test
+        @DisplayName("should release the whole chain level by level")
+        void testChainRelease() {
+            tracker.parkIfBlocked(SERVICE_ACCOUNT, List.of(CLUSTER));
+            tracker.parkIfBlocked(TOPIC, List.of(SERVICE_ACCOUNT));
+
+            assertThat(tracker.markApplied(CLUSTER)).containsExactly(SERVICE_ACCOUNT);
+            assertThat(tracker.parkIfBlocked(SERVICE_ACCOUNT, List.of(CLUSTER))).isFalse();
+            assertThat(tracker.markApplied(SERVICE_ACCOUNT)).containsExactly(TOPIC);
+        }
+
+        @Test
+        @DisplayName("should not block resources without parents or in other branches")
+        void testIndependentBranches() {
+            ResourceKey otherTopic = ResourceKey.of(CRDKind.TOPIC, "tenant-b", "orders");
+            ResourceKey otherSa = ResourceKey.of(CRDKind.SERVICE_ACCOUNT, "tenant-b", "sa");
+
+            assertThat(tracker.parkIfBlocked(CLUSTER, List.of())).isFalse();
+            tracker.parkIfBlocked(TOPIC, List.of(SERVICE_ACCOUNT));
+
+            assertThat(tracker.markApplied(otherSa)).isEmpty();
+            assertThat(tracker.parkIfBlocked(otherTopic, List.of(otherSa))).isFalse();
+        }
+
+        @Test
+        @DisplayName("should block dependents again after the parent is removed")
+        void testParentRemoved() {
+            tracker.markApplied(SERVICE_ACCOUNT);
+            tracker.markRemoved(SERVICE_ACCOUNT);
+
+            assertThat(tracker.isApplied(SERVICE_ACCOUNT)).isFalse();
+            assertThat(tracker.parkIfBlocked(TOPIC, List.of(SERVICE_ACCOUNT))).isTrue();
+        }
+
+        @Test
+        @DisplayName("should unpark a dependent that is removed while waiting")
+        void testParkedDependentRemoved() {
+            tracker.parkIfBlocked(TOPIC, List.of(SERVICE_ACCOUNT));
+            tracker.parkIfBlocked(SERVICE_ACCOUNT, List.of(CLUSTER));
+
+            tracker.markRemoved(TOPIC);
+
+            assertThat(tracker.parkedCount()).isEqualTo(1);
+            assertThat(tracker.markApplied(SERVICE_ACCOUNT)).isEmpty();
+        }
+    }
+
+    private static <T extends HasMetadata> T withMetadata(T resource, String name) {
+        resource.setMetadata(new ObjectMetaBuilder().withName(name).withNamespace(NAMESPACE).build());
+        return resource;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.messaging.operator.reconciliation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.example.messaging.operator.crd.Topic;
+import com.example.messaging.operator.store.CRDKind;
+import com.example.messaging.operator.store.ResourceKey;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the no-op reconcile short-circuits: desired-state fingerprints and generation-based status-only detection.
+ */
+@DisplayName("Reconcile Fingerprint Tests")
+class FingerprintCacheTest {
+
+    private static final ResourceKey TOPIC_KEY = ResourceKey.of(CRDKind.TOPIC, "default", "orders");
+
+    @Nested
+    @DisplayName("Fingerprint Cache")
+    class CacheTests {
+
+        private final FingerprintCache cache = new FingerprintCache();
+
+        @Test
+        @DisplayName("should produce stable digests for identical desired state")
+        void testStableDigest() {
+            String yaml = "kind: Topic\nmetadata:\n  name: orders\n";
+
+            assertThat(FingerprintCache.digest(yaml)).isEqualTo(FingerprintCache.digest(yaml)).hasSize(64);
+            assertThat(FingerprintCache.digest(yaml)).isNotEqualTo(FingerprintCache.digest(yaml + "spec: {}\n"));
+        }
+
+        @Test
+        @DisplayName("should match only the last recorded fingerprint")
+        void testMatchesLastRecorded() {
+            String first = FingerprintCache.digest("partitions: 3");
+            String second = FingerprintCache.digest("partitions: 6");
+
+            assertThat(cache.matches(TOPIC_KEY, first)).isFalse();
+
+            cache.record(TOPIC_KEY, first);
+            assertThat(cache.matches(TOPIC_KEY, first)).isTrue();
+            assertThat(cache.matches(TOPIC_KEY, second)).isFalse();
+
+            cache.record(TOPIC_KEY, second);
+            assertThat(cache.matches(TOPIC_KEY, first)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should forget fingerprints so the next reconcile applies")
+        void testForget() {
+            String fingerprint = FingerprintCache.digest("partitions: 3");
+            cache.record(TOPIC_KEY, fingerprint);
+
+            cache.forget(TOPIC_KEY);
+
+            assertThat(cache.matches(TOPIC_KEY, fingerprint)).isFalse();
+            assertThat(cache.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Status-only Changes")
+    class StatusOnlyTests {
+
+        @Test
+        @DisplayName("should ignore updates that keep the generation but change resourceVersion")
+        void testStatusOnlyChange() {
+            assertThat(ReconciliationController.isStatusOnlyChange(topic(1L, "10"), topic(1L, "11"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("should reconcile spec changes that bump the generation")
+        void testSpecChange() {
+            assertThat(ReconciliationController.isStatusOnlyChange(topic(1L, "10"), topic(2L, "11"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("should pass resyncs through to the fingerprint check")
+        void testResync() {
+            assertThat(ReconciliationController.isStatusOnlyChange(topic(1L, "10"), topic(1L, "10"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("should reconcile when generation is not tracked")
+        void testMissingGeneration() {
+            assertThat(ReconciliationController.isStatusOnlyChange(topic(null, "10"), topic(null, "11"))).isFalse();
+        }
+
+        private Topic topic(Long generation, String resourceVersion) {
+            Topic topic = new Topic();
+            topic.setMetadata(new ObjectMetaBuilder()
+                    .withName("orders")
+                    .withNamespace("default")
+                    .withGeneration(generation)
+                    .withResourceVersion(resourceVersion)
+                    .build());
+            return topic;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.messaging.operator.reconciliation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+import com.example.messaging.operator.conduktor.cli.CliResult;
+import com.example.messaging.operator.conduktor.model.ConduktorResource;
+import com.example.messaging.operator.conduktor.transformer.KafkaClusterTransformer;
+import com.example.messaging.operator.conduktor.yaml.ConduktorYamlWriter;
+import com.example.messaging.operator.crd.ACL;
+import com.example.messaging.operator.crd.ApplicationService;
+import com.example.messaging.operator.crd.ConsumerGroup;
+import com.example.messaging.operator.crd.GatewayPolicy;
+import com.example.messaging.operator.crd.KafkaCluster;
+import com.example.messaging.operator.crd.Scope;
+import com.example.messaging.operator.it.base.TestDataBuilder;
+import com.example.messaging.operator.store.CRDKind;
+import com.example.messaging.operator.store.CRDStore;
+import com.example.messaging.operator.store.ResourceKey;
+import com.example.messaging.operator.validation.InformerResourceLookup;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the informer-driven reconcile loop against a CRUD mock API server, with an apply backend that records what it is given.
+ */
+@DisplayName("ReconciliationController Tests")
+class ReconciliationControllerTest {
+
+    private static final String NAMESPACE = "default";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final ResourceKey CLUSTER = ResourceKey.of(CRDKind.KAFKA_CLUSTER, NAMESPACE, "cluster");
+
+    private final List<ConduktorResource<?>> applied = new CopyOnWriteArrayList<>();
+    private KubernetesServer server;
+    private KubernetesClient client;
+    private CRDStore store;
+    private InformerResourceLookup lookup;
+    private ReconciliationController controller;
+
+    @BeforeEach
+    void setUp() {
+        server = new KubernetesServer(false, true);
+        server.before();
+        client = server.getClient();
+        store = new CRDStore();
+        lookup = new InformerResourceLookup(client);
+        controller = new ReconciliationController(lookup, store, 2, resource -> {
+            applied.add(resource);
+            return new CliResult(0, "", "");
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        controller.close();
+        lookup.close();
+        server.after();
+    }
+
+    private void startSynced() {
+        controller.startInformers();
+        assertThat(controller.waitForSync(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private List<String> appliedNames() {
+        return applied.stream().map(resource -> resource.getMetadata().getName()).toList();
+    }
+
+    private static ResourceKey key(CRDKind kind, String name) {
+        return ResourceKey.of(kind, NAMESPACE, name);
+    }
+
+    private void createClusterAndServiceAccount() {
+        TestDataBuilder.kafkaCluster().namespace(NAMESPACE).name("cluster").clusterId("cluster-id").createIn(client);
+        TestDataBuilder.serviceAccount().namespace(NAMESPACE).name("sa").clusterRef("cluster").createIn(client);
+    }
+
+    @Nested
+    @DisplayName("Worker Lifecycle")
+    class WorkerLifecycleTests {
+
+        @Test
+        @DisplayName("should keep reconciling after workers are stopped and restarted many times")
+        void testRestartAfterRepeatedStops() throws InterruptedException {
+            startSynced();
+            // Each leadership loss stops idle workers; more cycles than there are apply slots
+            for (int i = 0; i < 60; i++) {
+                controller.startWorkers();
+                Thread.sleep(5);
+                controller.stopWorkers();
+            }
+            controller.startWorkers();
+
+            TestDataBuilder.kafkaCluster().namespace(NAMESPACE).name("cluster").clusterId("cluster-id").createIn(client);
+
+            await().atMost(TIMEOUT).untilAsserted(() -> assertThat(appliedNames()).contains("cluster-id"));
+            controller.stopWorkers();
+            assertThat(controller.isReconciling()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Gateway Policies")
+    class GatewayPolicyTests {
+
+        @Test
+        @DisplayName("should park a policy until its scope is resolved, then apply it as an interceptor")
+        void testPolicyWaitsForScope() {
+            startSynced();
+            controller.startWorkers();
+            TestDataBuilder.gatewayPolicy().namespace(NAMESPACE).name("policy").scopeRef("scope").createIn(client);
+            createClusterAndServiceAccount();
+            await().atMost(TIMEOUT).untilAsserted(() -> assertThat(appliedNames()).contains("cluster-id", "sa"));
+
+            assertThat(controller.isApplied(key(CRDKind.GATEWAY_POLICY, "policy"))).isFalse();
+            assertThat(appliedNames()).doesNotContain("default--policy");
+
+            TestDataBuilder.scope().namespace(NAMESPACE).name("scope").clusterRef("cluster").serviceAccountRef("sa").createIn(client);
+
+            await().atMost(TIMEOUT).untilAsserted(() -> assertThat(appliedNames()).contains("default--policy"));
+            assertThat(controller.isApplied(key(CRDKind.GATEWAY_POLICY, "policy"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("should evict a deleted policy and forget that it was applied")
+        void testPolicyDelete() {
+            startSynced();
+            controller.startWorkers();
+            createClusterAndServiceAccount();
+            TestDataBuilder.scope().namespace(NAMESPACE).name("scope").clusterRef("cluster").createIn(client);
+            GatewayPolicy policy = TestDataBuilder.gatewayPolicy().namespace(NAMESPACE).name("policy").scopeRef("scope").createIn(client);
+            await().atMost(TIMEOUT).untilAsserted(() -> assertThat(appliedNames()).contains("default--policy"));
+
+            client.resource(policy).delete();
+
+            await().atMost(TIMEOUT).untilAsserted(() -> assertThat(controller.isApplied(key(CRDKind.GATEWAY_POLICY, "policy"))).isFalse());
+            assertThat(appliedNames()).containsOnlyOnce("default--policy");
+        }
+    }
+
+    @Nested
+    @DisplayName("Reference Kinds")
+    class ReferenceKindTests {
+
+        @Test
+        @DisplayName("should resolve reference kinds without applying them, mirroring only what transformers look up")
+        void testReferenceKindsResolve() {
+            startSynced();
+            controller.startWorkers();
+            TestDataBuilder.applicationService().namespace(NAMESPACE).name("app").createIn(client);
+            createClusterAndServiceAccount();
+            TestDataBuilder.topic().namespace(NAMESPACE).name("topic").serviceRef("sa").topicName("orders").createIn(client);
+            TestDataBuilder.consumerGroup().namespace(NAMESPACE).name("group").serviceRef("sa").createIn(client);
+            TestDataBuilder.acl().namespace(NAMESPACE).name("acl").serviceRef("sa").topicRef("topic").consumerGroupRef("group").createIn(client);
+            TestDataBuilder.scope().namespace(NAMESPACE).name("scope").clusterRef("cluster").serviceAccountRef("sa").createIn(client);
+
+            await().atMost(TIMEOUT).untilAsserted(() -> assertThat(List.of(
+                    key(CRDKind.APPLICATION_SERVICE, "app"),
+                    key(CRDKind.CONSUMER_GROUP, "group"),
+                    key(CRDKind.ACL, "acl"),
+                    key(CRDKind.SCOPE, "scope"))).allMatch(controller::isApplied));
+
+            assertThat(store.<Scope> get(CRDKind.SCOPE, NAMESPACE, "scope")).isNotNull();
+            assertThat(store.<ApplicationService> get(CRDKind.APPLICATION_SERVICE, NAMESPACE, "app")).isNull();
+            assertThat(store.<ConsumerGroup> get(CRDKind.CONSUMER_GROUP, NAMESPACE, "group")).isNull();
+            assertThat(store.<ACL> get(CRDKind.ACL, NAMESPACE, "acl")).isNull();
+            assertThat(appliedNames()).containsExactlyInAnyOrder("cluster-id", "sa", "orders");
+        }
+
+        @Test
+        @DisplayName("should park reference kinds until every parent they name is applied")
+        void testReferenceKindsWaitForParents() {
+            startSynced();
+            controller.startWorkers();
+            TestDataBuilder.consumerGroup().namespace(NAMESPACE).name("group").serviceRef("sa").createIn(client);
+            TestDataBuilder.acl().namespace(NAMESPACE).name("acl").serviceRef("sa").topicRef("topic").consumerGroupRef("group").createIn(client);
+            TestDataBuilder.scope().namespace(NAMESPACE).name("scope").clusterRef("cluster").serviceAccountRef("sa").createIn(client);
+            TestDataBuilder.kafkaCluster().namespace(NAMESPACE).name("cluster").clusterId("cluster-id").createIn(client);
+            await().atMost(TIMEOUT).untilAsserted(() -> assertThat(appliedNames()).contains("cluster-id"));
+
+            assertThat(controller.isApplied(key(CRDKind.CONSUMER_GROUP, "group"))).isFalse();
+            assertThat(controller.isApplied(key(CRDKind.ACL, "acl"))).isFalse();
+            assertThat(controller.isApplied(key(CRDKind.SCOPE, "scope"))).isFalse();
+
+            TestDataBuilder.serviceAccount().namespace(NAMESPACE).name("sa").clusterRef("cluster").createIn(client);
+            await().atMost(TIMEOUT).untilAsserted(() -> {
+                assertThat(controller.isApplied(key(CRDKind.CONSUMER_GROUP, "group"))).isTrue();
+                assertThat(controller.isApplied(key(CRDKind.SCOPE, "scope"))).isTrue();
+            });
+            assertThat(controller.isApplied(key(CRDKind.ACL, "acl"))).isFalse();
+
+            TestDataBuilder.topic().namespace(NAMESPACE).name("topic").serviceRef("sa").topicName("orders").createIn(client);
+            await().atMost(TIMEOUT).untilAsserted(() -> assertThat(controller.isApplied(key(CRDKind.ACL, "acl"))).isTrue());
+        }
+
+        @Test
+        @DisplayName("should evict deleted reference kinds and forget that they were applied")
+        void testReferenceKindsDelete() {
+            startSynced();
+            controller.startWorkers();
+            ApplicationService app = TestDataBuilder.applicationService().namespace(NAMESPACE).name("app").createIn(client);
+            createClusterAndServiceAccount();
+            ConsumerGroup group = TestDataBuilder.consumerGroup().namespace(NAMESPACE).name("group").serviceRef("sa").createIn(client);
+            ACL acl = TestDataBuilder.acl().namespace(NAMESPACE).name("acl").serviceRef("sa").consumerGroupRef("group").createIn(client);
+            Scope scope = TestDataBuilder.scope().namespace(NAMESPACE).name("scope").clusterRef("cluster").createIn(client);
+            List<ResourceKey> keys = List.of(
+                    key(CRDKind.APPLICATION_SERVICE, "app"),
+                    key(CRDKind.CONSUMER_GROUP, "group"),
+                    key(CRDKind.ACL, "acl"),
+                    key(CRDKind.SCOPE, "scope"));
+            await().atMost(TIMEOUT).untilAsserted(() -> assertThat(keys).allMatch(controller::isApplied));
+
+            client.resource(acl).delete();
+            client.resource(group).delete();
+            client.resource(scope).delete();
+            client.resource(app).delete();
+
+            await().atMost(TIMEOUT).untilAsserted(() -> {
+                assertThat(keys).noneMatch(controller::isApplied);
+                assertThat(keys).allMatch(k -> store.get(k.kind(), k.namespace(), k.name()) == null);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Sharding")
+    class ShardingTests {
+
+        @Test
+        @DisplayName("should keep warm-start state of keys dequeued before the first ring")
+        void testUnownedKeysKeepState() {
+            KafkaCluster cluster = TestDataBuilder.kafkaCluster().namespace(NAMESPACE).name("cluster").clusterId("cluster-id").createIn(client);
+            String fingerprint = FingerprintCache.digest(new ConduktorYamlWriter().toYaml(new KafkaClusterTransformer().transform(cluster)));
+            WarmStartSnapshot snapshot = WarmStartSnapshot.of(Map.of(CRDKind.KAFKA_CLUSTER, List.of(cluster)), Map.of(CLUSTER, fingerprint));
+            lookup.warmStart(snapshot);
+            controller.warmStart(snapshot);
+            controller.reshard(namespace -> false);
+            startSynced();
+
+            assertThat(controller.reconcile(CLUSTER).toCompletableFuture().join()).isTrue();
+            controller.reshard(namespace -> true);
+            assertThat(controller.reconcile(CLUSTER).toCompletableFuture().join()).isTrue();
+
+            assertThat(applied).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should forget state of namespaces handed to another replica")
+        void testHandOffForgetsState() {
+            startSynced();
+            controller.startWorkers();
+            TestDataBuilder.kafkaCluster().namespace(NAMESPACE).name("cluster").clusterId("cluster-id").createIn(client);
+            await().atMost(TIMEOUT).untilAsserted(() -> assertThat(appliedNames()).containsExactly("cluster-id"));
+
+            controller.reshard(namespace -> false);
+            controller.reshard(namespace -> true);
+
+            await().atMost(TIMEOUT).untilAsserted(() -> assertThat(appliedNames()).containsExactly("cluster-id", "cluster-id"));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.messaging.operator.reconciliation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.example.messaging.operator.crd.ServiceAccount;
+import com.example.messaging.operator.crd.ServiceAccountSpec;
+import com.example.messaging.operator.crd.Topic;
+import com.example.messaging.operator.crd.TopicCRSpec;
+import com.example.messaging.operator.store.CRDKind;
+import com.example.messaging.operator.store.ResourceKey;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for persisting informer caches and applied fingerprints across operator restarts.
+ */
+@DisplayName("Warm-start Snapshot Tests")
+class WarmStartSnapshotTest {
+
+    private static final ResourceKey TOPIC_KEY = ResourceKey.of(CRDKind.TOPIC, "default", "orders");
+
+    @TempDir
+    Path dir;
+
+    @Nested
+    @DisplayName("Snapshot File")
+    class FileTests {
+
+        @Test
+        @DisplayName("should round-trip cached resources and fingerprints")
+        void testRoundTrip() {
+            String fingerprint = FingerprintCache.digest("partitions: 3");
+            WarmStartSnapshot written = WarmStartSnapshot.of(
+                    Map.of(CRDKind.TOPIC, List.of(topic("orders", "42")), CRDKind.SERVICE_ACCOUNT, List.of(serviceAccount("orders-sa", "7"))),
+                    Map.of(TOPIC_KEY, fingerprint));
+            Path file = dir.resolve("warm-start.json.gz");
+
+            written.write(file);
+            WarmStartSnapshot read = WarmStartSnapshot.read(file).orElseThrow();
+
+            assertThat(read.getTakenAt()).isEqualTo(written.getTakenAt());
+            assertThat(read.size()).isEqualTo(2);
+            assertThat(read.fingerprints()).containsExactly(Map.entry(TOPIC_KEY, fingerprint));
+            Topic topic = read.<Topic>resources(CRDKind.TOPIC).get(0);
+            assertThat(topic.getMetadata().getResourceVersion()).isEqualTo("42");
+            assertThat(topic.getSpec().getPartitions()).isEqualTo(3);
+            ServiceAccount sa = read.<ServiceAccount>resources(CRDKind.SERVICE_ACCOUNT).get(0);
+            assertThat(sa.getSpec().getName()).isEqualTo("orders-sa");
+            assertThat(read.resources(CRDKind.ACL)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should replace the previous snapshot without leaving a temporary file")
+        void testReplace() throws Exception {
+            Path file = dir.resolve("warm-start.json.gz");
+            WarmStartSnapshot.of(Map.of(CRDKind.TOPIC, List.of(topic("orders", "1"))), Map.of()).write(file);
+
+            WarmStartSnapshot.of(Map.of(CRDKind.TOPIC, List.of(topic("orders", "2"), topic("payments", "3"))), Map.of()).write(file);
+
+            assertThat(WarmStartSnapshot.read(file).orElseThrow().size()).isEqualTo(2);
+            try (var files = Files.list(dir)) {
+                assertThat(files).containsExactly(file);
+            }
+        }
+
+        @Test
+        @DisplayName("should start cold when the snapshot is missing or unreadable")
+        void testMissingOrCorrupt() throws Exception {
+            Path file = dir.resolve("warm-start.json.gz");
+            assertThat(WarmStartSnapshot.read(file)).isEmpty();
+
+            Files.write(file, new byte[] { 1, 2, 3 });
+            assertThat(WarmStartSnapshot.read(file)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshotter")
+    class SnapshotterTests {
+
+        @Test
+        @DisplayName("should skip rounds until the caches are synced and write on close")
+        void testSkipUntilSynced() {
+            Path file = dir.resolve("warm-start.json.gz");
+            AtomicReference<WarmStartSnapshot> capture = new AtomicReference<>();
+            WarmStartSnapshotter snapshotter = new WarmStartSnapshotter(file, Duration.ofHours(1), capture::get);
+
+            assertThat(snapshotter.writeNow()).isFalse();
+            assertThat(file).doesNotExist();
+
+            capture.set(WarmStartSnapshot.of(Map.of(CRDKind.TOPIC, List.of(topic("orders", "1"))), Map.of()));
+            snapshotter.close();
+
+            assertThat(WarmStartSnapshot.read(file)).hasValueSatisfying(snapshot -> assertThat(snapshot.size()).isEqualTo(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Fingerprint Restore")
+    class RestoreTests {
+
+        @Test
+        @DisplayName("should match restored fingerprints without a new apply")
+        void testRestore() {
+            String fingerprint = FingerprintCache.digest("partitions: 3");
+            FingerprintCache before = new FingerprintCache();
+            before.record(TOPIC_KEY, fingerprint);
+
+            FingerprintCache after = new FingerprintCache();
+            after.restore(before.snapshot());
+
+            assertThat(after.matches(TOPIC_KEY, fingerprint)).isTrue();
+            assertThat(after.size()).isEqualTo(1);
+        }
+    }
+
+    private static Topic topic(String name, String resourceVersion) {
+        Topic topic = new Topic();
+        topic.setMetadata(new ObjectMetaBuilder().withName(name).withNamespace("default").withResourceVersion(resourceVersion).build());
+        topic.setSpec(TopicCRSpec.builder().serviceRef("orders-sa").name(name).partitions(3).replicationFactor(3).config(Map.of()).build());
+        return topic;
+    }
+
+    private static ServiceAccount serviceAccount(String name, String resourceVersion) {
+        ServiceAccount sa = new ServiceAccount();
+        sa.setMetadata(new ObjectMetaBuilder().withName(name).withNamespace("default").withResourceVersion(resourceVersion).build());
+        ServiceAccountSpec spec = new ServiceAccountSpec();
+        spec.setName(name);
+        sa.setSpec(spec);
+        return sa;
+    }
+}
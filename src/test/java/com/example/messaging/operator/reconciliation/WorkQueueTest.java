@@ -0,0 +1,183 @@
+package com.example.messaging.operator.reconciliation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+import com.example.messaging.operator.store.CRDKind;
+import com.example.messaging.operator.store.ResourceKey;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the keyed reconciliation work queue: deduplication, single-worker-per-key processing and rate-limited requeue.
+ */
+@DisplayName("WorkQueue Tests")
+class WorkQueueTest {
+
+    private static final ResourceKey TOPIC_A = ResourceKey.of(CRDKind.TOPIC, "default", "topic-a");
+    private static final ResourceKey TOPIC_B = ResourceKey.of(CRDKind.TOPIC, "default", "topic-b");
+
+    private final WorkQueue<ResourceKey> queue = new WorkQueue<>(Duration.ofMillis(10), Duration.ofMillis(80));
+
+    @AfterEach
+    void tearDown() {
+        queue.shutDown();
+    }
+
+    @Nested
+    @DisplayName("Deduplication")
+    class DeduplicationTests {
+
+        @Test
+        @DisplayName("should collapse pending adds for the same key")
+        void testCollapsePendingAdds() throws Exception {
+            queue.add(TOPIC_A);
+            queue.add(TOPIC_A);
+            queue.add(TOPIC_B);
+            queue.add(TOPIC_A);
+
+            assertThat(queue.size()).isEqualTo(2);
+            assertThat(queue.get()).isEqualTo(TOPIC_A);
+            assertThat(queue.get()).isEqualTo(TOPIC_B);
+        }
+
+        @Test
+        @DisplayName("should defer a key added while processing until done")
+        void testDeferWhileProcessing() throws Exception {
+            queue.add(TOPIC_A);
+            ResourceKey key = queue.get();
+
+            queue.add(TOPIC_A);
+            queue.add(TOPIC_A);
+            assertThat(queue.size()).isZero();
+
+            queue.done(key);
+            assertThat(queue.size()).isEqualTo(1);
+            assertThat(queue.get()).isEqualTo(TOPIC_A);
+        }
+
+        @Test
+        @DisplayName("should not requeue a key that was not re-added while processing")
+        void testDoneWithoutReAdd() throws Exception {
+            queue.add(TOPIC_A);
+            queue.done(queue.get());
+
+            assertThat(queue.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("should never hand the same key to two workers at once")
+        void testSingleWorkerPerKey() throws Exception {
+            int workers = 4;
+            int adds = 500;
+            Set<ResourceKey> inFlight = ConcurrentHashMap.newKeySet();
+            AtomicInteger overlaps = new AtomicInteger();
+            AtomicInteger processed = new AtomicInteger();
+            CountDownLatch stopped = new CountDownLatch(workers);
+
+            for (int i = 0; i < workers; i++) {
+                Thread.ofPlatform().daemon().start(() -> {
+                    try {
+                        ResourceKey key;
+                        while ((key = queue.get()) != null) {
+                            if (!inFlight.add(key)) {
+                                overlaps.incrementAndGet();
+                            }
+                            Thread.sleep(1);
+                            inFlight.remove(key);
+                            processed.incrementAndGet();
+                            queue.done(key);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        stopped.countDown();
+                    }
+                });
+            }
+
+            for (int i = 0; i < adds; i++) {
+                queue.add(i % 2 == 0 ? TOPIC_A : TOPIC_B);
+            }
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> queue.size() == 0 && inFlight.isEmpty());
+            queue.shutDown();
+            assertThat(stopped.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(overlaps.get()).isZero();
+            assertThat(processed.get()).isGreaterThanOrEqualTo(2).isLessThan(adds);
+        }
+
+        @Test
+        @DisplayName("should release blocked workers on shutdown")
+        void testShutdownReleasesWorkers() throws Exception {
+            CountDownLatch released = new CountDownLatch(1);
+            Thread.ofPlatform().daemon().start(() -> {
+                try {
+                    if (queue.get() == null) {
+                        released.countDown();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            queue.shutDown();
+
+            assertThat(released.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(queue.isShuttingDown()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Rate Limiting")
+    class RateLimitingTests {
+
+        @Test
+        @DisplayName("should requeue after backoff and count retries")
+        void testRateLimitedRequeue() throws Exception {
+            queue.addRateLimited(TOPIC_A);
+            assertThat(queue.size()).isZero();
+            assertThat(queue.numRequeues(TOPIC_A)).isEqualTo(1);
+
+            await().atMost(Duration.ofSeconds(2)).until(() -> queue.size() == 1);
+            assertThat(queue.get()).isEqualTo(TOPIC_A);
+        }
+
+        @Test
+        @DisplayName("should reset retry count on forget")
+        void testForget() {
+            queue.addRateLimited(TOPIC_A);
+            queue.addRateLimited(TOPIC_A);
+            assertThat(queue.numRequeues(TOPIC_A)).isEqualTo(2);
+
+            queue.forget(TOPIC_A);
+
+            assertThat(queue.numRequeues(TOPIC_A)).isZero();
+        }
+
+        @Test
+        @DisplayName("should cap backoff at the maximum delay")
+        void testBackoffCap() throws Exception {
+            for (int i = 0; i < 40; i++) {
+                queue.addRateLimited(TOPIC_B);
+            }
+
+            await().atMost(Duration.ofSeconds(2)).until(() -> queue.size() == 1);
+            assertThat(queue.get()).isEqualTo(TOPIC_B);
+        }
+    }
+}
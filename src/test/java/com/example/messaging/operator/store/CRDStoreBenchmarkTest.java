@@ -0,0 +1,243 @@
+package com.example.messaging.operator.store;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.example.messaging.operator.crd.*;
+import com.example.messaging.operator.events.ReconciliationEventPublisher;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Store benchmarks, too slow for every build. Run with {@code mvn test -Dtest=CRDStoreBenchmarkTest -Dstore.benchmark=true} and read the results from the log.
+ */
+@EnabledIfSystemProperty(named = "store.benchmark", matches = "true")
+@DisplayName("CRDStore Benchmarks")
+class CRDStoreBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CRDStoreBenchmarkTest.class);
+
+    private static final String NAMESPACE = "benchmark";
+    private static final String APP_SERVICE = "benchmark-app";
+    private static final int RESOURCES = 100_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int ROUNDS = 5;
+    private static final int UPDATES = 200_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("should recover 100k resources from a snapshot and the log written after it")
+    void testRecoveryTime() {
+        long version;
+        try (StorePersistence persistence = StorePersistence.open(directory)) {
+            CRDStore durable = open(persistence);
+            populate(durable);
+            version = durable.getCurrentResourceVersion();
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int round = 1; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            try (StorePersistence persistence = StorePersistence.open(directory)) {
+                CRDStore recovered = open(persistence);
+                long elapsed = System.nanoTime() - start;
+                best = Math.min(best, elapsed);
+                log.info("Recovery round {}: {} resources in {} ms", round, RESOURCES, TimeUnit.NANOSECONDS.toMillis(elapsed));
+
+                assertThat(recovered.getCurrentResourceVersion()).isEqualTo(version);
+                assertThat(recovered.<Topic>list(CRDKind.TOPIC, NAMESPACE)).hasSize(RESOURCES);
+            }
+        }
+        log.info("Best recovery of {} resources: {} ms", RESOURCES, TimeUnit.NANOSECONDS.toMillis(best));
+    }
+
+    @Test
+    @DisplayName("should compare retained heap and p99 GC pause of 100k resources on and off the heap")
+    void testHeapAndGcPauses() {
+        measure("on-heap", null);
+        measure("off-heap", OffHeapResourceStorage.create());
+    }
+
+    /**
+     * Fill a store, report the heap it retains, then report the GC pauses seen while updating random resources in it.
+     */
+    private void measure(String mode, OffHeapResourceStorage offHeap) {
+        long baseline = usedHeapAfterGc();
+        CRDStore target = new CRDStore(quietPublisher(), CRDStore.DEFAULT_CHANGE_LOG_CAPACITY, null, offHeap);
+        populate(target);
+        long retained = usedHeapAfterGc() - baseline;
+
+        List<Long> pauses = new ArrayList<>();
+        NotificationListener listener = (notification, handback) -> {
+            if (notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+                GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                synchronized (pauses) {
+                    pauses.add(info.getGcInfo().getDuration());
+                }
+            }
+        };
+        List<NotificationEmitter> emitters = pauseCollectors();
+        emitters.forEach(emitter -> emitter.addNotificationListener(listener, null, null));
+        try {
+            Random random = new Random(42);
+            for (int i = 0; i < UPDATES; i++) {
+                String name = "topic-" + random.nextInt(RESOURCES);
+                Topic topic = target.get(CRDKind.TOPIC, NAMESPACE, name);
+                topic.getSpec().setPartitions(i % 32 + 1);
+                target.update(CRDKind.TOPIC, NAMESPACE, name, topic);
+            }
+        } finally {
+            for (NotificationEmitter emitter : emitters) {
+                try {
+                    emitter.removeNotificationListener(listener);
+                } catch (ListenerNotFoundException e) {
+                    // Already gone
+                }
+            }
+        }
+
+        List<Long> sorted;
+        synchronized (pauses) {
+            sorted = new ArrayList<>(pauses);
+        }
+        Collections.sort(sorted);
+        log.info("{}: {} resources retain {} MB of heap and {} MB off-heap; {} updates saw {} GC pauses, p99 {} ms, max {} ms", mode, RESOURCES,
+                retained >> 20, offHeap != null ? offHeap.getAllocatedBytes() >> 20 : 0, UPDATES, sorted.size(), percentile(sorted, 0.99),
+                sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1));
+
+        assertThat(target.<Topic>list(CRDKind.TOPIC, NAMESPACE)).hasSize(RESOURCES);
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * The collectors whose notifications are stop-the-world pauses; concurrent marking runs alongside the application.
+     */
+    private static List<NotificationEmitter> pauseCollectors() {
+        List<NotificationEmitter> emitters = new ArrayList<>();
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (!collector.getName().contains("Concurrent") && collector instanceof NotificationEmitter emitter) {
+                emitters.add(emitter);
+            }
+        }
+        return emitters;
+    }
+
+    private static long percentile(List<Long> sorted, double quantile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        return sorted.get((int) Math.ceil(quantile * sorted.size()) - 1);
+    }
+
+    private CRDStore open(StorePersistence persistence) {
+        return new CRDStore(quietPublisher(), CRDStore.DEFAULT_CHANGE_LOG_CAPACITY, persistence);
+    }
+
+    /** Per-event logging would dominate the measurements. */
+    private static ReconciliationEventPublisher quietPublisher() {
+        ReconciliationEventPublisher publisher = new ReconciliationEventPublisher();
+        publisher.setLogEvents(false);
+        return publisher;
+    }
+
+    /**
+     * Create the ownership chain plus {@link #RESOURCES} Topics, in transactions so the load is not bound by one group commit per write.
+     */
+    private void populate(CRDStore target) {
+        target.transaction()
+                .create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE))
+                .create(CRDKind.KAFKA_CLUSTER, NAMESPACE, buildKafkaCluster("benchmark-cluster", APP_SERVICE))
+                .create(CRDKind.SERVICE_ACCOUNT, NAMESPACE, buildServiceAccount("benchmark-sa", "benchmark-cluster"))
+                .commit();
+        for (int batch = 0; batch < RESOURCES / BATCH_SIZE; batch++) {
+            CRDStore.Transaction transaction = target.transaction();
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                transaction.create(CRDKind.TOPIC, NAMESPACE, buildTopic("topic-" + (batch * BATCH_SIZE + i), "benchmark-sa"));
+            }
+            transaction.commit();
+        }
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    private ApplicationService buildApplicationService(String name) {
+        ApplicationService appService = new ApplicationService();
+        appService.setMetadata(new ObjectMeta());
+        appService.getMetadata().setName(name);
+        appService.getMetadata().setNamespace(NAMESPACE);
+
+        ApplicationServiceSpec spec = new ApplicationServiceSpec();
+        spec.setName(name);
+        appService.setSpec(spec);
+
+        return appService;
+    }
+
+    private KafkaCluster buildKafkaCluster(String clusterId, String appServiceRef) {
+        KafkaCluster vCluster = new KafkaCluster();
+        vCluster.setMetadata(new ObjectMeta());
+        vCluster.getMetadata().setName(clusterId);
+        vCluster.getMetadata().setNamespace(NAMESPACE);
+
+        KafkaClusterSpec spec = new KafkaClusterSpec();
+        spec.setClusterId(clusterId);
+        spec.setApplicationServiceRef(appServiceRef);
+        vCluster.setSpec(spec);
+
+        return vCluster;
+    }
+
+    private ServiceAccount buildServiceAccount(String name, String clusterRef) {
+        ServiceAccount serviceAccount = new ServiceAccount();
+        serviceAccount.setMetadata(new ObjectMeta());
+        serviceAccount.getMetadata().setName(name);
+        serviceAccount.getMetadata().setNamespace(NAMESPACE);
+
+        ServiceAccountSpec spec = new ServiceAccountSpec();
+        spec.setName(name);
+        spec.setClusterRef(clusterRef);
+        spec.setApplicationServiceRef(APP_SERVICE);
+        serviceAccount.setSpec(spec);
+
+        return serviceAccount;
+    }
+
+    private Topic buildTopic(String name, String serviceRef) {
+        Topic topic = new Topic();
+        topic.setMetadata(new ObjectMeta());
+        topic.getMetadata().setName(name);
+        topic.getMetadata().setNamespace(NAMESPACE);
+
+        TopicCRSpec spec = new TopicCRSpec();
+        spec.setName(name);
+        spec.setServiceRef(serviceRef);
+        spec.setApplicationServiceRef(APP_SERVICE);
+        topic.setSpec(spec);
+
+        return topic;
+    }
+}
@@ -4,12 +4,28 @@ import static org.assertj.core.api.Assertions.*;
 
 import com.example.messaging.operator.crd.*;
 import com.example.messaging.operator.events.ReconciliationEvent;
+import com.example.messaging.operator.events.ReconciliationEventFilter;
+import com.example.messaging.operator.events.ReconciliationEventPublisher;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.model.annotation.Group;
+import io.fabric8.kubernetes.model.annotation.Kind;
+import io.fabric8.kubernetes.model.annotation.Version;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Unit tests for CRDStore. Tests CRUD operations, resource versioning, event publishing, and ownership enforcement.
@@ -417,6 +433,831 @@ class CRDStoreTest {
         }
     }
 
+    // ==================== SECONDARY INDEX TESTS ====================
+
+    @Nested
+    @DisplayName("Secondary Index Tests")
+    class SecondaryIndexTests {
+
+        @Test
+        @DisplayName("should drop deleted resources from kind/namespace listing")
+        void testListExcludesDeletedResources() {
+            store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService("app1"));
+            store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService("app2"));
+
+            store.delete(CRDKind.APPLICATION_SERVICE, NAMESPACE, "app1");
+
+            List<ApplicationService> list = store.list(CRDKind.APPLICATION_SERVICE, NAMESPACE);
+            assertThat(list).extracting(a -> a.getMetadata().getName()).containsExactly("app2");
+        }
+
+        @Test
+        @DisplayName("should list resources owned by an applicationService per kind")
+        void testListOwnedByKind() {
+            store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE));
+            store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService("other-service"));
+            store.create(CRDKind.KAFKA_CLUSTER, NAMESPACE, buildKafkaCluster("cluster1", APP_SERVICE));
+            store.create(CRDKind.KAFKA_CLUSTER, NAMESPACE, buildKafkaCluster("cluster2", APP_SERVICE));
+            store.create(CRDKind.KAFKA_CLUSTER, NAMESPACE, buildKafkaCluster("cluster3", "other-service"));
+
+            List<KafkaCluster> owned = store.listOwnedBy(CRDKind.KAFKA_CLUSTER, NAMESPACE, APP_SERVICE);
+
+            assertThat(owned).extracting(c -> c.getMetadata().getName()).containsExactlyInAnyOrder("cluster1", "cluster2");
+        }
+
+        @Test
+        @DisplayName("should list everything owned by an applicationService across kinds")
+        void testListOwnedByAcrossKinds() {
+            store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE));
+            store.create(CRDKind.KAFKA_CLUSTER, NAMESPACE, buildKafkaCluster("cluster1", APP_SERVICE));
+
+            List<Object> owned = store.listOwnedBy(NAMESPACE, APP_SERVICE);
+
+            assertThat(owned).hasSize(2).hasAtLeastOneElementOfType(ApplicationService.class).hasAtLeastOneElementOfType(KafkaCluster.class);
+            assertThat(store.listOwnedBy("other-namespace", APP_SERVICE)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should move resource to new owner index when ApplicationService name changes")
+        void testOwnerIndexFollowsUpdate() {
+            ApplicationService appService = buildApplicationService(APP_SERVICE);
+            store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, appService);
+
+            appService.getSpec().setName("renamed-service");
+            store.update(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE, appService);
+
+            assertThat(store.listOwnedBy(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE)).isEmpty();
+            assertThat(store.<ApplicationService>listOwnedBy(CRDKind.APPLICATION_SERVICE, NAMESPACE, "renamed-service")).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("should clear indexes together with the store")
+        void testClearResetsIndexes() {
+            store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE));
+
+            store.clear();
+
+            assertThat(store.listOwnedBy(NAMESPACE, APP_SERVICE)).isEmpty();
+        }
+    }
+
+    // ==================== EVENT INTEREST TESTS ====================
+
+    @Nested
+    @DisplayName("Event Interest Tests")
+    class EventInterestTests {
+
+        @Test
+        @DisplayName("should not publish events when there is no listener and event logging is off")
+        void testNoEventsWithoutInterest() {
+            ReconciliationEventPublisher publisher = new ReconciliationEventPublisher();
+            publisher.setLogEvents(false);
+            CRDStore quietStore = new CRDStore(publisher);
+
+            ApplicationService appService = quietStore.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE));
+            quietStore.update(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE, appService);
+            quietStore.delete(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE);
+            quietStore.delete(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE);
+
+            assertThat(publisher.hasInterest()).isFalse();
+            assertThat(publisher.getPublishedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should resume publishing as soon as a listener registers")
+        void testEventsOnceListenerRegisters() {
+            ReconciliationEventPublisher publisher = new ReconciliationEventPublisher();
+            publisher.setLogEvents(false);
+            CRDStore quietStore = new CRDStore(publisher);
+            quietStore.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService("before-listener"));
+
+            List<ReconciliationEvent> events = new ArrayList<>();
+            quietStore.addReconciliationListener(events::add);
+            quietStore.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE));
+
+            assertThat(publisher.hasInterest()).isTrue();
+            assertThat(events).hasSize(2).extracting(ReconciliationEvent::getResourceName).containsOnly(APP_SERVICE);
+            assertThat(events.get(1).getMessage()).isEqualTo("CREATE completed successfully");
+        }
+
+        @Test
+        @DisplayName("should only build events for the kinds and namespaces a subscription selects")
+        void testSubscriptionScopesInterest() {
+            ReconciliationEventPublisher publisher = new ReconciliationEventPublisher();
+            publisher.setLogEvents(false);
+            CRDStore quietStore = new CRDStore(publisher);
+
+            List<ReconciliationEvent> events = new ArrayList<>();
+            quietStore.subscribe(ReconciliationEventFilter.builder()
+                    .kind(CRDKind.APPLICATION_SERVICE)
+                    .namespace(NAMESPACE)
+                    .result(ReconciliationEvent.Result.SUCCESS)
+                    .build(), events::add);
+            quietStore.create(CRDKind.APPLICATION_SERVICE, "other-namespace", buildApplicationService("elsewhere"));
+            quietStore.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE));
+
+            assertThat(publisher.hasInterest(CRDKind.APPLICATION_SERVICE, "other-namespace")).isFalse();
+            assertThat(publisher.getPublishedCount()).isEqualTo(2);
+            assertThat(events).singleElement().satisfies(e -> {
+                assertThat(e.getResourceName()).isEqualTo(APP_SERVICE);
+                assertThat(e.getPhase()).isEqualTo(ReconciliationEvent.Phase.AFTER);
+            });
+        }
+    }
+
+    // ==================== WATCH TESTS ====================
+
+    @Nested
+    @DisplayName("Watch Tests")
+    class WatchTests {
+
+        @Test
+        @DisplayName("should replay changes after a resourceVersion and then stream live ones")
+        void testReplayThenLive() throws Exception {
+            ApplicationService appService = store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE));
+            long afterCreate = store.getCurrentResourceVersion();
+            store.update(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE, appService);
+            store.create(CRDKind.APPLICATION_SERVICE, "other-namespace", buildApplicationService("elsewhere"));
+
+            try (Watch watch = store.watch(CRDKind.APPLICATION_SERVICE, NAMESPACE, afterCreate)) {
+                assertThat(watch.drain()).extracting(WatchEvent::type).containsExactly(WatchEvent.Type.MODIFIED);
+
+                store.delete(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE);
+                WatchEvent deleted = watch.poll(1, TimeUnit.SECONDS);
+
+                assertThat(deleted.type()).isEqualTo(WatchEvent.Type.DELETED);
+                assertThat(deleted.name()).isEqualTo(APP_SERVICE);
+                assertThat(watch.getResourceVersion()).isEqualTo(deleted.resourceVersion()).isEqualTo(store.getCurrentResourceVersion());
+            }
+        }
+
+        @Test
+        @DisplayName("should watch every namespace when none is given")
+        void testAllNamespaces() {
+            try (Watch watch = store.watch(CRDKind.APPLICATION_SERVICE, null, 0)) {
+                store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService("one"));
+                store.create(CRDKind.APPLICATION_SERVICE, "other-namespace", buildApplicationService("two"));
+
+                assertThat(watch.drain()).extracting(WatchEvent::name).containsExactly("one", "two");
+            }
+        }
+
+        @Test
+        @DisplayName("should replay each change as it was written, not as the resource is now")
+        void testReplayIsSnapshot() {
+            try (Watch live = store.watch(CRDKind.APPLICATION_SERVICE, null, 0)) {
+                ApplicationService appService = store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE));
+                appService.getSpec().setName("renamed");
+                store.update(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE, appService);
+                appService.getSpec().setName("changed in place");
+            }
+
+            try (Watch watch = store.watch(CRDKind.APPLICATION_SERVICE, NAMESPACE, 0)) {
+                List<WatchEvent> events = watch.drain();
+                ApplicationService added = events.get(0).getResource();
+                added.getSpec().setName("changed by a consumer");
+
+                assertThat(added.getMetadata().getResourceVersion()).isEqualTo("1");
+                assertThat(events.get(0).<ApplicationService>getResource().getSpec().getName()).isEqualTo(APP_SERVICE);
+                assertThat(events.get(1).<ApplicationService>getResource().getSpec().getName()).isEqualTo("renamed");
+            }
+        }
+
+        @Test
+        @DisplayName("should not serialize writes while nothing consumes the change log")
+        void testNoSnapshotWithoutWatches() {
+            store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, unserializableApplicationService("unwatched"));
+            store.delete(CRDKind.APPLICATION_SERVICE, NAMESPACE, "unwatched");
+
+            try (Watch watch = store.watch(CRDKind.APPLICATION_SERVICE, NAMESPACE, store.getCurrentResourceVersion())) {
+                assertThatThrownBy(() -> store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, unserializableApplicationService("watched")))
+                        .isInstanceOf(UncheckedIOException.class);
+            }
+            assertThat(store.<ApplicationService>get(CRDKind.APPLICATION_SERVICE, NAMESPACE, "watched")).isNull();
+        }
+
+        @Test
+        @DisplayName("should report too old when the requested version was compacted away")
+        void testTooOld() {
+            CRDStore smallStore = new CRDStore(new ReconciliationEventPublisher(), 2);
+            for (int i = 0; i < 5; i++) {
+                smallStore.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService("app-" + i));
+            }
+
+            assertThatThrownBy(() -> smallStore.watch(CRDKind.APPLICATION_SERVICE, NAMESPACE, 1))
+                    .isInstanceOf(ResourceVersionTooOldException.class)
+                    .satisfies(e -> assertThat(((ResourceVersionTooOldException) e).getOldestAvailableVersion()).isEqualTo(3));
+            try (Watch watch = smallStore.watch(CRDKind.APPLICATION_SERVICE, NAMESPACE, 3)) {
+                assertThat(watch.drain()).extracting(WatchEvent::resourceVersion).containsExactly(4L, 5L);
+            }
+        }
+
+        @Test
+        @DisplayName("should expire a watch whose consumer falls behind the buffer")
+        void testExpiredWatch() {
+            CRDStore smallStore = new CRDStore(new ReconciliationEventPublisher(), 2);
+            Watch watch = smallStore.watch(CRDKind.APPLICATION_SERVICE, NAMESPACE, 0);
+            for (int i = 0; i < 3; i++) {
+                smallStore.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService("app-" + i));
+            }
+
+            assertThat(watch.isExpired()).isTrue();
+            assertThat(watch.drain()).hasSize(2);
+            assertThatThrownBy(watch::drain).isInstanceOf(ResourceVersionTooOldException.class);
+        }
+    }
+
+    // ==================== OPTIMISTIC CONCURRENCY TESTS ====================
+
+    @Nested
+    @DisplayName("Optimistic Concurrency Tests")
+    class OptimisticConcurrencyTests {
+
+        @Test
+        @DisplayName("should update when the expected resourceVersion matches")
+        void testConditionalUpdateMatches() {
+            ApplicationService created = store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE));
+            long version = Long.parseLong(created.getMetadata().getResourceVersion());
+
+            ApplicationService updated = store.update(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE, buildApplicationService(APP_SERVICE), version);
+
+            assertThat(updated.getMetadata().getResourceVersion()).isEqualTo(String.valueOf(version + 1));
+        }
+
+        @Test
+        @DisplayName("should reject a stale resourceVersion with a CONFLICT event")
+        void testConditionalUpdateConflict() {
+            store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE));
+            store.update(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE, buildApplicationService(APP_SERVICE));
+            List<ReconciliationEvent> events = new ArrayList<>();
+            store.addReconciliationListener(events::add);
+
+            ApplicationService stale = buildApplicationService(APP_SERVICE);
+            assertThatThrownBy(() -> store.update(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE, stale, 1L))
+                    .isInstanceOf(ResourceConflictException.class)
+                    .satisfies(e -> {
+                        assertThat(((ResourceConflictException) e).getExpectedVersion()).isEqualTo(1L);
+                        assertThat(((ResourceConflictException) e).getActualVersion()).isEqualTo(2L);
+                    });
+
+            assertThat(events.get(events.size() - 1).getResult()).isEqualTo(ReconciliationEvent.Result.CONFLICT);
+            assertThat(stale.getMetadata().getResourceVersion()).isNull();
+            assertThat(store.<ApplicationService>get(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE).getMetadata().getResourceVersion()).isEqualTo("2");
+        }
+
+        @Test
+        @DisplayName("should let exactly one of many racing creates win")
+        void testRacingCreates() throws InterruptedException {
+            int threadCount = 16;
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threadCount);
+            List<Exception> exceptions = new ArrayList<>();
+
+            for (int i = 0; i < threadCount; i++) {
+                new Thread(() -> {
+                    try {
+                        start.await();
+                        store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE));
+                    } catch (Exception e) {
+                        synchronized (exceptions) {
+                            exceptions.add(e);
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                }).start();
+            }
+            start.countDown();
+
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(exceptions).hasSize(threadCount - 1).allMatch(e -> e instanceof IllegalStateException && e.getMessage().contains("Resource already exists"));
+            assertThat(store.getCurrentResourceVersion()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should not lose updates under concurrent compare-and-swap writers")
+        void testNoLostUpdates() throws InterruptedException {
+            store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE));
+            int threadCount = 8;
+            int updatesPerThread = 100;
+            Set<Long> consumedVersions = ConcurrentHashMap.newKeySet();
+            CountDownLatch done = new CountDownLatch(threadCount);
+
+            for (int i = 0; i < threadCount; i++) {
+                new Thread(() -> {
+                    try {
+                        for (int j = 0; j < updatesPerThread;) {
+                            ApplicationService current = store.get(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE);
+                            long expected = Long.parseLong(current.getMetadata().getResourceVersion());
+                            try {
+                                store.update(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE, buildApplicationService(APP_SERVICE), expected);
+                                consumedVersions.add(expected);
+                                j++;
+                            } catch (ResourceConflictException e) {
+                                // Lost the race, re-read and retry
+                            }
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                }).start();
+            }
+
+            assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+            assertThat(consumedVersions).hasSize(threadCount * updatesPerThread);
+            assertThat(store.getCurrentResourceVersion()).isEqualTo(1L + threadCount * updatesPerThread);
+        }
+    }
+
+    // ==================== TRANSACTION TESTS ====================
+
+    @Nested
+    @DisplayName("Transaction Tests")
+    class TransactionTests {
+
+        @Test
+        @DisplayName("should commit a whole ownership chain with in-batch references in one version range")
+        void testCommitChain() {
+            List<List<ReconciliationEvent>> batches = new ArrayList<>();
+            store.addReconciliationListener(new ReconciliationEventPublisher.ReconciliationEventListener() {
+                @Override
+                public void onEvent(ReconciliationEvent event) {
+                }
+
+                @Override
+                public void onEvents(List<ReconciliationEvent> events) {
+                    batches.add(List.copyOf(events));
+                }
+            });
+
+            // Staged out of order on purpose: the transaction sorts along the ownership chain
+            List<Object> created = store.transaction()
+                    .create(CRDKind.TOPIC, NAMESPACE, buildTopic("orders", "orders-sa"))
+                    .create(CRDKind.SERVICE_ACCOUNT, NAMESPACE, buildServiceAccount("orders-sa", "prod-cluster"))
+                    .create(CRDKind.KAFKA_CLUSTER, NAMESPACE, buildKafkaCluster("prod-cluster", APP_SERVICE))
+                    .create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE))
+                    .commit();
+
+            assertThat(created).extracting(r -> r.getClass().getSimpleName()).containsExactly("ApplicationService", "KafkaCluster", "ServiceAccount", "Topic");
+            assertThat(store.<Topic>get(CRDKind.TOPIC, NAMESPACE, "orders").getMetadata().getResourceVersion()).isEqualTo("4");
+            assertThat(batches).hasSize(2);
+            assertThat(batches.get(0)).hasSize(4).allMatch(e -> e.getPhase() == ReconciliationEvent.Phase.BEFORE);
+            assertThat(batches.get(1)).extracting(ReconciliationEvent::getResourceVersion).containsExactly(1L, 2L, 3L, 4L);
+        }
+
+        @Test
+        @DisplayName("should commit nothing when one resource fails validation")
+        void testAllOrNothing() {
+            store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE));
+            List<ReconciliationEvent> events = new ArrayList<>();
+            store.addReconciliationListener(events::add);
+
+            CRDStore.Transaction transaction = store.transaction()
+                    .create(CRDKind.KAFKA_CLUSTER, NAMESPACE, buildKafkaCluster("prod-cluster", APP_SERVICE))
+                    .create(CRDKind.SERVICE_ACCOUNT, NAMESPACE, buildServiceAccount("orders-sa", "prod-cluster"))
+                    .create(CRDKind.TOPIC, NAMESPACE, buildTopic("orders", "missing-sa"));
+
+            assertThatThrownBy(transaction::commit).isInstanceOf(SecurityException.class).hasMessageContaining("missing-sa");
+
+            assertThat(store.<KafkaCluster>list(CRDKind.KAFKA_CLUSTER, NAMESPACE)).isEmpty();
+            assertThat(store.<ServiceAccount>list(CRDKind.SERVICE_ACCOUNT, NAMESPACE)).isEmpty();
+            assertThat(store.getCurrentResourceVersion()).isEqualTo(1);
+            assertThat(events).filteredOn(e -> e.getPhase() == ReconciliationEvent.Phase.AFTER)
+                    .extracting(ReconciliationEvent::getResult)
+                    .containsExactly(ReconciliationEvent.Result.FAILURE, ReconciliationEvent.Result.FAILURE, ReconciliationEvent.Result.VALIDATION_ERROR);
+        }
+
+        @Test
+        @DisplayName("should reject duplicates inside the batch and against the store")
+        void testDuplicates() {
+            store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE));
+
+            assertThatThrownBy(() -> store.transaction()
+                    .create(CRDKind.KAFKA_CLUSTER, NAMESPACE, buildKafkaCluster("prod-cluster", APP_SERVICE))
+                    .create(CRDKind.KAFKA_CLUSTER, NAMESPACE, buildKafkaCluster("prod-cluster", APP_SERVICE))
+                    .commit()).isInstanceOf(IllegalStateException.class).hasMessageContaining("Resource already exists");
+            assertThatThrownBy(() -> store.transaction()
+                    .create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE))
+                    .commit()).isInstanceOf(IllegalStateException.class).hasMessageContaining("Resource already exists");
+            assertThat(store.<KafkaCluster>list(CRDKind.KAFKA_CLUSTER, NAMESPACE)).isEmpty();
+        }
+    }
+
+    // ==================== REVERSE REFERENCE TESTS ====================
+
+    @Nested
+    @DisplayName("Reverse Reference Tests")
+    class ReverseReferenceTests {
+
+        @BeforeEach
+        void createChain() {
+            store.transaction()
+                    .create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE))
+                    .create(CRDKind.KAFKA_CLUSTER, NAMESPACE, buildKafkaCluster("prod-cluster", APP_SERVICE))
+                    .create(CRDKind.SERVICE_ACCOUNT, NAMESPACE, buildServiceAccount("orders-sa", "prod-cluster"))
+                    .create(CRDKind.TOPIC, NAMESPACE, buildTopic("orders", "orders-sa"))
+                    .create(CRDKind.TOPIC, NAMESPACE, buildTopic("payments", "orders-sa"))
+                    .commit();
+        }
+
+        @Test
+        @DisplayName("should list the direct dependents of a resource")
+        void testDependentsOf() {
+            assertThat(store.dependentsOf(CRDKind.SERVICE_ACCOUNT, NAMESPACE, "orders-sa"))
+                    .containsExactlyInAnyOrder(ResourceKey.of(CRDKind.TOPIC, NAMESPACE, "orders"), ResourceKey.of(CRDKind.TOPIC, NAMESPACE, "payments"));
+            assertThat(store.dependentsOf(CRDKind.KAFKA_CLUSTER, NAMESPACE, "prod-cluster")).containsExactly(ResourceKey.of(CRDKind.SERVICE_ACCOUNT, NAMESPACE, "orders-sa"));
+            assertThat(store.dependentsOf(CRDKind.TOPIC, NAMESPACE, "orders")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should follow reference changes on update and delete")
+        void testIndexMaintenance() {
+            store.create(CRDKind.SERVICE_ACCOUNT, NAMESPACE, buildServiceAccount("billing-sa", "prod-cluster"));
+            store.update(CRDKind.TOPIC, NAMESPACE, "payments", buildTopic("payments", "billing-sa"));
+            store.delete(CRDKind.TOPIC, NAMESPACE, "orders");
+
+            assertThat(store.dependentsOf(CRDKind.SERVICE_ACCOUNT, NAMESPACE, "orders-sa")).isEmpty();
+            assertThat(store.dependentsOf(CRDKind.SERVICE_ACCOUNT, NAMESPACE, "billing-sa")).containsExactly(ResourceKey.of(CRDKind.TOPIC, NAMESPACE, "payments"));
+        }
+
+        @Test
+        @DisplayName("should cascade a delete through the subtree, dependents first")
+        void testDeleteCascading() {
+            List<ResourceKey> deleted = store.deleteCascading(CRDKind.KAFKA_CLUSTER, NAMESPACE, "prod-cluster");
+
+            assertThat(deleted).hasSize(4).endsWith(ResourceKey.of(CRDKind.SERVICE_ACCOUNT, NAMESPACE, "orders-sa"), ResourceKey.of(CRDKind.KAFKA_CLUSTER, NAMESPACE,
+                    "prod-cluster"));
+            assertThat(store.<Topic>list(CRDKind.TOPIC, NAMESPACE)).isEmpty();
+            assertThat(store.<ApplicationService>get(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("should remove every owned resource when deleting an ApplicationService")
+        void testDeleteApplicationServiceLeavesNoOrphans() {
+            List<ReconciliationEvent> events = new ArrayList<>();
+            store.addReconciliationListener(events::add);
+
+            assertThat(store.deleteCascading(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE)).hasSize(5)
+                    .last().isEqualTo(ResourceKey.of(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE));
+            assertThat(store.listOwnedBy(NAMESPACE, APP_SERVICE)).isEmpty();
+            assertThat(events).filteredOn(e -> e.getPhase() == ReconciliationEvent.Phase.AFTER).hasSize(5).allMatch(ReconciliationEvent::isSuccess);
+            assertThat(store.deleteCascading(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE)).isEmpty();
+        }
+    }
+
+    // ==================== PAGINATION TESTS ====================
+
+    @Nested
+    @DisplayName("Pagination Tests")
+    class PaginationTests {
+
+        @Test
+        @DisplayName("should page through a namespace in name order")
+        void testPagesInNameOrder() {
+            for (String name : List.of("delta", "alpha", "echo", "charlie", "bravo")) {
+                store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(name));
+            }
+            store.create(CRDKind.APPLICATION_SERVICE, "other-namespace", buildApplicationService("aaa"));
+            long version = store.getCurrentResourceVersion();
+
+            ListPage<ApplicationService> first = store.list(CRDKind.APPLICATION_SERVICE, NAMESPACE, 2, null);
+            ListPage<ApplicationService> second = store.list(CRDKind.APPLICATION_SERVICE, NAMESPACE, 2, first.continueToken());
+            ListPage<ApplicationService> last = store.list(CRDKind.APPLICATION_SERVICE, NAMESPACE, 2, second.continueToken());
+
+            assertThat(first.items()).extracting(a -> a.getMetadata().getName()).containsExactly("alpha", "bravo");
+            assertThat(second.items()).extracting(a -> a.getMetadata().getName()).containsExactly("charlie", "delta");
+            assertThat(last.items()).extracting(a -> a.getMetadata().getName()).containsExactly("echo");
+            assertThat(last.hasMore()).isFalse();
+            assertThat(List.of(first, second, last)).extracting(ListPage::resourceVersion).containsOnly(version);
+        }
+
+        @Test
+        @DisplayName("should keep the snapshot version and continue past deleted resources")
+        void testContinueAcrossWrites() {
+            for (String name : List.of("alpha", "bravo", "charlie")) {
+                store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(name));
+            }
+            ListPage<ApplicationService> first = store.list(CRDKind.APPLICATION_SERVICE, NAMESPACE, 1, null);
+            store.delete(CRDKind.APPLICATION_SERVICE, NAMESPACE, "alpha");
+            store.delete(CRDKind.APPLICATION_SERVICE, NAMESPACE, "bravo");
+
+            ListPage<ApplicationService> next = store.list(CRDKind.APPLICATION_SERVICE, NAMESPACE, 1, first.continueToken());
+
+            assertThat(next.items()).extracting(a -> a.getMetadata().getName()).containsExactly("charlie");
+            assertThat(next.resourceVersion()).isEqualTo(first.resourceVersion());
+            try (Watch watch = store.watch(CRDKind.APPLICATION_SERVICE, NAMESPACE, next.resourceVersion())) {
+                assertThat(watch.drain()).extracting(WatchEvent::name).containsExactly("alpha", "bravo");
+            }
+        }
+
+        @Test
+        @DisplayName("should reject invalid limits and tokens, and expire compacted tokens")
+        void testInvalidAndExpiredTokens() {
+            CRDStore smallStore = new CRDStore(new ReconciliationEventPublisher(), 2);
+            for (int i = 0; i < 3; i++) {
+                smallStore.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService("app-" + i));
+            }
+            ListPage<ApplicationService> first = smallStore.list(CRDKind.APPLICATION_SERVICE, NAMESPACE, 1, null);
+            for (int i = 3; i < 6; i++) {
+                smallStore.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService("app-" + i));
+            }
+
+            assertThatThrownBy(() -> smallStore.list(CRDKind.APPLICATION_SERVICE, NAMESPACE, 1, first.continueToken()))
+                    .isInstanceOf(ResourceVersionTooOldException.class);
+            assertThatThrownBy(() -> smallStore.list(CRDKind.APPLICATION_SERVICE, NAMESPACE, 0, null)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> smallStore.list(CRDKind.APPLICATION_SERVICE, NAMESPACE, 1, "not a token")).isInstanceOf(IllegalArgumentException.class);
+            assertThat(smallStore.list(CRDKind.APPLICATION_SERVICE, "empty", 10, null).items()).isEmpty();
+        }
+    }
+
+    // ==================== PERSISTENCE TESTS ====================
+
+    @Nested
+    @DisplayName("Persistence Tests")
+    class PersistenceTests {
+
+        @TempDir
+        Path directory;
+
+        private CRDStore open(StorePersistence persistence) {
+            return new CRDStore(new ReconciliationEventPublisher(), CRDStore.DEFAULT_CHANGE_LOG_CAPACITY, persistence);
+        }
+
+        private void createChain(CRDStore target) {
+            target.transaction()
+                    .create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE))
+                    .create(CRDKind.KAFKA_CLUSTER, NAMESPACE, buildKafkaCluster("prod-cluster", APP_SERVICE))
+                    .create(CRDKind.SERVICE_ACCOUNT, NAMESPACE, buildServiceAccount("orders-sa", "prod-cluster"))
+                    .commit();
+        }
+
+        @Test
+        @DisplayName("should recover creates, updates and deletes after a restart")
+        void testRecoverFromLog() {
+            long version;
+            try (StorePersistence persistence = StorePersistence.open(directory)) {
+                CRDStore durable = open(persistence);
+                createChain(durable);
+                durable.create(CRDKind.TOPIC, NAMESPACE, buildTopic("orders", "orders-sa"));
+                durable.create(CRDKind.TOPIC, NAMESPACE, buildTopic("payments", "orders-sa"));
+                Topic orders = durable.get(CRDKind.TOPIC, NAMESPACE, "orders");
+                orders.getSpec().setPartitions(12);
+                durable.update(CRDKind.TOPIC, NAMESPACE, "orders", orders);
+                durable.delete(CRDKind.TOPIC, NAMESPACE, "payments");
+                version = durable.getCurrentResourceVersion();
+            }
+
+            try (StorePersistence persistence = StorePersistence.open(directory)) {
+                CRDStore recovered = open(persistence);
+
+                Topic orders = recovered.get(CRDKind.TOPIC, NAMESPACE, "orders");
+                assertThat(orders.getSpec().getPartitions()).isEqualTo(12);
+                assertThat(orders.getMetadata().getResourceVersion()).isEqualTo(String.valueOf(version - 1));
+                assertThat(recovered.<Topic>get(CRDKind.TOPIC, NAMESPACE, "payments")).isNull();
+                assertThat(recovered.listOwnedBy(NAMESPACE, APP_SERVICE)).hasSize(4);
+                assertThat(recovered.dependentsOf(CRDKind.SERVICE_ACCOUNT, NAMESPACE, "orders-sa")).containsExactly(ResourceKey.of(CRDKind.TOPIC, NAMESPACE,
+                        "orders"));
+                assertThat(recovered.getCurrentResourceVersion()).isEqualTo(version);
+
+                recovered.create(CRDKind.TOPIC, NAMESPACE, buildTopic("refunds", "orders-sa"));
+                assertThat(recovered.getCurrentResourceVersion()).isEqualTo(version + 1);
+            }
+        }
+
+        @Test
+        @DisplayName("should recover from a snapshot plus the log written after it")
+        void testRecoverFromSnapshot() throws IOException {
+            try (StorePersistence persistence = StorePersistence.open(directory, 1 << 16, 4)) {
+                CRDStore durable = open(persistence);
+                createChain(durable);
+                for (int i = 0; i < 10; i++) {
+                    durable.create(CRDKind.TOPIC, NAMESPACE, buildTopic("topic-" + i, "orders-sa"));
+                }
+                durable.delete(CRDKind.TOPIC, NAMESPACE, "topic-0");
+            }
+            try (Stream<Path> files = Files.list(directory)) {
+                assertThat(files.map(file -> file.getFileName().toString())).filteredOn(name -> name.startsWith("snapshot-")).hasSize(1);
+            }
+
+            try (StorePersistence persistence = StorePersistence.open(directory)) {
+                CRDStore recovered = open(persistence);
+
+                assertThat(recovered.<Topic>list(CRDKind.TOPIC, NAMESPACE)).hasSize(9);
+                assertThat(recovered.<Topic>get(CRDKind.TOPIC, NAMESPACE, "topic-0")).isNull();
+                assertThat(recovered.getCurrentResourceVersion()).isEqualTo(14);
+            }
+        }
+
+        @Test
+        @DisplayName("should recover writes spread over many rolled segments")
+        void testRecoverAcrossSegments() throws IOException {
+            try (StorePersistence persistence = StorePersistence.open(directory, 512, 1000)) {
+                CRDStore durable = open(persistence);
+                for (int i = 0; i < 50; i++) {
+                    durable.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService("app-" + i));
+                }
+            }
+            try (Stream<Path> files = Files.list(directory)) {
+                assertThat(files.map(file -> file.getFileName().toString())).filteredOn(name -> name.startsWith("wal-")).hasSizeGreaterThan(5);
+            }
+
+            try (StorePersistence persistence = StorePersistence.open(directory, 512, 1000)) {
+                CRDStore recovered = open(persistence);
+
+                assertThat(recovered.<ApplicationService>list(CRDKind.APPLICATION_SERVICE, NAMESPACE)).hasSize(50);
+                assertThat(recovered.getCurrentResourceVersion()).isEqualTo(50);
+                recovered.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService("after-restart"));
+            }
+        }
+
+        @Test
+        @DisplayName("should stop replay at a torn record and keep the writes before it")
+        void testTornTail() throws IOException {
+            try (StorePersistence persistence = StorePersistence.open(directory, 1 << 16, 1000)) {
+                CRDStore durable = open(persistence);
+                durable.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService("first"));
+                durable.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService("second"));
+            }
+            Path segment;
+            try (Stream<Path> files = Files.list(directory)) {
+                segment = files.filter(file -> file.getFileName().toString().startsWith("wal-")).sorted().findFirst().orElseThrow();
+            }
+            byte[] bytes = Files.readAllBytes(segment);
+            int last = bytes.length - 1;
+            while (bytes[last] == 0) {
+                last--;
+            }
+            bytes[last] ^= 0x5A;
+            Files.write(segment, bytes);
+
+            try (StorePersistence persistence = StorePersistence.open(directory)) {
+                CRDStore recovered = open(persistence);
+
+                assertThat(recovered.<ApplicationService>list(CRDKind.APPLICATION_SERVICE, NAMESPACE)).extracting(a -> a.getMetadata().getName())
+                        .containsExactly("first");
+            }
+        }
+
+        @Test
+        @DisplayName("should forget persisted state on clear")
+        void testClear() {
+            try (StorePersistence persistence = StorePersistence.open(directory)) {
+                CRDStore durable = open(persistence);
+                createChain(durable);
+                durable.clear();
+                durable.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService("fresh"));
+            }
+
+            try (StorePersistence persistence = StorePersistence.open(directory)) {
+                CRDStore recovered = open(persistence);
+
+                assertThat(recovered.<ApplicationService>list(CRDKind.APPLICATION_SERVICE, NAMESPACE)).extracting(a -> a.getMetadata().getName())
+                        .containsExactly("fresh");
+                assertThat(recovered.getCurrentResourceVersion()).isEqualTo(1);
+            }
+        }
+    }
+
+    // ==================== OFF-HEAP STORAGE TESTS ====================
+
+    @Nested
+    @DisplayName("Off-Heap Storage Tests")
+    class OffHeapStorageTests {
+
+        private OffHeapResourceStorage offHeap;
+        private CRDStore offHeapStore;
+
+        @BeforeEach
+        void createOffHeapStore() {
+            offHeap = OffHeapResourceStorage.create(4096);
+            offHeapStore = new CRDStore(new ReconciliationEventPublisher(), CRDStore.DEFAULT_CHANGE_LOG_CAPACITY, null, offHeap);
+            offHeapStore.transaction()
+                    .create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE))
+                    .create(CRDKind.KAFKA_CLUSTER, NAMESPACE, buildKafkaCluster("prod-cluster", APP_SERVICE))
+                    .create(CRDKind.SERVICE_ACCOUNT, NAMESPACE, buildServiceAccount("orders-sa", "prod-cluster"))
+                    .commit();
+        }
+
+        @Test
+        @DisplayName("should decode a private copy on every read and only change it through update")
+        void testReadsDecodeCopies() {
+            Topic created = offHeapStore.create(CRDKind.TOPIC, NAMESPACE, buildTopic("orders", "orders-sa"));
+
+            Topic first = offHeapStore.get(CRDKind.TOPIC, NAMESPACE, "orders");
+            Topic second = offHeapStore.get(CRDKind.TOPIC, NAMESPACE, "orders");
+            assertThat(first).isNotSameAs(second).isNotSameAs(created);
+            assertThat(first.getMetadata().getResourceVersion()).isEqualTo(created.getMetadata().getResourceVersion());
+            assertThat(first.getMetadata().getUid()).isEqualTo(created.getMetadata().getUid());
+
+            first.getSpec().setPartitions(24);
+            assertThat(offHeapStore.<Topic>get(CRDKind.TOPIC, NAMESPACE, "orders").getSpec().getPartitions()).isEqualTo(6);
+            offHeapStore.update(CRDKind.TOPIC, NAMESPACE, "orders", first);
+            assertThat(offHeapStore.<Topic>get(CRDKind.TOPIC, NAMESPACE, "orders").getSpec().getPartitions()).isEqualTo(24);
+
+            assertThat(offHeapStore.listOwnedBy(NAMESPACE, APP_SERVICE)).hasSize(4);
+            assertThat(offHeapStore.deleteCascading(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE)).hasSize(4);
+            assertThat(offHeap.getLiveBytes()).isZero();
+        }
+
+        @Test
+        @DisplayName("should release sparse slabs once enough space is wasted")
+        void testCompaction() {
+            for (int i = 0; i < 50; i++) {
+                offHeapStore.create(CRDKind.TOPIC, NAMESPACE, buildTopic("topic-" + i, "orders-sa"));
+            }
+            for (int round = 0; round < 20; round++) {
+                for (int i = 0; i < 50; i += 2) {
+                    Topic topic = offHeapStore.get(CRDKind.TOPIC, NAMESPACE, "topic-" + i);
+                    topic.getSpec().setPartitions(round + 1);
+                    offHeapStore.update(CRDKind.TOPIC, NAMESPACE, "topic-" + i, topic);
+                }
+            }
+
+            assertThat(offHeap.getAllocatedBytes() - offHeap.getLiveBytes()).isLessThan(4L * 4096 + offHeap.getLiveBytes());
+            assertThat(offHeapStore.<Topic>list(CRDKind.TOPIC, NAMESPACE)).hasSize(50)
+                    .allSatisfy(topic -> assertThat(topic.getSpec().getName()).isEqualTo(topic.getMetadata().getName()));
+            assertThat(offHeapStore.<Topic>get(CRDKind.TOPIC, NAMESPACE, "topic-0").getSpec().getPartitions()).isEqualTo(20);
+        }
+    }
+
+    // ==================== UPSERT TESTS ====================
+
+    @Nested
+    @DisplayName("Upsert Tests")
+    class UpsertTests {
+
+        @Test
+        @DisplayName("should create and then replace without ownership validation")
+        void testUpsertCreatesAndReplaces() {
+            Topic topic = buildTopic("orders", "missing-sa");
+            topic.getMetadata().setResourceVersion("42");
+
+            store.upsert(CRDKind.TOPIC, NAMESPACE, topic);
+            topic.getSpec().setPartitions(6);
+            Topic replaced = store.upsert(CRDKind.TOPIC, NAMESPACE, topic);
+
+            assertThat(topic.getMetadata().getResourceVersion()).isEqualTo("42");
+            assertThat(replaced).isNotSameAs(topic);
+            assertThat(store.<Topic>get(CRDKind.TOPIC, NAMESPACE, "orders").getSpec().getPartitions()).isEqualTo(6);
+            assertThat(store.<Topic>list(CRDKind.TOPIC, NAMESPACE)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("should not publish reconciliation events")
+        void testUpsertPublishesNoEvents() {
+            List<ReconciliationEvent> events = new ArrayList<>();
+            store.getEventPublisher().addListener(events::add);
+
+            store.upsert(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE));
+            store.evict(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE);
+
+            assertThat(events).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should evict an upserted resource once")
+        void testEvict() {
+            store.upsert(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE));
+
+            assertThat(store.evict(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE)).isTrue();
+            assertThat(store.evict(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE)).isFalse();
+            assertThat((Object) store.get(CRDKind.APPLICATION_SERVICE, NAMESPACE, APP_SERVICE)).isNull();
+        }
+    }
+
+    // ==================== IDENTIFIER DEDUPLICATION TESTS ====================
+
+    @Nested
+    @DisplayName("Identifier Deduplication Tests")
+    class IdentifierDeduplicationTests {
+
+        @Test
+        @DisplayName("should share one instance of repeated identifiers across stored resources")
+        void testRepeatedIdentifiersShareInstances() {
+            store.transaction()
+                    .create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE))
+                    .create(CRDKind.KAFKA_CLUSTER, NAMESPACE, buildKafkaCluster("prod-cluster", APP_SERVICE))
+                    .create(CRDKind.SERVICE_ACCOUNT, NAMESPACE, buildServiceAccount("orders-sa", "prod-cluster"))
+                    .commit();
+            Topic orders = buildTopic("orders", new String("orders-sa"));
+            orders.getMetadata().setNamespace(new String(NAMESPACE));
+            orders.getSpec().setConfig(new HashMap<>(Map.of(new String("retention.ms"), new String("604800000"))));
+            Topic payments = buildTopic("payments", new String("orders-sa"));
+            payments.getMetadata().setNamespace(new String(NAMESPACE));
+            payments.getSpec().setConfig(new HashMap<>(Map.of(new String("retention.ms"), new String("604800000"))));
+
+            store.create(CRDKind.TOPIC, NAMESPACE, orders);
+            store.create(CRDKind.TOPIC, NAMESPACE, payments);
+
+            Topic storedOrders = store.get(CRDKind.TOPIC, NAMESPACE, "orders");
+            Topic storedPayments = store.get(CRDKind.TOPIC, NAMESPACE, "payments");
+            assertThat(storedPayments.getMetadata().getNamespace()).isSameAs(storedOrders.getMetadata().getNamespace());
+            assertThat(storedPayments.getSpec().getServiceRef()).isSameAs(storedOrders.getSpec().getServiceRef());
+            assertThat(storedPayments.getSpec().getConfig().get("retention.ms")).isSameAs(storedOrders.getSpec().getConfig().get("retention.ms"));
+            assertThat(storedPayments.getSpec().getConfig()).isSameAs(payments.getSpec().getConfig()).containsEntry("retention.ms", "604800000");
+        }
+    }
+
     // ==================== CLEAR OPERATION TESTS ====================
 
     @Nested
@@ -479,6 +1320,95 @@ class CRDStoreTest {
             assertThat(exceptions).isEmpty();
             assertThat(store.<ApplicationService>list(CRDKind.APPLICATION_SERVICE, NAMESPACE)).hasSize(threadCount);
         }
+
+        @Test
+        @DisplayName("should keep indexes consistent under concurrent create and delete")
+        void testConcurrentCreateDeleteKeepsIndexesConsistent() throws InterruptedException {
+            store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService(APP_SERVICE));
+            int threadCount = 8;
+            CountDownLatch latch = new CountDownLatch(threadCount);
+
+            for (int i = 0; i < threadCount; i++) {
+                final int index = i;
+                new Thread(() -> {
+                    try {
+                        for (int j = 0; j < 50; j++) {
+                            String name = "cluster-" + index + "-" + j;
+                            store.create(CRDKind.KAFKA_CLUSTER, NAMESPACE, buildKafkaCluster(name, APP_SERVICE));
+                            if (j % 2 == 0) {
+                                store.delete(CRDKind.KAFKA_CLUSTER, NAMESPACE, name);
+                            }
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                }).start();
+            }
+
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(store.<KafkaCluster>list(CRDKind.KAFKA_CLUSTER, NAMESPACE)).hasSize(threadCount * 25);
+            assertThat(store.<KafkaCluster>listOwnedBy(CRDKind.KAFKA_CLUSTER, NAMESPACE, APP_SERVICE)).hasSize(threadCount * 25);
+        }
+
+        @Test
+        @DisplayName("should deliver concurrent writes and transactions to a watch in resourceVersion order without gaps")
+        void testConcurrentWritesWatchedInOrder() throws InterruptedException {
+            int threadCount = 8;
+            int createsPerThread = 200;
+            int transactions = 20;
+            int perTransaction = 5;
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threadCount + 1);
+            List<Exception> exceptions = new ArrayList<>();
+
+            try (Watch watch = store.watch(CRDKind.APPLICATION_SERVICE, NAMESPACE, 0)) {
+                for (int i = 0; i < threadCount; i++) {
+                    final int index = i;
+                    new Thread(() -> {
+                        try {
+                            start.await();
+                            for (int j = 0; j < createsPerThread; j++) {
+                                store.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService("app-" + index + "-" + j));
+                            }
+                        } catch (Exception e) {
+                            synchronized (exceptions) {
+                                exceptions.add(e);
+                            }
+                        } finally {
+                            done.countDown();
+                        }
+                    }).start();
+                }
+                new Thread(() -> {
+                    try {
+                        start.await();
+                        for (int t = 0; t < transactions; t++) {
+                            CRDStore.Transaction transaction = store.transaction();
+                            for (int j = 0; j < perTransaction; j++) {
+                                transaction.create(CRDKind.APPLICATION_SERVICE, NAMESPACE, buildApplicationService("batch-" + t + "-" + j));
+                            }
+                            transaction.commit();
+                        }
+                    } catch (Exception e) {
+                        synchronized (exceptions) {
+                            exceptions.add(e);
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                }).start();
+
+                start.countDown();
+                assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+
+                int total = threadCount * createsPerThread + transactions * perTransaction;
+                assertThat(exceptions).isEmpty();
+                assertThat(store.getCurrentResourceVersion()).isEqualTo(total);
+                assertThat(watch.drain()).extracting(WatchEvent::resourceVersion)
+                        .containsExactlyElementsOf(LongStream.rangeClosed(1, total).boxed().toList());
+            }
+        }
     }
 
     // ==================== HELPER METHODS ====================
@@ -509,4 +1439,53 @@ class CRDStoreTest {
 
         return vCluster;
     }
+
+    private ApplicationService unserializableApplicationService(String name) {
+        ApplicationService template = buildApplicationService(name);
+        ApplicationService appService = new UnserializableApplicationService();
+        appService.setMetadata(template.getMetadata());
+        appService.setSpec(template.getSpec());
+        return appService;
+    }
+
+    /** Fails as soon as anything serializes it. */
+    @Group("messaging.example.com")
+    @Version("v1")
+    @Kind("ApplicationService")
+    static class UnserializableApplicationService extends ApplicationService {
+
+        public String getSerialized() {
+            throw new IllegalStateException("Resource was serialized");
+        }
+    }
+
+    private ServiceAccount buildServiceAccount(String name, String clusterRef) {
+        ServiceAccount serviceAccount = new ServiceAccount();
+        serviceAccount.setMetadata(new ObjectMeta());
+        serviceAccount.getMetadata().setName(name);
+        serviceAccount.getMetadata().setNamespace(NAMESPACE);
+
+        ServiceAccountSpec spec = new ServiceAccountSpec();
+        spec.setName(name);
+        spec.setClusterRef(clusterRef);
+        spec.setApplicationServiceRef(APP_SERVICE);
+        serviceAccount.setSpec(spec);
+
+        return serviceAccount;
+    }
+
+    private Topic buildTopic(String name, String serviceRef) {
+        Topic topic = new Topic();
+        topic.setMetadata(new ObjectMeta());
+        topic.getMetadata().setName(name);
+        topic.getMetadata().setNamespace(NAMESPACE);
+
+        TopicCRSpec spec = new TopicCRSpec();
+        spec.setName(name);
+        spec.setServiceRef(serviceRef);
+        spec.setApplicationServiceRef(APP_SERVICE);
+        topic.setSpec(spec);
+
+        return topic;
+    }
 }
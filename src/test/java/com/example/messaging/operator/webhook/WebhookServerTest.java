@@ -5,10 +5,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.example.messaging.operator.store.CRDStore;
 import com.example.messaging.operator.validation.OwnershipValidator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import okhttp3.*;
 import org.junit.jupiter.api.*;
 
 import static com.example.messaging.operator.webhook.HttpStatus.OK;
+import static com.example.messaging.operator.webhook.HttpStatus.SERVICE_UNAVAILABLE;
 
 @DisplayName("WebhookServer Integration Tests")
 class WebhookServerTest {
@@ -48,6 +57,94 @@ class WebhookServerTest {
         }
     }
 
+    @Test
+    @DisplayName("should report not ready until readiness check passes")
+    void testReadinessFollowsCheck() throws Exception {
+        server.stop();
+        AtomicBoolean synced = new AtomicBoolean(false);
+        WebhookValidator validator = new WebhookValidator(new OwnershipValidator(new CRDStore()));
+        server = new WebhookServer(validator, port, synced::get);
+        server.start();
+
+        Request request = new Request.Builder().url("http://localhost:" + port + "/ready").get().build();
+
+        try (Response response = httpClient.newCall(request).execute()) {
+            assertThat(response.code()).isEqualTo(SERVICE_UNAVAILABLE.getCode());
+        }
+
+        synced.set(true);
+
+        try (Response response = httpClient.newCall(request).execute()) {
+            assertThat(response.code()).isEqualTo(OK.getCode());
+            assertThat(response.body().string()).isEqualTo("READY");
+        }
+    }
+
+    @Test
+    @DisplayName("should handle admission requests concurrently on virtual threads")
+    void testConcurrentAdmissions() throws Exception {
+        server.stop();
+        int concurrentRequests = 8;
+        CountDownLatch allInFlight = new CountDownLatch(concurrentRequests);
+        WebhookValidator blockingValidator = new WebhookValidator(new OwnershipValidator(new CRDStore())) {
+            @Override
+            public <T> AdmissionResponse validate(AdmissionRequest request, Class<T> resourceClass) {
+                // Only completes if every request is being handled at the same time
+                allInFlight.countDown();
+                try {
+                    allInFlight.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.validate(request, resourceClass);
+            }
+        };
+        server = new WebhookServer(blockingValidator, port);
+        server.start();
+
+        String admissionReviewJson = """
+                {
+                  "apiVersion": "admission.k8s.io/v1",
+                  "kind": "AdmissionReview",
+                  "request": {
+                    "uid": "concurrent-uid",
+                    "operation": "CONNECT",
+                    "namespace": "default",
+                    "name": "test-topic"
+                  }
+                }
+                """;
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrentRequests);
+        try {
+            List<Future<Integer>> responses = new ArrayList<>();
+            for (int i = 0; i < concurrentRequests; i++) {
+                responses.add(clients.submit(() -> {
+                    RequestBody body = RequestBody.create(admissionReviewJson, MediaType.parse("application/json"));
+                    Request request = new Request.Builder().url("http://localhost:" + port + "/validate/topic").post(body).build();
+                    try (Response response = httpClient.newCall(request).execute()) {
+                        return response.code();
+                    }
+                }));
+            }
+
+            for (Future<Integer> response : responses) {
+                assertThat(response.get(10, TimeUnit.SECONDS)).isEqualTo(OK.getCode());
+            }
+            assertThat(allInFlight.getCount()).isZero();
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("should parse executor mode case-insensitively")
+    void testExecutorModeFromValue() {
+        assertThat(WebhookExecutorMode.fromValue("virtual")).isEqualTo(WebhookExecutorMode.VIRTUAL);
+        assertThat(WebhookExecutorMode.fromValue("FIXED")).isEqualTo(WebhookExecutorMode.FIXED);
+        assertThat(WebhookExecutorMode.DISPATCHER.createExecutor(4)).isNull();
+    }
+
     @Test
     @DisplayName("should validate Topic UPDATE and deny ownership change")
     void testValidateTopicUpdate() throws Exception {